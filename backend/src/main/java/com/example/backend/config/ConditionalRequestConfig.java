@@ -0,0 +1,23 @@
+package com.example.backend.config;
+
+import com.example.backend.service.student.RecordChangeMarkerService;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ConditionalRequestConfig implements WebMvcConfigurer {
+
+    private final RecordChangeMarkerService recordChangeMarkerService;
+
+    public ConditionalRequestConfig(RecordChangeMarkerService recordChangeMarkerService) {
+        this.recordChangeMarkerService = recordChangeMarkerService;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RecordETagInterceptor(recordChangeMarkerService))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.backend.config;
+
+import com.example.backend.model.student.VerificationStatus;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler returning records of one scope. {@link RecordETagInterceptor}
+ * answers it with 304 Not Modified, before the handler runs, when the client's
+ * ETag still matches the scope's change marker.
+ *
+ * The scope id is taken from the {@code facultyId} or {@code studentId} path variable.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RecordETag {
+
+    enum Scope {
+        ALL,
+        FACULTY,
+        STUDENT
+    }
+
+    Scope scope();
+
+    // Statuses the endpoint returns; empty means every status
+    VerificationStatus[] statuses() default {};
+}
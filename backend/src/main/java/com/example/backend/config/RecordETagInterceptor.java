@@ -0,0 +1,73 @@
+package com.example.backend.config;
+
+import com.example.backend.service.student.RecordChangeMarkerService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Conditional GET for handlers annotated with {@link RecordETag}. The weak ETag and
+ * Last-Modified come from {@link RecordChangeMarkerService}, so an unchanged listing
+ * costs one index read and no serialization. On a match the request ends here with
+ * 304; otherwise the headers are set and the handler runs as usual.
+ */
+public class RecordETagInterceptor implements HandlerInterceptor {
+
+    private final RecordChangeMarkerService markerService;
+
+    public RecordETagInterceptor(RecordChangeMarkerService markerService) {
+        this.markerService = markerService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        RecordETag annotation = ((HandlerMethod) handler).getMethodAnnotation(RecordETag.class);
+        if (annotation == null) {
+            return true;
+        }
+
+        RecordChangeMarkerService.Marker marker;
+        try {
+            marker = markerFor(annotation, request);
+        } catch (IllegalArgumentException e) {
+            // Missing or malformed id; let the handler produce its usual error
+            return true;
+        }
+
+        // Always revalidate: the marker, not a heuristic lifetime, decides freshness
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        return !webRequest.checkNotModified(marker.toETag(), marker.getLastModified());
+    }
+
+    private RecordChangeMarkerService.Marker markerFor(RecordETag annotation, HttpServletRequest request) {
+        switch (annotation.scope()) {
+            case FACULTY:
+                return markerService.forFaculty(pathId(request, "facultyId"), annotation.statuses());
+            case STUDENT:
+                return markerService.forStudent(pathId(request, "studentId"), annotation.statuses());
+            default:
+                return markerService.forAll(annotation.statuses());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long pathId(HttpServletRequest request, String name) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String value = variables == null ? null : variables.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing path variable " + name);
+        }
+        return Long.valueOf(value);
+    }
+}
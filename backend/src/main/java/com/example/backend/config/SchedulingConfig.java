@@ -0,0 +1,10 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (audit log flushing, orphan document collection, ...)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
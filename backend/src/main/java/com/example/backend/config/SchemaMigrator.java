@@ -0,0 +1,137 @@
+package com.example.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Applies the versioned scripts in {@code classpath:db/migration} in order.
+ *
+ * Scripts are named {@code V<version>__<description>.sql}. Every applied version is
+ * recorded in {@code schema_version} with a checksum; an applied script that was
+ * edited afterwards stops startup instead of silently diverging from the database.
+ */
+public class SchemaMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    static final String LOCATION = "classpath*:db/migration/V*__*.sql";
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+
+    private static final String CREATE_VERSION_TABLE =
+            "CREATE TABLE IF NOT EXISTS schema_version ("
+            + "version INT NOT NULL PRIMARY KEY, "
+            + "description VARCHAR(200) NOT NULL, "
+            + "checksum BIGINT NOT NULL, "
+            + "installed_on DATETIME(6) NOT NULL)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaMigrator(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // Returns the number of scripts applied by this call
+    public int migrate() {
+        jdbcTemplate.execute(CREATE_VERSION_TABLE);
+
+        Map<Integer, Long> applied = new HashMap<>();
+        jdbcTemplate.query("SELECT version, checksum FROM schema_version",
+                rs -> { applied.put(rs.getInt("version"), rs.getLong("checksum")); });
+
+        int count = 0;
+        for (Migration migration : findMigrations()) {
+            Long checksum = applied.get(migration.version);
+            if (checksum != null) {
+                if (checksum != migration.checksum) {
+                    throw new IllegalStateException("Migration V" + migration.version
+                            + " was modified after it was applied: " + migration.resource.getFilename());
+                }
+                continue;
+            }
+            apply(migration);
+            count++;
+        }
+        if (count > 0) {
+            logger.info("Applied {} schema migration(s)", count);
+        }
+        return count;
+    }
+
+    private void apply(Migration migration) {
+        logger.info("Applying schema migration V{} ({})", migration.version, migration.description);
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            ScriptUtils.executeSqlScript(connection, migration.resource);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        jdbcTemplate.update(
+                "INSERT INTO schema_version (version, description, checksum, installed_on) VALUES (?, ?, ?, ?)",
+                migration.version, migration.description, migration.checksum, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    List<Migration> findMigrations() {
+        List<Migration> migrations = new ArrayList<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                // Ignore line endings so a Windows checkout does not look like an edited script
+                String script = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+                CRC32 crc = new CRC32();
+                crc.update(script.replace("\r", "").getBytes(StandardCharsets.UTF_8));
+                migrations.add(new Migration(Integer.parseInt(matcher.group(1)),
+                        matcher.group(2).replace('_', ' '), crc.getValue(), resource));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read migration scripts", e);
+        }
+        migrations.sort(Comparator.comparingInt(m -> m.version));
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).version == migrations.get(i - 1).version) {
+                throw new IllegalStateException("Duplicate migration version V" + migrations.get(i).version);
+            }
+        }
+        return migrations;
+    }
+
+    static class Migration {
+        final int version;
+        final String description;
+        final long checksum;
+        final Resource resource;
+
+        Migration(int version, String description, long checksum, Resource resource) {
+            this.version = version;
+            this.description = description;
+            this.checksum = checksum;
+            this.resource = resource;
+        }
+    }
+}
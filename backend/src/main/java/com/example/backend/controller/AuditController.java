@@ -0,0 +1,36 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.AuditLogDTO;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.service.AuditService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/audit")
+@CrossOrigin(origins = "http://localhost:5173")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    public AuditController(AuditService auditService) {
+        this.auditService = auditService;
+    }
+
+    // Newest first, filterable by entity, actor and action; pass nextCursor to get the next page
+    @GetMapping
+    public ResponseEntity<CursorPage<AuditLogDTO>> getAuditLog(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(auditService.search(entityType, entityId, actor, action, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.DashboardCountsDTO;
+import com.example.backend.service.DashboardService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    // Counts by status and record type; scoped to a faculty or student when given, else institution-wide
+    @GetMapping("/counts")
+    public ResponseEntity<DashboardCountsDTO> getCounts(
+            @RequestParam(required = false) Long facultyId,
+            @RequestParam(required = false) Long studentId) {
+        if (facultyId != null) {
+            return ResponseEntity.ok(dashboardService.getFacultyCounts(facultyId));
+        }
+        if (studentId != null) {
+            return ResponseEntity.ok(dashboardService.getStudentCounts(studentId));
+        }
+        return ResponseEntity.ok(dashboardService.getInstitutionCounts());
+    }
+}
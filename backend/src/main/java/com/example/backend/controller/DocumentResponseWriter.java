@@ -0,0 +1,127 @@
+package com.example.backend.controller;
+
+import com.example.backend.service.DocumentStorageService.StoredDocument;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes a stored document to the response with conditional and single-range support.
+ *
+ * On Tomcat with sendfile enabled the file region is handed to the connector, so the
+ * bytes are not copied through the JVM. Elsewhere the region is copied with
+ * {@link FileChannel#transferTo} into the servlet output stream, which goes through a
+ * small temporary buffer, so the document is streamed in bounded chunks and never
+ * held in memory whole. Multi-range requests get the whole document, which RFC 9110
+ * allows.
+ */
+public final class DocumentResponseWriter {
+
+    // Tomcat's sendfile request attributes (see org.apache.catalina.Globals)
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = "private, max-age=31536000, immutable";
+    private static final String REVALIDATE = "private, no-cache";
+
+    private DocumentResponseWriter() {
+    }
+
+    public static void write(StoredDocument document, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        write(document, request, response, false);
+    }
+
+    // inline for content shown in the page (previews), attachment for downloads
+    public static void write(StoredDocument document, HttpServletRequest request, HttpServletResponse response,
+                             boolean inline) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, document.isImmutable() ? IMMUTABLE : REVALIDATE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // Sets ETag and Last-Modified, and 304 when the client's copy is current
+        if (new ServletWebRequest(request, response).checkNotModified(document.getETag(), document.getLastModified())) {
+            return;
+        }
+
+        long length = document.getSize();
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && length > 0 && ifRangeMatches(request, document)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of(); // malformed: ignore the header
+            }
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                partial = true;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setStatus(partial ? HttpServletResponse.SC_PARTIAL_CONTENT : HttpServletResponse.SC_OK);
+        if (partial) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentType(document.getMediaType().toString());
+        // Stored names are hashes or UUIDs, so plain ASCII
+        ContentDisposition.Builder disposition = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                disposition.filename(document.getFilename()).build().toString());
+        response.setContentLengthLong(count);
+        if (count == 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, document.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1); // exclusive
+            return;
+        }
+        // Not zero-copy: the output stream's channel is neither a FileChannel nor selectable
+        try (FileChannel channel = FileChannel.open(document.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break; // file shrank underneath us
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // A Range is only honoured if If-Range is absent or names the current strong ETag
+    private static boolean ifRangeMatches(HttpServletRequest request, StoredDocument document) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        return !document.getETag().startsWith("W/") && ifRange.trim().equals(document.getETag());
+    }
+}
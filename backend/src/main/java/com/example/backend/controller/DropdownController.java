@@ -6,8 +6,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.backend.dto.DropdownDTO;
+import com.example.backend.dto.DropdownFormDTO;
 import com.example.backend.model.DropdownModel;
 import com.example.backend.service.DropdownService;
 
@@ -55,4 +57,20 @@ public ResponseEntity<?> getDropdownOptions(
                 .body("Error fetching dropdown options: " + e.getMessage());
     }
 }
+
+// All dropdowns of a form in one response. Send the ETag back in If-None-Match to get 304 while nothing changed
+@GetMapping("/fetch-form")
+public ResponseEntity<?> getDropdownForm(@RequestParam String category, WebRequest request) {
+    try {
+        DropdownFormDTO form = dropdownService.getDropdownForm(category);
+        String etag = "\"" + form.getVersion() + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(form);
+    } catch (RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Error fetching dropdown form: " + e.getMessage());
+    }
+}
 }
@@ -1,5 +1,8 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSummaryDTO;
 import com.example.backend.model.student.Main;
 import com.example.backend.service.student.MainService;
 
@@ -26,6 +29,35 @@ public class FlaggedRecordsController {
         return ResponseEntity.ok(flaggedRecords);
     }
 
+    // Paginated variant of the flagged list
+    @GetMapping("/records")
+    public ResponseEntity<CursorPage<Main>> listFlaggedRecords(
+            RecordFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        filter.setFlagged(true);
+        try {
+            return ResponseEntity.ok(mainService.listRecords(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor or unknown record type
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Summaries of flagged records for the admin review list
+    @GetMapping("/record-summaries")
+    public ResponseEntity<CursorPage<RecordSummaryDTO>> listFlaggedRecordSummaries(
+            RecordFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        filter.setFlagged(true);
+        try {
+            return ResponseEntity.ok(mainService.listRecordSummaries(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}/flag")
     public ResponseEntity<String> flagRecord(@PathVariable Long id) {
         try {
@@ -0,0 +1,31 @@
+package com.example.backend.controller;
+
+import com.example.backend.service.RecordStreamService;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Server-Sent Events for record changes, so dashboards don't have to poll their lists
+@RestController
+@CrossOrigin(origins = "http://localhost:5173")
+public class RecordStreamController {
+
+    private final RecordStreamService recordStreamService;
+
+    public RecordStreamController(RecordStreamService recordStreamService) {
+        this.recordStreamService = recordStreamService;
+    }
+
+    // Created, verified, resubmitted, flagged and deleted records assigned to the faculty
+    @GetMapping(path = "/api/faculty/{facultyId}/pending-records/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFacultyRecords(@PathVariable Long facultyId) {
+        return recordStreamService.subscribeFaculty(facultyId);
+    }
+
+    // Records entering or leaving the admin's flagged list
+    @GetMapping(path = "/api/flagged/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFlaggedRecords() {
+        return recordStreamService.subscribeFlagged();
+    }
+}
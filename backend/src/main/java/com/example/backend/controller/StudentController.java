@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.backend.dto.StudentProfileDTO;
 import com.example.backend.model.Student;
 import com.example.backend.service.StudentService;
 
@@ -28,4 +29,12 @@ public class StudentController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    // 2. Student plus all activities grouped by type and status (student dashboard)
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<StudentProfileDTO> getStudentProfile(@PathVariable Long id) {
+        return studentService.getStudentProfile(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.StudentImportJobDTO;
+import com.example.backend.service.StudentImportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/admin/imports")
+@CrossOrigin(origins = "http://localhost:5173")
+public class StudentImportController {
+
+    private final StudentImportService studentImportService;
+
+    public StudentImportController(StudentImportService studentImportService) {
+        this.studentImportService = studentImportService;
+    }
+
+    // Returns 202 with the queued job right away; poll its Location for progress
+    @PostMapping(value = "/students", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StudentImportJobDTO> importStudents(@RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            StudentImportJobDTO job = studentImportService.submit(file);
+            return ResponseEntity.accepted().location(URI.create("/api/admin/imports/" + job.getId())).body(job);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "60").build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<StudentImportJobDTO> getJob(@PathVariable long jobId) {
+        return studentImportService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // CSV of the rows that were not imported: row, email, error
+    @GetMapping("/{jobId}/errors")
+    public void downloadErrors(@PathVariable long jobId, HttpServletResponse response) throws IOException {
+        if (studentImportService.getJob(jobId).isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"student-import-" + jobId + "-errors.csv\"");
+        studentImportService.writeErrorReport(jobId, response.getWriter());
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.backend.controller.faculty;
 
+import com.example.backend.dto.FacultyPublicationSearchResultDTO;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.faculty.FacultyPublication;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
 import com.example.backend.service.faculty.FacultyPublicationService;
+import com.example.backend.service.student.MainService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,9 +19,11 @@ import java.util.Map;
 public class FacultyPublicationController {
 
     private final FacultyPublicationService facultyPublicationService;
+    private final MainService mainService;
 
-    public FacultyPublicationController(FacultyPublicationService facultyPublicationService) {
+    public FacultyPublicationController(FacultyPublicationService facultyPublicationService, MainService mainService) {
         this.facultyPublicationService = facultyPublicationService;
+        this.mainService = mainService;
     }
 
     @GetMapping
@@ -31,17 +36,33 @@ public class FacultyPublicationController {
         return ResponseEntity.ok(facultyPublicationService.getPublicationsByFacultyId(facultyId));
     }
 
+    // All given criteria must match; q is matched against title, author and keywords
     @GetMapping("/search")
     public ResponseEntity<List<FacultyPublication>> searchPublications(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String author,
-            @RequestParam(required = false) String keywords) {
-        
-        String query = title != null ? title : 
-                      author != null ? author : 
-                      keywords != null ? keywords : "";
-        
-        return ResponseEntity.ok(facultyPublicationService.searchPublications(query));
+            @RequestParam(required = false) String keywords,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) String publicationType,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(facultyPublicationService
+                .searchPublications(q, title, author, keywords, year, publicationType, size)
+                .getResults());
+    }
+
+    // Same search with the total and year/type facet counts, for the filter sidebar
+    @GetMapping("/search/faceted")
+    public ResponseEntity<FacultyPublicationSearchResultDTO> searchPublicationsFaceted(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String keywords,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) String publicationType,
+            @RequestParam(required = false, defaultValue = "20") Integer size) {
+        return ResponseEntity.ok(facultyPublicationService
+                .searchPublications(q, title, author, keywords, year, publicationType, size));
     }
 
      @PostMapping(value = "/submit", consumes = {"multipart/form-data"})
@@ -74,24 +95,21 @@ public class FacultyPublicationController {
             publication.setAbstractContent(abstractContent);
             publication.setDescription(description);
             
-            // Set document path if file exists
-            if (documentPath != null && !documentPath.isEmpty()) {
-                String filePath = "path/to/save/" + documentPath.getOriginalFilename();
-                // Save file logic here
-                publication.setDocumentPath(filePath);
-            }
-            
             // Set faculty (you'll need to fetch the faculty entity)
             Faculty faculty = new Faculty();
             faculty.setId(facultyId);
             publication.setFaculty(faculty);
             
-            FacultyPublication savedPublication = facultyPublicationService.savePublication(publication);
+            // Stage the document, if any, before the save opens its transaction
+            try (StagedDocument document = documentPath != null && !documentPath.isEmpty()
+                    ? mainService.stageFile(documentPath) : null) {
+                FacultyPublication savedPublication = facultyPublicationService.submitPublication(publication, document);
             
-            response.put("success", true);
-            response.put("message", "Publication submitted successfully");
-            response.put("publicationId", savedPublication.getId());
-            return ResponseEntity.ok(response);
+                response.put("success", true);
+                response.put("message", "Publication submitted successfully");
+                response.put("publicationId", savedPublication.getId());
+                return ResponseEntity.ok(response);
+            }
             
         } catch (Exception e) {
             response.put("success", false);
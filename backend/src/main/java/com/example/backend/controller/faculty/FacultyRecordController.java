@@ -1,5 +1,13 @@
 package com.example.backend.controller.faculty;
 
+import com.example.backend.config.RecordETag;
+import com.example.backend.model.student.VerificationStatus;
+import com.example.backend.dto.BulkVerificationRequest;
+import com.example.backend.dto.BulkVerificationResult;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSummaryDTO;
+import com.example.backend.exception.InvalidStatusTransitionException;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.Student;
@@ -52,6 +60,7 @@ public class FacultyRecordController {
     }
 
      // Get pending records for verification
+    @RecordETag(scope = RecordETag.Scope.FACULTY, statuses = VerificationStatus.PENDING)
     @GetMapping("/{facultyId}/pending-records")
     public ResponseEntity<List<Main>> getPendingRecords(@PathVariable Long facultyId) {
         List<Main> pendingRecords = mainService.getPendingRecords(facultyId);
@@ -66,7 +75,12 @@ public class FacultyRecordController {
             @RequestBody(required = false) Map<String, String> requestBody) {
 
         String comment = requestBody != null ? requestBody.get("comment") : null;
-        boolean success = mainService.approveRecord(id, facultyId, comment);
+        boolean success;
+        try {
+            success = mainService.approveRecord(id, facultyId, comment);
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
 
         if (!success) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -89,7 +103,12 @@ public class FacultyRecordController {
                        .body("Rejection comment is required.");
             }
     
-            boolean success = mainService.rejectRecord(id, facultyId, comment);
+            boolean success;
+            try {
+                success = mainService.rejectRecord(id, facultyId, comment);
+            } catch (InvalidStatusTransitionException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+            }
             
             if (!success) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -99,12 +118,57 @@ public class FacultyRecordController {
             return ResponseEntity.ok("Record rejected successfully.");
         }
 
+        // Approve or reject several records at once; the body reports the outcome per record
+    @PutMapping("/{facultyId}/records/verify")
+    public ResponseEntity<?> bulkVerify(
+            @PathVariable Long facultyId,
+            @RequestBody BulkVerificationRequest request) {
+        try {
+            BulkVerificationResult result = mainService.bulkUpdateVerificationStatus(facultyId, request);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
         // Get rejected records
+    @RecordETag(scope = RecordETag.Scope.FACULTY, statuses = VerificationStatus.REJECTED)
     @GetMapping("/{facultyId}/rejected-records")
     public ResponseEntity<List<Main>> getRejectedRecords(@PathVariable Long facultyId) {
         List<Main> rejectedRecords = mainService.getRejectedRecords(facultyId);
         return ResponseEntity.ok(rejectedRecords);
     }
+
+    // Paginated records of this faculty, filterable like /api/main/records
+    @GetMapping("/{facultyId}/records")
+    public ResponseEntity<CursorPage<Main>> listRecords(
+            @PathVariable Long facultyId,
+            RecordFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        filter.setFacultyId(facultyId);
+        try {
+            return ResponseEntity.ok(mainService.listRecords(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor or unknown record type
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Summaries for the faculty verification list
+    @GetMapping("/{facultyId}/record-summaries")
+    public ResponseEntity<CursorPage<RecordSummaryDTO>> listRecordSummaries(
+            @PathVariable Long facultyId,
+            RecordFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        filter.setFacultyId(facultyId);
+        try {
+            return ResponseEntity.ok(mainService.listRecordSummaries(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
     
 
 }
@@ -1,9 +1,12 @@
 package com.example.backend.controller.student;
 
+import com.example.backend.config.RecordETag;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.ClubsAndSocieties;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.ClubsAndSocietiesService;
 import com.example.backend.service.student.MainService;
 
@@ -14,7 +17,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -28,14 +30,14 @@ public class ClubsAndSocietiesController {
     private final Logger logger = LoggerFactory.getLogger(ClubsAndSocietiesController.class);
 
     private final ClubsAndSocietiesService clubsAndSocietiesService;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final MainService mainService;
 
     public ClubsAndSocietiesController(ClubsAndSocietiesService clubsAndSocietiesService, 
-                                      UserRepository userRepository, 
+                                      UserCache userCache, 
                                       MainService mainService) {
         this.clubsAndSocietiesService = clubsAndSocietiesService;
-        this.userRepository = userRepository;
+        this.userCache = userCache;
         this.mainService = mainService;
     }
 
@@ -51,7 +53,7 @@ public class ClubsAndSocietiesController {
             @RequestParam(value = "documentPath") MultipartFile documentPath) {
 
         try {
-            Student student = userRepository.findById(studentId)
+            Student student = userCache.findById(studentId)
                     .filter(user -> user instanceof Student)
                     .map(user -> (Student) user)
                     .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
@@ -61,31 +63,27 @@ public class ClubsAndSocietiesController {
                 throw new IllegalStateException("Student has no faculty assigned");
             }
 
-            String documentLink = mainService.saveFile(documentPath);
-            if (documentLink == null) {
-                throw new IOException("Failed to save document");
+            try (StagedDocument document = mainService.stageFile(documentPath)) {
+                ClubsAndSocieties clubsAndSocieties = new ClubsAndSocieties();
+                clubsAndSocieties.setTitle(title);
+                clubsAndSocieties.setDescription(description);
+                clubsAndSocieties.setStudent(student);
+                clubsAndSocieties.setFaculty(faculty);
+                clubsAndSocieties.setPosition(position);
+                clubsAndSocieties.setStartDate(startDate);
+                clubsAndSocieties.setEndDate(endDate);
+                clubsAndSocieties.setClubCategory(clubCategory);
+                clubsAndSocieties.setFlag(false); // Default verification status
+
+                ClubsAndSocieties savedEntry = mainService.submitRecord(clubsAndSocieties, document);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Clubs and Societies entry submitted successfully");
+                response.put("id", savedEntry.getId());
+                return ResponseEntity.ok(response);
             }
 
-            ClubsAndSocieties clubsAndSocieties = new ClubsAndSocieties();
-            clubsAndSocieties.setTitle(title);
-            clubsAndSocieties.setDescription(description);
-            clubsAndSocieties.setStudent(student);
-            clubsAndSocieties.setFaculty(faculty);
-            clubsAndSocieties.setPosition(position);
-            clubsAndSocieties.setStartDate(startDate);
-            clubsAndSocieties.setEndDate(endDate);
-            clubsAndSocieties.setClubCategory(clubCategory);
-            clubsAndSocieties.setDocumentPath(documentLink);
-            clubsAndSocieties.setFlag(false); // Default verification status
-
-            ClubsAndSocieties savedEntry = clubsAndSocietiesService.saveClubsAndSocieties(clubsAndSocieties);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Clubs and Societies entry submitted successfully");
-            response.put("id", savedEntry.getId());
-            return ResponseEntity.ok(response);
-
         } catch (Exception e) {
             logger.error("Error submitting clubs and societies entry", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -101,15 +99,17 @@ public class ClubsAndSocietiesController {
         return ResponseEntity.ok(entries);
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT)
     @GetMapping("/student/{studentId}")
     public ResponseEntity<List<ClubsAndSocieties>> getByStudentId(@PathVariable Long studentId) {
         List<ClubsAndSocieties> entries = clubsAndSocietiesService.getByStudentId(studentId);
         return ResponseEntity.ok(entries);
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = { VerificationStatus.PENDING, VerificationStatus.APPROVED })
     @GetMapping("/student/object/{studentId}")
     public ResponseEntity<List<ClubsAndSocieties>> getPendingAndApprovedEventsByStudent(@PathVariable Long studentId) {
-        Student student = userRepository.findById(studentId)
+        Student student = userCache.findById(studentId)
             .filter(user -> user instanceof Student)
             .map(user -> (Student) user)
             .orElseThrow(() -> new IllegalArgumentException("Student not found"));
@@ -1,9 +1,12 @@
 package com.example.backend.controller.student;
 
+import com.example.backend.config.RecordETag;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.CulturalEvent;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.CulturalEventService;
 import com.example.backend.service.student.MainService;
 
@@ -15,7 +18,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -29,14 +31,14 @@ public class CulturalEventController {
     private final Logger logger = LoggerFactory.getLogger(CulturalEventController.class);
 
     private final CulturalEventService culturalEventService;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final MainService mainService;
 
     public CulturalEventController(CulturalEventService culturalEventService,
-                                  UserRepository userRepository,
+                                  UserCache userCache,
                                   MainService mainService) {
         this.culturalEventService = culturalEventService;
-        this.userRepository = userRepository;
+        this.userCache = userCache;
         this.mainService = mainService;
     }
 
@@ -52,7 +54,7 @@ public class CulturalEventController {
             @RequestParam(value = "documentPath") MultipartFile documentPath) {
 
         try {
-            Student student = userRepository.findById(studentId)
+            Student student = userCache.findById(studentId)
                     .filter(user -> user instanceof Student)
                     .map(user -> (Student) user)
                     .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
@@ -62,31 +64,27 @@ public class CulturalEventController {
                 throw new IllegalStateException("Student has no faculty assigned");
             }
 
-            String documentLink = mainService.saveFile(documentPath);
-            if (documentLink == null) {
-                throw new IOException("Failed to save document");
+            try (StagedDocument document = mainService.stageFile(documentPath)) {
+                CulturalEvent culturalEvent = new CulturalEvent();
+                culturalEvent.setTitle(title);
+                culturalEvent.setDescription(description);
+                culturalEvent.setStudent(student);
+                culturalEvent.setFaculty(faculty);
+                culturalEvent.setEventDate(eventDate);
+                culturalEvent.setHost(host);
+                culturalEvent.setCategory(category);
+                culturalEvent.setAchievement(achievement);
+                culturalEvent.setFlag(false); // Default verification status
+
+                CulturalEvent savedEvent = mainService.submitRecord(culturalEvent, document);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Cultural Event submitted successfully");
+                response.put("id", savedEvent.getId());
+                return ResponseEntity.ok(response);
             }
 
-            CulturalEvent culturalEvent = new CulturalEvent();
-            culturalEvent.setTitle(title);
-            culturalEvent.setDescription(description);
-            culturalEvent.setStudent(student);
-            culturalEvent.setFaculty(faculty);
-            culturalEvent.setEventDate(eventDate);
-            culturalEvent.setHost(host);
-            culturalEvent.setCategory(category);
-            culturalEvent.setAchievement(achievement);
-            culturalEvent.setDocumentPath(documentLink);
-            culturalEvent.setFlag(false); // Default verification status
-
-            CulturalEvent savedEvent = culturalEventService.saveCulturalEvent(culturalEvent);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Cultural Event submitted successfully");
-            response.put("id", savedEvent.getId());
-            return ResponseEntity.ok(response);
-
         } catch (Exception e) {
             logger.error("Error submitting cultural event", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -102,15 +100,17 @@ public class CulturalEventController {
         return ResponseEntity.ok(events);
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT)
     @GetMapping("/student/{studentId}")
     public ResponseEntity<List<CulturalEvent>> getByStudentId(@PathVariable Long studentId) {
         List<CulturalEvent> events = culturalEventService.getByStudentId(studentId);
         return ResponseEntity.ok(events);
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = { VerificationStatus.PENDING, VerificationStatus.APPROVED })
     @GetMapping("/student/object/{studentId}")
     public ResponseEntity<List<CulturalEvent>> getPendingAndApprovedEventsByStudent(@PathVariable Long studentId) {
-        Student student = userRepository.findById(studentId)
+        Student student = userCache.findById(studentId)
             .filter(user -> user instanceof Student)
             .map(user -> (Student) user)
             .orElseThrow(() -> new IllegalArgumentException("Student not found"));
@@ -1,10 +1,13 @@
 package com.example.backend.controller.student;
 
+import com.example.backend.config.RecordETag;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.model.student.JobOpportunity;
 import com.example.backend.model.student.JobOpportunity.JobType;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.JobOpportunityService;
 import com.example.backend.service.student.MainService;
 
@@ -15,11 +18,9 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -36,13 +37,12 @@ public class JobOpportunityController {
     private JobOpportunityService jobOpportunityService;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserCache userCache;
 
     @Autowired
     private MainService mainService;
 
     @PostMapping(value = "/submit", consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
-    @Transactional
     public ResponseEntity<Map<String, Object>> submitJobOpportunity(
         @RequestParam("studentId") Long studentId,
         @RequestParam("title") String title,
@@ -63,7 +63,7 @@ public class JobOpportunityController {
             }
 
             // 1. Get and validate student
-            Student student = userRepository.findById(studentId)
+            Student student = userCache.findById(studentId)
                 .filter(user -> user instanceof Student)
                 .map(user -> (Student) user)
                 .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
@@ -74,46 +74,42 @@ public class JobOpportunityController {
                 throw new IllegalStateException("Student with ID " + studentId + " has no faculty assigned");
             }
 
-            // 3. Handle file upload (now mandatory)
-            String documentLink = mainService.saveFile(documentPath);
-            if (documentLink == null) {
-                throw new IOException("Failed to save document");
+            // 3. Stage the upload; it is moved into place only if the record is saved
+            try (StagedDocument document = mainService.stageFile(documentPath)) {
+                // 4. Create and populate JobOpportunity based on type
+                JobOpportunity opportunity = new JobOpportunity();
+                opportunity.setTitle(title);
+                opportunity.setDescription(description);
+                opportunity.setStudent(student);
+                opportunity.setFaculty(faculty);
+                opportunity.setCompanyName(companyName);
+                opportunity.setStartDate(startDate);
+                opportunity.setRole(role);
+                opportunity.setType(type);
+                opportunity.setVerificationStatus(VerificationStatus.PENDING);
+
+                // Set type-specific fields
+                if (type == JobType.INTERNSHIP) {
+                    opportunity.setDuration(duration);
+                    opportunity.setStipend(stipend);
+                } else if (type == JobType.PLACEMENT) {
+                    opportunity.setCtc(ctc);
+                }
+
+                // 5. Save and verify
+                JobOpportunity savedOpportunity = mainService.submitRecord(opportunity, document);
+
+                // 6. Return success response
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Job Opportunity submitted successfully");
+                response.put("opportunityId", savedOpportunity.getId());
+                response.put("documentPath", savedOpportunity.getDocumentPath());
+
+                logger.info("JobOpportunity created - ID: {}, Student: {}", savedOpportunity.getId(), studentId);
+                return ResponseEntity.ok(response);
             }
 
-            // 4. Create and populate JobOpportunity based on type
-            JobOpportunity opportunity = new JobOpportunity();
-            opportunity.setTitle(title);
-            opportunity.setDescription(description);
-            opportunity.setStudent(student);
-            opportunity.setFaculty(faculty);
-            opportunity.setCompanyName(companyName);
-            opportunity.setStartDate(startDate);
-            opportunity.setRole(role);
-            opportunity.setType(type);
-            opportunity.setDocumentPath(documentLink);
-            opportunity.setVerificationStatus("Pending");
-
-            // Set type-specific fields
-            if (type == JobType.INTERNSHIP) {
-                opportunity.setDuration(duration);
-                opportunity.setStipend(stipend);
-            } else if (type == JobType.PLACEMENT) {
-                opportunity.setCtc(ctc);
-            }
-
-            // 5. Save and verify
-            JobOpportunity savedOpportunity = jobOpportunityService.saveJobOpportunity(opportunity);
-
-            // 6. Return success response
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Job Opportunity submitted successfully");
-            response.put("opportunityId", savedOpportunity.getId());
-            response.put("documentPath", savedOpportunity.getDocumentPath());
-
-            logger.info("JobOpportunity created - ID: {}, Student: {}", savedOpportunity.getId(), studentId);
-            return ResponseEntity.ok(response);
-
         } catch (Exception e) {
             logger.error("Error submitting job opportunity", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -123,17 +119,19 @@ public class JobOpportunityController {
         }
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT)
     @GetMapping("/student/{studentId}")
     public ResponseEntity<List<JobOpportunity>> getOpportunitiesByStudentId(@PathVariable Long studentId) {
         List<JobOpportunity> opportunities = jobOpportunityService.getOpportunitiesByStudentId(studentId);
         return new ResponseEntity<>(opportunities, HttpStatus.OK);
     }
     
+    @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = { VerificationStatus.PENDING, VerificationStatus.APPROVED })
     @GetMapping("/student/object/{studentId}")
     public ResponseEntity<List<JobOpportunity>> getPendingAndApprovedOpportunitiesByStudent(
         @PathVariable Long studentId) {
         
-        Student student = userRepository.findById(studentId)
+        Student student = userCache.findById(studentId)
             .filter(user -> user instanceof Student)
             .map(user -> (Student) user)
             .orElseThrow(() -> new IllegalArgumentException("Student not found"));
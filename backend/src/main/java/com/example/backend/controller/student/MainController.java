@@ -1,14 +1,27 @@
 package com.example.backend.controller.student;
 
+import com.example.backend.config.RecordETag;
+import com.example.backend.controller.DocumentResponseWriter;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSearchHitDTO;
+import com.example.backend.dto.RecordSummaryDTO;
+import com.example.backend.exception.InvalidStatusTransitionException;
+import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.student.Main;
+import com.example.backend.model.student.VerificationStatus;
+import com.example.backend.service.DocumentPreviewService;
+import com.example.backend.service.DocumentStorageService;
+import com.example.backend.service.RecordSearchService;
 import com.example.backend.service.student.MainService;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.nio.file.NoSuchFileException;
 import java.util.List;
+import java.util.Map;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 // import org.springframework.beans.factory.annotation.Autowired;
@@ -21,9 +34,58 @@ import org.springframework.web.multipart.MultipartFile;
 public class MainController {
 
     private final MainService mainService;
+    private final RecordSearchService recordSearchService;
+    private final DocumentPreviewService documentPreviewService;
 
-    public MainController(MainService mainService) {
+    public MainController(MainService mainService, RecordSearchService recordSearchService,
+                          DocumentPreviewService documentPreviewService) {
         this.mainService = mainService;
+        this.recordSearchService = recordSearchService;
+        this.documentPreviewService = documentPreviewService;
+    }
+
+    // Keyset-paginated listing with optional filters (status, type, facultyId, studentId, department, from, to)
+    @GetMapping("/records")
+    public ResponseEntity<CursorPage<Main>> listRecords(
+            RecordFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(mainService.listRecords(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor or unknown record type
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Ranked full-text search over titles, descriptions, keywords, abstracts, hosts and achievements
+    @GetMapping("/search")
+    public ResponseEntity<List<RecordSearchHitDTO>> searchRecords(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long facultyId,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(recordSearchService.search(q, type, status, facultyId, department, size));
+        } catch (IllegalArgumentException e) {
+            // Empty query, unknown type or status
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Lightweight summaries for admin list screens, same filters and paging as /records
+    @GetMapping("/record-summaries")
+    public ResponseEntity<CursorPage<RecordSummaryDTO>> listRecordSummaries(
+            RecordFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(mainService.listRecordSummaries(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
@@ -46,57 +108,103 @@ public class MainController {
         }
     }
 
+    // Supports Range, If-Range and conditional requests; see DocumentResponseWriter
     @GetMapping("/download/{eventId}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long eventId) {
+    public void downloadFile(@PathVariable Long eventId, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        DocumentStorageService.StoredDocument document;
         try {
-            Resource file = mainService.downloadFile(eventId);
+            document = mainService.getDocument(eventId);
+        } catch (ResourceNotFoundException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        DocumentResponseWriter.write(document, request, response);
+    }
 
-            if (file == null) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+    // Small JPEG of the proof for review screens; 404 when the document type has no preview
+    @GetMapping("/preview/{eventId}")
+    public void previewFile(@PathVariable Long eventId, HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        DocumentStorageService.StoredDocument preview;
+        try {
+            preview = documentPreviewService.preview(mainService.getDocument(eventId));
+        } catch (ResourceNotFoundException e) {
+            preview = null;
+        }
+        if (preview == null) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        try {
+            DocumentResponseWriter.write(preview, request, response, true);
+        } catch (NoSuchFileException e) {
+            // Evicted from the preview cache before it was opened; nothing is sent yet, so render it again
+            if (response.isCommitted()) {
+                throw e;
             }
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFilename() + "\"")
-                    .body(file);
-        } catch (MalformedURLException e) {
-            // logger.error("Error loading file for event ID: " + eventId, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            response.reset();
+            preview = documentPreviewService.preview(mainService.getDocument(eventId));
+            if (preview == null) {
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+                return;
+            }
+            DocumentResponseWriter.write(preview, request, response, true);
         }
     }
 
+    @RecordETag(scope = RecordETag.Scope.ALL, statuses = VerificationStatus.APPROVED)
     @GetMapping("/approved")
      public ResponseEntity<List<Main>> getAllApprovedRecords() {
-         List<Main> approvedRecords = mainService.getAllByVerificationStatus("Approved");
+         List<Main> approvedRecords = mainService.getAllByVerificationStatus(VerificationStatus.APPROVED);
          return ResponseEntity.ok(approvedRecords);
      }
 
      // New endpoint to fetch all pending records
+     @RecordETag(scope = RecordETag.Scope.ALL, statuses = VerificationStatus.PENDING)
      @GetMapping("/pending")
      public ResponseEntity<List<Main>> getAllPendingRecords() {
-         List<Main> pendingRecords = mainService.getAllByVerificationStatus("Pending");
+         List<Main> pendingRecords = mainService.getAllByVerificationStatus(VerificationStatus.PENDING);
          return ResponseEntity.ok(pendingRecords);
      }
  
      // New endpoint to fetch all rejected records
+     @RecordETag(scope = RecordETag.Scope.ALL, statuses = VerificationStatus.REJECTED)
      @GetMapping("/rejected")
      public ResponseEntity<List<Main>> getAllRejectedRecords() {
-         List<Main> rejectedRecords = mainService.getAllByVerificationStatus("Rejected");
+         List<Main> rejectedRecords = mainService.getAllByVerificationStatus(VerificationStatus.REJECTED);
          return ResponseEntity.ok(rejectedRecords);
      }
 
      // New endpoint to fetch pending records for a specific student
+    @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = VerificationStatus.PENDING)
     @GetMapping("/student/{studentId}/pending")
     public ResponseEntity<List<Main>> getStudentPendingRecords(@PathVariable Long studentId) {
-        List<Main> studentPendingRecords = mainService.getAllByStudentIdAndVerificationStatus(studentId, "Pending");
+        List<Main> studentPendingRecords = mainService.getAllByStudentIdAndVerificationStatus(studentId, VerificationStatus.PENDING);
         return ResponseEntity.ok(studentPendingRecords);
     }
     
     // New endpoint to fetch rejected records for a specific student
+    @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = VerificationStatus.REJECTED)
     @GetMapping("/student/{studentId}/rejected")
     public ResponseEntity<List<Main>> getStudentRejectedRecords(@PathVariable Long studentId) {
-        List<Main> studentRejectedRecords = mainService.getAllByStudentIdAndVerificationStatus(studentId, "Rejected");
+        List<Main> studentRejectedRecords = mainService.getAllByStudentIdAndVerificationStatus(studentId, VerificationStatus.REJECTED);
         return ResponseEntity.ok(studentRejectedRecords);
     }
 
+    // Send a rejected record back to the faculty for another review
+    @PutMapping("/{id}/resubmit")
+    public ResponseEntity<Map<String, Object>> resubmitRecord(
+            @PathVariable Long id,
+            @RequestParam Long studentId) {
+        try {
+            mainService.resubmitRecord(id, studentId);
+            return ResponseEntity.ok(Map.of("success", true, "message", "Record resubmitted for verification"));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("success", false, "message", e.getMessage()));
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.example.backend.controller.student;
 
+import com.example.backend.config.RecordETag;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.Publications;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.PublicationsService;
 import com.example.backend.service.student.MainService;
 
@@ -14,7 +17,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,14 +29,14 @@ public class PublicationsController {
     private final Logger logger = LoggerFactory.getLogger(PublicationsController.class);
 
     private final PublicationsService publicationsService;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final MainService mainService;
 
     public PublicationsController(PublicationsService publicationsService,
-                                 UserRepository userRepository,
+                                 UserCache userCache,
                                  MainService mainService) {
         this.publicationsService = publicationsService;
-        this.userRepository = userRepository;
+        this.userCache = userCache;
         this.mainService = mainService;
     }
 
@@ -54,7 +56,7 @@ public class PublicationsController {
             @RequestParam(value = "documentPath", required = false) MultipartFile documentPath) {
 
         try {
-            Student student = userRepository.findById(studentId)
+            Student student = userCache.findById(studentId)
                     .filter(user -> user instanceof Student)
                     .map(user -> (Student) user)
                     .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
@@ -64,35 +66,31 @@ public class PublicationsController {
                 throw new IllegalStateException("Student has no faculty assigned");
             }
 
-            String documentLink = mainService.saveFile(documentPath);
-            if (documentLink == null) {
-                throw new IOException("Failed to save document");
+            try (StagedDocument document = mainService.stageFile(documentPath)) {
+                Publications publication = new Publications();
+                publication.setTitle(title);
+                publication.setDescription(description);
+                publication.setStudent(student);
+                publication.setFaculty(faculty);
+                publication.setPublicationType(publicationType);
+                publication.setOrcidId(orcidId);
+                publication.setAuthor(author);
+                publication.setYear(year);
+                // publication.setCollaborators(collaborators);
+                publication.setDoi(doi);
+                publication.setKeywords(keywords);
+                publication.setAbstractContent(abstractContent);
+                publication.setFlag(false); // Default verification status
+
+                Publications savedPublication = mainService.submitRecord(publication, document);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Publication submitted successfully");
+                response.put("id", savedPublication.getId());
+                return ResponseEntity.ok(response);
             }
 
-            Publications publication = new Publications();
-            publication.setTitle(title);
-            publication.setDescription(description);
-            publication.setStudent(student);
-            publication.setFaculty(faculty);
-            publication.setPublicationType(publicationType);
-            publication.setOrcidId(orcidId);
-            publication.setAuthor(author);
-            publication.setYear(year);
-            // publication.setCollaborators(collaborators);
-            publication.setDoi(doi);
-            publication.setKeywords(keywords);
-            publication.setAbstractContent(abstractContent);
-            publication.setDocumentPath(documentLink);
-            publication.setFlag(false); // Default verification status
-
-            Publications savedPublication = publicationsService.savePublication(publication);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Publication submitted successfully");
-            response.put("id", savedPublication.getId());
-            return ResponseEntity.ok(response);
-
         } catch (Exception e) {
             logger.error("Error submitting publication", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -108,15 +106,17 @@ public class PublicationsController {
         return ResponseEntity.ok(publications);
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT)
     @GetMapping("/student/{studentId}")
     public ResponseEntity<List<Publications>> getByStudentId(@PathVariable Long studentId) {
         List<Publications> publications = publicationsService.getByStudentId(studentId);
         return ResponseEntity.ok(publications);
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = { VerificationStatus.PENDING, VerificationStatus.APPROVED })
     @GetMapping("/student/object/{studentId}")
     public ResponseEntity<List<Publications>> getPendingAndApprovedEventsByStudent(@PathVariable Long studentId) {
-        Student student = userRepository.findById(studentId)
+        Student student = userCache.findById(studentId)
             .filter(user -> user instanceof Student)
             .map(user -> (Student) user)
             .orElseThrow(() -> new IllegalArgumentException("Student not found"));
@@ -1,9 +1,12 @@
 package com.example.backend.controller.student;
 
+import com.example.backend.config.RecordETag;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.SportsEvent;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.SportsEventService;
 import com.example.backend.service.student.MainService;
 
@@ -15,7 +18,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -29,14 +31,14 @@ public class SportsEventController {
     private final Logger logger = LoggerFactory.getLogger(SportsEventController.class);
 
     private final SportsEventService sportsEventService;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final MainService mainService;
 
     public SportsEventController(SportsEventService sportsEventService,
-                                UserRepository userRepository,
+                                UserCache userCache,
                                 MainService mainService) {
         this.sportsEventService = sportsEventService;
-        this.userRepository = userRepository;
+        this.userCache = userCache;
         this.mainService = mainService;
     }
 
@@ -55,7 +57,7 @@ public class SportsEventController {
             @RequestParam(value = "documentPath") MultipartFile documentPath) {
 
         try {
-            Student student = userRepository.findById(studentId)
+            Student student = userCache.findById(studentId)
                     .filter(user -> user instanceof Student)
                     .map(user -> (Student) user)
                     .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
@@ -65,34 +67,30 @@ public class SportsEventController {
                 throw new IllegalStateException("Student has no faculty assigned");
             }
 
-            String documentLink = mainService.saveFile(documentPath);
-            if (documentLink == null) {
-                throw new IOException("Failed to save document");
+            try (StagedDocument document = mainService.stageFile(documentPath)) {
+                SportsEvent sportsEvent = new SportsEvent();
+                sportsEvent.setTitle(title);
+                sportsEvent.setDescription(description);
+                sportsEvent.setStudent(student);
+                sportsEvent.setFaculty(faculty);
+                sportsEvent.setEventDate(eventDate);
+                sportsEvent.setHost(host);
+                sportsEvent.setCategory(category);
+                // sportsEvent.setAchievement(achievement);
+                sportsEvent.setEventLevel(eventLevel);
+                sportsEvent.setRole(role);
+                sportsEvent.setOutcome(outcome);
+                sportsEvent.setFlag(false); // Default verification status
+
+                SportsEvent savedEvent = mainService.submitRecord(sportsEvent, document);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Sports Event submitted successfully");
+                response.put("id", savedEvent.getId());
+                return ResponseEntity.ok(response);
             }
 
-            SportsEvent sportsEvent = new SportsEvent();
-            sportsEvent.setTitle(title);
-            sportsEvent.setDescription(description);
-            sportsEvent.setStudent(student);
-            sportsEvent.setFaculty(faculty);
-            sportsEvent.setEventDate(eventDate);
-            sportsEvent.setHost(host);
-            sportsEvent.setCategory(category);
-            // sportsEvent.setAchievement(achievement);
-            sportsEvent.setEventLevel(eventLevel);
-            sportsEvent.setRole(role);
-            sportsEvent.setOutcome(outcome);
-            sportsEvent.setDocumentPath(documentLink);
-            sportsEvent.setFlag(false); // Default verification status
-
-            SportsEvent savedEvent = sportsEventService.saveSportsEvent(sportsEvent);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Sports Event submitted successfully");
-            response.put("id", savedEvent.getId());
-            return ResponseEntity.ok(response);
-
         } catch (Exception e) {
             logger.error("Error submitting sports event", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -108,15 +106,17 @@ public class SportsEventController {
         return ResponseEntity.ok(events);
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT)
     @GetMapping("/student/{studentId}")
     public ResponseEntity<List<SportsEvent>> getByStudentId(@PathVariable Long studentId) {
         List<SportsEvent> events = sportsEventService.getByStudentId(studentId);
         return ResponseEntity.ok(events);
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = { VerificationStatus.PENDING, VerificationStatus.APPROVED })
     @GetMapping("/student/object/{studentId}")
     public ResponseEntity<List<SportsEvent>> getPendingAndApprovedEventsByStudent(@PathVariable Long studentId) {
-        Student student = userRepository.findById(studentId)
+        Student student = userCache.findById(studentId)
             .filter(user -> user instanceof Student)
             .map(user -> (Student) user)
             .orElseThrow(() -> new IllegalArgumentException("Student not found"));
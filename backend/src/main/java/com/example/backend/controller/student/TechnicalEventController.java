@@ -1,10 +1,12 @@
 package com.example.backend.controller.student;
 
+import com.example.backend.config.RecordETag;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.model.student.TechnicalEvent;
-import com.example.backend.repository.UserRepository;
-import com.example.backend.repository.student.TechnicalEventRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.MainService;
 import com.example.backend.service.student.TechnicalEventService;
 
@@ -15,7 +17,6 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -36,10 +37,7 @@ public class TechnicalEventController {
     private TechnicalEventService technicalEventService;
 
     @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private TechnicalEventRepository technicalEventRepository;
+    private UserCache userCache;
 
     @Autowired
     private MainService mainService;
@@ -48,7 +46,6 @@ public class TechnicalEventController {
 
     
     @PostMapping(value = "/submit", consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
-    @Transactional
     public ResponseEntity<Map<String, Object>> submitTechnicalEvent(
         @RequestParam("studentId") Long studentId,
         @RequestParam("title") String title,
@@ -66,7 +63,7 @@ public class TechnicalEventController {
             }
 
             // 1. Get and validate student
-            Student student = userRepository.findById(studentId)
+            Student student = userCache.findById(studentId)
                 .filter(user -> user instanceof Student)
                 .map(user -> (Student) user)
                 .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
@@ -77,43 +74,38 @@ public class TechnicalEventController {
                 throw new IllegalStateException("Student with ID " + studentId + " has no faculty assigned");
             }
 
-            // 3. Handle file upload (now mandatory)
-            String documentLink = mainService.saveFile(documentPath);
-            if (documentLink == null) {
-                throw new IOException("Failed to save document");
-            }
-
-            // 4. Create and populate TechnicalEvent
-            TechnicalEvent event = new TechnicalEvent();
-            event.setTitle(title);
-            event.setDescription(description);
-            event.setStudent(student);
-            event.setFaculty(faculty);
-            event.setEventDate(eventDate);
-            event.setHost(host);
-            event.setCategory(category);
-            event.setAchievement(achievement);
-            event.setDocumentPath(documentLink);
-            event.setVerificationStatus("Pending");
-
-            // 5. Save and verify
-            TechnicalEvent savedEvent = technicalEventRepository.save(event);
-            technicalEventRepository.flush();
-
-            if (savedEvent.getStudent() == null || savedEvent.getFaculty() == null) {
-                throw new IllegalStateException("Failed to persist relationships");
+            // 3. Stage the upload; it is moved into place only if the record is saved
+            try (StagedDocument document = mainService.stageFile(documentPath)) {
+                // 4. Create and populate TechnicalEvent
+                TechnicalEvent event = new TechnicalEvent();
+                event.setTitle(title);
+                event.setDescription(description);
+                event.setStudent(student);
+                event.setFaculty(faculty);
+                event.setEventDate(eventDate);
+                event.setHost(host);
+                event.setCategory(category);
+                event.setAchievement(achievement);
+                event.setVerificationStatus(VerificationStatus.PENDING);
+
+                // 5. Save and verify
+                TechnicalEvent savedEvent = mainService.submitRecord(event, document);
+
+                if (savedEvent.getStudent() == null || savedEvent.getFaculty() == null) {
+                    throw new IllegalStateException("Failed to persist relationships");
+                }
+
+                // 6. Return success response
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Technical Event submitted successfully");
+                response.put("eventId", savedEvent.getId());
+                response.put("documentPath", savedEvent.getDocumentPath());
+
+                logger.info("TechnicalEvent created - ID: {}, Student: {}", savedEvent.getId(), studentId);
+                return ResponseEntity.ok(response);
             }
 
-            // 6. Return success response
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Technical Event submitted successfully");
-            response.put("eventId", savedEvent.getId());
-            response.put("documentPath", savedEvent.getDocumentPath());
-
-            logger.info("TechnicalEvent created - ID: {}, Student: {}", savedEvent.getId(), studentId);
-            return ResponseEntity.ok(response);
-
         } catch (Exception e) {
             logger.error("Error submitting technical event", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -123,6 +115,7 @@ public class TechnicalEventController {
         }
     }
 
+    @RecordETag(scope = RecordETag.Scope.STUDENT)
     @GetMapping("/student/{studentId}")
     public ResponseEntity<List<TechnicalEvent>> getEventsByStudentId(@PathVariable Long studentId) {
         List<TechnicalEvent> events = technicalEventService.getEventsByStudentId(studentId);
@@ -130,10 +123,11 @@ public class TechnicalEventController {
     }
     
     //Gets pending and approved events of a particular student
+    @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = { VerificationStatus.PENDING, VerificationStatus.APPROVED })
     @GetMapping("/student/object/{studentId}")
     public ResponseEntity<List<TechnicalEvent>> getPendingAndApprovedEventsByStudent(@PathVariable Long studentId) {
         
-        Student student = userRepository.findById(studentId)
+        Student student = userCache.findById(studentId)
             .filter(user -> user instanceof Student)
             .map(user -> (Student) user)
             .orElseThrow(() -> new IllegalArgumentException("Student not found"));
@@ -0,0 +1,85 @@
+package com.example.backend.dto;
+
+import java.time.LocalDateTime;
+
+// One audit log row; id is null until the entry has been flushed
+public class AuditLogDTO {
+    private Long id;
+    private LocalDateTime occurredAt;
+    private String actor;
+    private String action;
+    private String entityType;
+    private Long entityId;
+    private String details;
+
+    // Constructors
+    public AuditLogDTO() {}
+
+    public AuditLogDTO(Long id, LocalDateTime occurredAt, String actor, String action,
+                       String entityType, Long entityId, String details) {
+        this.id = id;
+        this.occurredAt = occurredAt;
+        this.actor = actor;
+        this.action = action;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.details = details;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Body of a bulk approve/reject call. A per-record entry in {@code comments}
+ * wins over the shared {@code comment}.
+ */
+public class BulkVerificationRequest {
+    private String status; // "Approved" or "Rejected"
+    private List<Long> ids;
+    private String comment;
+    private Map<Long, String> comments;
+
+    // Constructors
+    public BulkVerificationRequest() {}
+
+    public BulkVerificationRequest(String status, List<Long> ids, String comment, Map<Long, String> comments) {
+        this.status = status;
+        this.ids = ids;
+        this.comment = comment;
+        this.comments = comments;
+    }
+
+    // Getters and Setters
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public Map<Long, String> getComments() {
+        return comments;
+    }
+
+    public void setComments(Map<Long, String> comments) {
+        this.comments = comments;
+    }
+
+    // Effective comment for one record
+    public String commentFor(Long id) {
+        if (comments != null && comments.get(id) != null) {
+            return comments.get(id);
+        }
+        return comment;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.backend.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Per-record outcome of a bulk verification, in request order
+public class BulkVerificationResult {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,       // missing, or not assigned to this faculty
+        NOT_PENDING,     // already verified
+        COMMENT_REQUIRED,
+        CONFLICT         // changed by someone else between check and update
+    }
+
+    private final Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+
+    public void put(Long id, Outcome outcome) {
+        outcomes.put(id, outcome);
+    }
+
+    public Map<Long, Outcome> getOutcomes() {
+        return outcomes;
+    }
+
+    public long getUpdated() {
+        return outcomes.values().stream().filter(outcome -> outcome == Outcome.UPDATED).count();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.backend.dto;
+
+import java.util.Map;
+
+// Record counts for one dashboard scope (institution, faculty or student)
+public class DashboardCountsDTO {
+    private String scope;
+    private long total;
+    private long flagged;
+    private Map<String, Long> byStatus;
+    private Map<String, Map<String, Long>> byType; // type -> status -> count
+
+    // Constructors
+    public DashboardCountsDTO() {}
+
+    public DashboardCountsDTO(String scope, long total, long flagged,
+                              Map<String, Long> byStatus, Map<String, Map<String, Long>> byType) {
+        this.scope = scope;
+        this.total = total;
+        this.flagged = flagged;
+        this.byStatus = byStatus;
+        this.byType = byType;
+    }
+
+    // Getters and Setters
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getFlagged() {
+        return flagged;
+    }
+
+    public void setFlagged(long flagged) {
+        this.flagged = flagged;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<String, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<String, Map<String, Long>> getByType() {
+        return byType;
+    }
+
+    public void setByType(Map<String, Map<String, Long>> byType) {
+        this.byType = byType;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.DropdownModel;
+
+import java.util.List;
+import java.util.Map;
+
+// All dropdowns of one form (category), keyed by dropdown name; version is the ETag value
+public class DropdownFormDTO {
+    private String category;
+    private String version;
+    private Map<String, List<DropdownModel>> dropdowns;
+
+    // Constructors
+    public DropdownFormDTO() {}
+
+    public DropdownFormDTO(String category, String version, Map<String, List<DropdownModel>> dropdowns) {
+        this.category = category;
+        this.version = version;
+        this.dropdowns = dropdowns;
+    }
+
+    // Getters and Setters
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public Map<String, List<DropdownModel>> getDropdowns() {
+        return dropdowns;
+    }
+
+    public void setDropdowns(Map<String, List<DropdownModel>> dropdowns) {
+        this.dropdowns = dropdowns;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.faculty.FacultyPublication;
+
+import java.util.List;
+import java.util.Map;
+
+// Ranked page of faculty publications plus year/type counts over every match
+public class FacultyPublicationSearchResultDTO {
+    private long total;
+    private List<FacultyPublication> results;
+    private Map<Integer, Long> yearFacets;
+    private Map<String, Long> typeFacets;
+
+    // Constructors
+    public FacultyPublicationSearchResultDTO() {}
+
+    public FacultyPublicationSearchResultDTO(long total, List<FacultyPublication> results,
+                                             Map<Integer, Long> yearFacets, Map<String, Long> typeFacets) {
+        this.total = total;
+        this.results = results;
+        this.yearFacets = yearFacets;
+        this.typeFacets = typeFacets;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<FacultyPublication> getResults() {
+        return results;
+    }
+
+    public void setResults(List<FacultyPublication> results) {
+        this.results = results;
+    }
+
+    public Map<Integer, Long> getYearFacets() {
+        return yearFacets;
+    }
+
+    public void setYearFacets(Map<Integer, Long> yearFacets) {
+        this.yearFacets = yearFacets;
+    }
+
+    public Map<String, Long> getTypeFacets() {
+        return typeFacets;
+    }
+
+    public void setTypeFacets(Map<String, Long> typeFacets) {
+        this.typeFacets = typeFacets;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.student.VerificationStatus;
+
+// One ranked result of the record full-text search
+public class RecordSearchHitDTO {
+    private Long id;
+    private String type;
+    private VerificationStatus verificationStatus;
+    private String title;
+    private float score;
+
+    // Constructors
+    public RecordSearchHitDTO() {}
+
+    public RecordSearchHitDTO(Long id, String type, VerificationStatus verificationStatus, String title, float score) {
+        this.id = id;
+        this.type = type;
+        this.verificationStatus = verificationStatus;
+        this.title = title;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public VerificationStatus getVerificationStatus() {
+        return verificationStatus;
+    }
+
+    public void setVerificationStatus(VerificationStatus verificationStatus) {
+        this.verificationStatus = verificationStatus;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.student.VerificationStatus;
+
+// Payload of a record change pushed over the faculty/flagged SSE streams
+public class RecordStreamEventDTO {
+    private String kind;
+    private Long recordId;
+    private String type;
+    private VerificationStatus verificationStatus;
+    private boolean flagged;
+    private Long facultyId;
+    private Long studentId;
+
+    // Constructors
+    public RecordStreamEventDTO() {}
+
+    public RecordStreamEventDTO(String kind, Long recordId, String type, VerificationStatus verificationStatus,
+                                boolean flagged, Long facultyId, Long studentId) {
+        this.kind = kind;
+        this.recordId = recordId;
+        this.type = type;
+        this.verificationStatus = verificationStatus;
+        this.flagged = flagged;
+        this.facultyId = facultyId;
+        this.studentId = studentId;
+    }
+
+    // Getters and Setters
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public Long getRecordId() {
+        return recordId;
+    }
+
+    public void setRecordId(Long recordId) {
+        this.recordId = recordId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public VerificationStatus getVerificationStatus() {
+        return verificationStatus;
+    }
+
+    public void setVerificationStatus(VerificationStatus verificationStatus) {
+        this.verificationStatus = verificationStatus;
+    }
+
+    public boolean isFlagged() {
+        return flagged;
+    }
+
+    public void setFlagged(boolean flagged) {
+        this.flagged = flagged;
+    }
+
+    public Long getFacultyId() {
+        return facultyId;
+    }
+
+    public void setFacultyId(Long facultyId) {
+        this.facultyId = facultyId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.student.VerificationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat, list-screen view of a record. Built directly by a JPQL constructor
+ * expression so listings never materialise Main/Student/Faculty entity graphs.
+ */
+public class RecordSummaryDTO {
+    private Long id;
+    private String title;
+    private String type;
+    private VerificationStatus verificationStatus;
+    private LocalDateTime submissionDate;
+    private Boolean flag;
+    private Long studentId;
+    private String studentName;
+    private String rollNo;
+    private Long facultyId;
+    private String facultyName;
+
+    // Constructors
+    public RecordSummaryDTO() {}
+
+    // Used by MainRepositoryCustomImpl; type is the selected TYPE(m)
+    public RecordSummaryDTO(Long id, String title, Class<?> type, VerificationStatus verificationStatus,
+                            LocalDateTime submissionDate, Boolean flag,
+                            Long studentId, String studentName, String rollNo,
+                            Long facultyId, String facultyName) {
+        this.id = id;
+        this.title = title;
+        this.type = type.getSimpleName();
+        this.verificationStatus = verificationStatus;
+        this.submissionDate = submissionDate;
+        this.flag = flag;
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.rollNo = rollNo;
+        this.facultyId = facultyId;
+        this.facultyName = facultyName;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public VerificationStatus getVerificationStatus() {
+        return verificationStatus;
+    }
+
+    public void setVerificationStatus(VerificationStatus verificationStatus) {
+        this.verificationStatus = verificationStatus;
+    }
+
+    public LocalDateTime getSubmissionDate() {
+        return submissionDate;
+    }
+
+    public void setSubmissionDate(LocalDateTime submissionDate) {
+        this.submissionDate = submissionDate;
+    }
+
+    public Boolean getFlag() {
+        return flag;
+    }
+
+    public void setFlag(Boolean flag) {
+        this.flag = flag;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public String getRollNo() {
+        return rollNo;
+    }
+
+    public void setRollNo(String rollNo) {
+        this.rollNo = rollNo;
+    }
+
+    public Long getFacultyId() {
+        return facultyId;
+    }
+
+    public void setFacultyId(Long facultyId) {
+        this.facultyId = facultyId;
+    }
+
+    public String getFacultyName() {
+        return facultyName;
+    }
+
+    public void setFacultyName(String facultyName) {
+        this.facultyName = facultyName;
+    }
+}
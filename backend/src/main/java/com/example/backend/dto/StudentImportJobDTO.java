@@ -0,0 +1,85 @@
+package com.example.backend.dto;
+
+import java.time.LocalDateTime;
+
+// Status and progress of a background roster import; rowsPerSecond counts committed rows
+public class StudentImportJobDTO {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final Long id;
+    private final String filename;
+    private final Status status;
+    private final LocalDateTime submittedAt;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final int rowsParsed;
+    private final int rowsCommitted;
+    private final int rowsFailed;
+    private final double rowsPerSecond;
+    private final String message;
+
+    public StudentImportJobDTO(Long id, String filename, Status status, LocalDateTime submittedAt,
+                               LocalDateTime startedAt, LocalDateTime finishedAt, int rowsParsed,
+                               int rowsCommitted, int rowsFailed, double rowsPerSecond, String message) {
+        this.id = id;
+        this.filename = filename;
+        this.status = status;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.rowsParsed = rowsParsed;
+        this.rowsCommitted = rowsCommitted;
+        this.rowsFailed = rowsFailed;
+        this.rowsPerSecond = rowsPerSecond;
+        this.message = message;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public int getRowsParsed() {
+        return rowsParsed;
+    }
+
+    public int getRowsCommitted() {
+        return rowsCommitted;
+    }
+
+    public int getRowsFailed() {
+        return rowsFailed;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
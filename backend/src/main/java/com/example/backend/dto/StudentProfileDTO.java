@@ -0,0 +1,48 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Student;
+import com.example.backend.model.student.Main;
+
+import java.util.List;
+import java.util.Map;
+
+// Student dashboard in one response: the student and every activity, by type and then status label
+public class StudentProfileDTO {
+    private Student student;
+    private Map<String, Map<String, List<Main>>> activities;
+    private long totalActivities;
+
+    // Constructors
+    public StudentProfileDTO() {}
+
+    public StudentProfileDTO(Student student, Map<String, Map<String, List<Main>>> activities, long totalActivities) {
+        this.student = student;
+        this.activities = activities;
+        this.totalActivities = totalActivities;
+    }
+
+    // Getters and Setters
+    public Student getStudent() {
+        return student;
+    }
+
+    public void setStudent(Student student) {
+        this.student = student;
+    }
+
+    public Map<String, Map<String, List<Main>>> getActivities() {
+        return activities;
+    }
+
+    public void setActivities(Map<String, Map<String, List<Main>>> activities) {
+        this.activities = activities;
+    }
+
+    public long getTotalActivities() {
+        return totalActivities;
+    }
+
+    public void setTotalActivities(long totalActivities) {
+        this.totalActivities = totalActivities;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.backend.event;
+
+import com.example.backend.model.faculty.FacultyPublication;
+
+/**
+ * Published by {@code FacultyPublicationService} when a publication is saved or deleted.
+ * Carries a copy of the searchable fields so listeners don't reload the row.
+ */
+public class FacultyPublicationEvent {
+
+    private final Long publicationId;
+    private final boolean deleted;
+    private final String title;
+    private final String author;
+    private final String keywords;
+    private final Integer year;
+    private final String publicationType;
+
+    private FacultyPublicationEvent(Long publicationId, boolean deleted, String title, String author,
+                                    String keywords, Integer year, String publicationType) {
+        this.publicationId = publicationId;
+        this.deleted = deleted;
+        this.title = title;
+        this.author = author;
+        this.keywords = keywords;
+        this.year = year;
+        this.publicationType = publicationType;
+    }
+
+    public static FacultyPublicationEvent saved(FacultyPublication publication) {
+        return new FacultyPublicationEvent(publication.getId(), false, publication.getTitle(), publication.getAuthor(),
+                publication.getKeywords(), publication.getYear(), publication.getPublicationType());
+    }
+
+    public static FacultyPublicationEvent deleted(Long publicationId) {
+        return new FacultyPublicationEvent(publicationId, true, null, null, null, null, null);
+    }
+
+    public Long getPublicationId() {
+        return publicationId;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public String getKeywords() {
+        return keywords;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public String getPublicationType() {
+        return publicationType;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.backend.event;
+
+import com.example.backend.model.student.Main;
+import com.example.backend.model.student.VerificationStatus;
+import org.hibernate.Hibernate;
+
+/**
+ * Published by {@code MainService} whenever a record is submitted, verified,
+ * flagged or deleted. Listeners that keep derived state (counters, indexes)
+ * should use {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public class RecordEvent {
+
+    public enum Kind {
+        CREATED,
+        VERIFIED,
+        RESUBMITTED,
+        FLAGGED,
+        UNFLAGGED,
+        DELETED
+    }
+
+    private final Kind kind;
+    private final Long recordId;
+    private final State before; // null for CREATED
+    private final State after;  // null for DELETED
+
+    public RecordEvent(Kind kind, Long recordId, State before, State after) {
+        this.kind = kind;
+        this.recordId = recordId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static RecordEvent created(Main record) {
+        return new RecordEvent(Kind.CREATED, record.getId(), null, State.of(record));
+    }
+
+    public static RecordEvent deleted(Main record) {
+        return new RecordEvent(Kind.DELETED, record.getId(), State.of(record), null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Long getRecordId() {
+        return recordId;
+    }
+
+    public State getBefore() {
+        return before;
+    }
+
+    public State getAfter() {
+        return after;
+    }
+
+    // The counted attributes of a record at one point in time
+    public static class State {
+        private final String type;
+        private final VerificationStatus verificationStatus;
+        private final boolean flagged;
+        private final Long facultyId;
+        private final Long studentId;
+
+        public State(String type, VerificationStatus verificationStatus, boolean flagged, Long facultyId, Long studentId) {
+            this.type = type;
+            this.verificationStatus = verificationStatus;
+            this.flagged = flagged;
+            this.facultyId = facultyId;
+            this.studentId = studentId;
+        }
+
+        public static State of(Main record) {
+            return new State(
+                    Hibernate.getClass(record).getSimpleName(),
+                    record.getVerificationStatus(),
+                    Boolean.TRUE.equals(record.getFlag()),
+                    record.getFaculty() != null ? record.getFaculty().getId() : null,
+                    record.getStudent() != null ? record.getStudent().getId() : null);
+        }
+
+        public State withVerificationStatus(VerificationStatus status) {
+            return new State(type, status, flagged, facultyId, studentId);
+        }
+
+        public State withFlagged(boolean flag) {
+            return new State(type, verificationStatus, flag, facultyId, studentId);
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public VerificationStatus getVerificationStatus() {
+            return verificationStatus;
+        }
+
+        public boolean isFlagged() {
+            return flagged;
+        }
+
+        public Long getFacultyId() {
+            return facultyId;
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+    }
+}
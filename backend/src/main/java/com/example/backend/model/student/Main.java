@@ -33,7 +33,9 @@ public class Main {
     @JoinColumn(name = "faculty_id", nullable = false)
     private Faculty faculty;
 
-    private String verificationStatus;
+    @Convert(converter = VerificationStatusConverter.class)
+    @Column(name = "verification_status", columnDefinition = "CHAR(1)", nullable = false)
+    private VerificationStatus verificationStatus;
     
     @Column(columnDefinition = "TEXT")
     private String comments;
@@ -42,6 +44,9 @@ public class Main {
 
     private Boolean flag;
 
+    @Version
+    private Long version;
+
     @Transient // This prevents it from being persisted
     public String getDtype() {
         return this.getClass().getSimpleName();
@@ -50,7 +55,7 @@ public class Main {
 
     public Main() {
         this.submissionDate = LocalDateTime.now();
-        this.verificationStatus = "Pending";
+        this.verificationStatus = VerificationStatus.PENDING;
         this.flag = false;
     }
 }
\ No newline at end of file
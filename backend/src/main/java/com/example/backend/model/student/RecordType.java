@@ -0,0 +1,65 @@
+package com.example.backend.model.student;
+
+/**
+ * The concrete record types stored in the {@code main} hierarchy.
+ *
+ * {@code name} is what the API exposes (it matches {@link Main#getDtype()}),
+ * {@code discriminator} is the value Hibernate writes to {@code main.dtype}.
+ * The two differ for job opportunities, whose discriminator was committed with a typo.
+ */
+public enum RecordType {
+
+    TECHNICAL_EVENT("TechnicalEvent", "TechnicalEvent", TechnicalEvent.class),
+    SPORTS_EVENT("SportsEvent", "SportsEvent", SportsEvent.class),
+    CULTURAL_EVENT("CulturalEvent", "CulturalEvent", CulturalEvent.class),
+    CLUBS_AND_SOCIETIES("ClubsAndSocieties", "ClubsAndSocieties", ClubsAndSocieties.class),
+    PUBLICATIONS("Publications", "Publications", Publications.class),
+    JOB_OPPORTUNITY("JobOpportunity", "JobOpoortunities", JobOpportunity.class);
+
+    private final String typeName;
+    private final String discriminator;
+    private final Class<? extends Main> entityClass;
+
+    RecordType(String typeName, String discriminator, Class<? extends Main> entityClass) {
+        this.typeName = typeName;
+        this.discriminator = discriminator;
+        this.entityClass = entityClass;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public String getDiscriminator() {
+        return discriminator;
+    }
+
+    public Class<? extends Main> getEntityClass() {
+        return entityClass;
+    }
+
+    // Accepts the API name ("TechnicalEvent"), the discriminator or the enum constant name
+    public static RecordType from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Record type cannot be empty");
+        }
+        String trimmed = value.trim();
+        for (RecordType type : values()) {
+            if (type.typeName.equalsIgnoreCase(trimmed)
+                    || type.discriminator.equalsIgnoreCase(trimmed)
+                    || type.name().equalsIgnoreCase(trimmed)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown record type: " + value);
+    }
+
+    public static RecordType of(Class<?> entityClass) {
+        for (RecordType type : values()) {
+            if (type.entityClass.equals(entityClass)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Not a record type: " + entityClass.getSimpleName());
+    }
+}
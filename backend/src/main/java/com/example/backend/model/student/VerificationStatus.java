@@ -0,0 +1,72 @@
+package com.example.backend.model.student;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Verification state of a record. The API keeps using the labels ("Pending", ...),
+ * the database stores the one-letter {@code code} (see {@link VerificationStatusConverter}).
+ *
+ * Pending records can be approved or rejected; a rejected record goes back to
+ * Pending when the student resubmits it. Approved is final.
+ */
+public enum VerificationStatus {
+
+    PENDING("Pending", "P"),
+    APPROVED("Approved", "A"),
+    REJECTED("Rejected", "R");
+
+    private final String label;
+    private final String code;
+
+    VerificationStatus(String label, String code) {
+        this.label = label;
+        this.code = code;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public boolean canTransitionTo(VerificationStatus target) {
+        switch (this) {
+            case PENDING:
+                return target == APPROVED || target == REJECTED;
+            case REJECTED:
+                return target == PENDING;
+            default:
+                return false;
+        }
+    }
+
+    // Accepts the label, the enum constant name or the stored code, ignoring case
+    @JsonCreator
+    public static VerificationStatus from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Verification status cannot be empty");
+        }
+        String trimmed = value.trim();
+        for (VerificationStatus status : values()) {
+            if (status.label.equalsIgnoreCase(trimmed)
+                    || status.name().equalsIgnoreCase(trimmed)
+                    || status.code.equalsIgnoreCase(trimmed)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown verification status: " + value);
+    }
+
+    public static VerificationStatus fromCode(String code) {
+        for (VerificationStatus status : values()) {
+            if (status.code.equals(code)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown verification status code: " + code);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.model.student;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Stores VerificationStatus as its one-letter code in main.verification_status
+@Converter
+public class VerificationStatusConverter implements AttributeConverter<VerificationStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(VerificationStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public VerificationStatus convertToEntityAttribute(String code) {
+        return code != null ? VerificationStatus.fromCode(code) : null;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,9 @@ import java.util.Optional;
 public interface FacultyRepository extends JpaRepository<Faculty, Long> {
     Optional<Faculty> findByEmail(String email);
     Optional<Faculty> findById(Long id);
+
+    // Resolves the advisors of a whole roster in one query
+    List<Faculty> findByEmailIn(Collection<String> emails);
     
     // New methods for object-based queries
     @Query("SELECT s FROM Student s WHERE s.faculty = :faculty")
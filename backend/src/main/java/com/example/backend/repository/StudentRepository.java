@@ -17,4 +17,8 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     List<Student> findByFaculty(Faculty faculty);
 
     List<Student> findStudentsByFaculty_Email(String email);
+
+    // Student with its faculty in one statement (profile endpoint)
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.faculty WHERE s.id = :id")
+    Optional<Student> findWithFacultyById(@Param("id") Long id);
 }
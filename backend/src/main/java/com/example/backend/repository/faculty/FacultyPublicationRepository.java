@@ -15,10 +15,5 @@ public interface FacultyPublicationRepository extends JpaRepository<FacultyPubli
     
     @Query("SELECT p FROM FacultyPublication p WHERE p.faculty.id = :facultyId")
     List<FacultyPublication> findByFacultyId(@Param("facultyId") Long facultyId);
-    
-    @Query("SELECT p FROM FacultyPublication p WHERE " +
-           "LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(p.author) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(p.keywords) LIKE LOWER(CONCAT('%', :query, '%'))")
-    List<FacultyPublication> searchPublications(@Param("query") String query);
+
 }
\ No newline at end of file
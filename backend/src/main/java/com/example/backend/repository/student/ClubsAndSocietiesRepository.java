@@ -25,6 +25,7 @@ public interface ClubsAndSocietiesRepository extends JpaRepository<ClubsAndSocie
     //Find approved and pending events of a student
     @Query("SELECT cs FROM ClubsAndSocieties cs " +
           "WHERE cs.student = :student " +
-          "AND cs.verificationStatus IN ('Pending', 'Approved')")
+          "AND cs.verificationStatus IN (com.example.backend.model.student.VerificationStatus.PENDING, " +
+          "com.example.backend.model.student.VerificationStatus.APPROVED)")
     List<ClubsAndSocieties> findPendingAndApprovedByStudent(@Param("student") Student student);
 }
\ No newline at end of file
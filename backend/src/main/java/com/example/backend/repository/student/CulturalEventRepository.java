@@ -25,6 +25,7 @@ public interface CulturalEventRepository extends JpaRepository<CulturalEvent, Lo
     //Find approved and pending events of a student
     @Query("SELECT ce FROM CulturalEvent ce " +
           "WHERE ce.student = :student " +
-          "AND ce.verificationStatus IN ('Pending', 'Approved')")
+          "AND ce.verificationStatus IN (com.example.backend.model.student.VerificationStatus.PENDING, " +
+          "com.example.backend.model.student.VerificationStatus.APPROVED)")
     List<CulturalEvent> findPendingAndApprovedByStudent(@Param("student") Student student);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.backend.repository.student;
 
 import com.example.backend.model.student.JobOpportunity;
 import com.example.backend.model.Student;
+import com.example.backend.model.student.VerificationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,7 +14,7 @@ import java.util.List;
 public interface JobOpportunityRepository extends JpaRepository<JobOpportunity, Long> {
     
     // Find by verification status
-    List<JobOpportunity> findByVerificationStatus(String verificationStatus);
+    List<JobOpportunity> findByVerificationStatus(VerificationStatus verificationStatus);
     
     // Find by student (using object reference)
     @Query("SELECT j FROM JobOpportunity j WHERE j.student = :student")
@@ -23,13 +24,14 @@ public interface JobOpportunityRepository extends JpaRepository<JobOpportunity,
     List<JobOpportunity> findByStudent_Id(Long studentId);
     
     // Find pending opportunities for a specific student
-    @Query("SELECT j FROM JobOpportunity j WHERE j.student = :student AND j.verificationStatus = 'Pending'")
+    @Query("SELECT j FROM JobOpportunity j WHERE j.student = :student AND j.verificationStatus = com.example.backend.model.student.VerificationStatus.PENDING")
     List<JobOpportunity> findPendingByStudent(@Param("student") Student student);
 
     // Find approved and pending opportunities of a student
     @Query("SELECT j FROM JobOpportunity j " +
           "WHERE j.student = :student " +
-          "AND j.verificationStatus IN ('Pending', 'Approved')")
+          "AND j.verificationStatus IN (com.example.backend.model.student.VerificationStatus.PENDING, " +
+          "com.example.backend.model.student.VerificationStatus.APPROVED)")
     List<JobOpportunity> findPendingAndApprovedByStudent(@Param("student") Student student);
     
     // Find by job type (INTERNSHIP or PLACEMENT)
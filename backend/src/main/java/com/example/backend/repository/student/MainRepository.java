@@ -1,25 +1,28 @@
 package com.example.backend.repository.student;
 
 import com.example.backend.model.student.Main;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MainRepository extends JpaRepository<Main, Long> {
+public interface MainRepository extends JpaRepository<Main, Long>, MainRepositoryCustom {
 
     // Fetch all activities of a student under a specific faculty, grouped by verification status
     @Query("SELECT m FROM Main m WHERE m.student = :student AND m.faculty = :faculty AND m.verificationStatus = :verificationStatus")
     List<Main> findByStudentAndFacultyAndVerificationStatus(
             @Param("student") Student student,
             @Param("faculty") Faculty faculty,
-            @Param("verificationStatus") String verificationStatus);
+            @Param("verificationStatus") VerificationStatus verificationStatus);
 
     // Fetch faculty for a given student
     @Query("SELECT m.faculty FROM Main m WHERE m.student = :student")
@@ -33,7 +36,7 @@ public interface MainRepository extends JpaRepository<Main, Long> {
     Optional<Main> findByIdAndFacultyId(@Param("id") Long id, @Param("facultyId") Long facultyId);
 
     // Find by faculty and verification status
-    List<Main> findByFacultyAndVerificationStatus(Faculty faculty, String verificationStatus);
+    List<Main> findByFacultyAndVerificationStatus(Faculty faculty, VerificationStatus verificationStatus);
 
     // Find by student
     Optional<Main> findByStudent(Student student);
@@ -47,17 +50,44 @@ public interface MainRepository extends JpaRepository<Main, Long> {
     List<Main> findByStudent_IdAndFaculty_IdAndVerificationStatus(
         Long studentId, 
         Long facultyId, 
-        String verificationStatus);
+        VerificationStatus verificationStatus);
 
-   List<Main> findByFacultyIdAndVerificationStatus(Long facultyId, String verificationStatus);
+   List<Main> findByFacultyIdAndVerificationStatus(Long facultyId, VerificationStatus verificationStatus);
 
-   List<Main> findByVerificationStatus(String verificationStatus);
+   List<Main> findByVerificationStatus(VerificationStatus verificationStatus);
 
-   List<Main> findAllByStudentIdAndVerificationStatus(Long studentId, String status);
+   List<Main> findAllByStudentIdAndVerificationStatus(Long studentId, VerificationStatus status);
+
+   // Every record of a student, newest first; one polymorphic select over main and the subtype tables
+   @Query("SELECT m FROM Main m WHERE m.student.id = :studentId ORDER BY m.submissionDate DESC, m.id DESC")
+   List<Main> findAllByStudentIdNewestFirst(@Param("studentId") Long studentId);
 
    // Flag related 
    List<Main> findByFlag(Boolean flag);
    List<Main> findByStudentIdAndFlag(Long studentId, Boolean flag);
+
+   // Bulk verification: current state of the records a faculty owns, as (id, verificationStatus, type, studentId, flag)
+   @Query("SELECT m.id, m.verificationStatus, TYPE(m), m.student.id, m.flag FROM Main m "
+           + "WHERE m.id IN :ids AND m.faculty.id = :facultyId")
+   List<Object[]> findVerificationStateByIdsAndFacultyId(@Param("ids") Collection<Long> ids, @Param("facultyId") Long facultyId);
+
+   // Moves records from one status to another only if they are still in the expected status; returns the rows changed.
+   // Native so it stays one UPDATE on main; JPQL bulk updates on a JOINED root go through a temp id table
+   @Modifying(flushAutomatically = true, clearAutomatically = true)
+   @Query(value = "UPDATE main SET verification_status = :status, comments = :comment, version = version + 1 "
+           + "WHERE id IN (:ids) AND faculty_id = :facultyId AND verification_status = :expectedStatus",
+           nativeQuery = true)
+   int updateVerificationStatusCodeIfCurrent(@Param("ids") Collection<Long> ids,
+                                             @Param("facultyId") Long facultyId,
+                                             @Param("expectedStatus") String expectedStatusCode,
+                                             @Param("status") String statusCode,
+                                             @Param("comment") String comment);
+
+   default int updateVerificationStatusIfCurrent(Collection<Long> ids, Long facultyId,
+                                                 VerificationStatus expectedStatus, VerificationStatus status,
+                                                 String comment) {
+       return updateVerificationStatusCodeIfCurrent(ids, facultyId, expectedStatus.getCode(), status.getCode(), comment);
+   }
   
 }
 
@@ -76,7 +106,7 @@ public interface MainRepository extends JpaRepository<Main, Long> {
 //     @Query("SELECT m FROM Main m WHERE m.studentId = :studentId AND m.facultyId = :facultyId AND m.verificationStatus = :verificationStatus")
 //     List<Main> findByStudentAndFacultyAndStatus(@Param("studentId") Long studentId, 
 //                                                 @Param("facultyId") Long facultyId, 
-//                                                 @Param("verificationStatus") String verificationStatus);
+//                                                 @Param("verificationStatus") VerificationStatus verificationStatus);
 
 //     // ✅ Fetch faculty ID for a given student ID
 //     @Query("SELECT m.facultyId FROM Main m WHERE m.studentId = :studentId")
@@ -84,7 +114,7 @@ public interface MainRepository extends JpaRepository<Main, Long> {
 
 //     Optional<Main> findByIdAndFacultyId(Long id, Long facultyId);
 
-//     List<Main> findByFacultyIdAndVerificationStatus(Long facultyId, String verificationStatus);
+//     List<Main> findByFacultyIdAndVerificationStatus(Long facultyId, VerificationStatus verificationStatus);
 
 //     List<Main> findByStudentIdAndFacultyIdAndVerificationStatus(Long studentId, Long facultyId, String status);
 
@@ -0,0 +1,31 @@
+package com.example.backend.repository.student;
+
+import com.example.backend.dto.RecordCursor;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSummaryDTO;
+import com.example.backend.model.student.Main;
+import com.example.backend.model.student.VerificationStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface MainRepositoryCustom {
+
+    // Keyset page ordered by submissionDate DESC, id DESC, starting strictly after the cursor
+    List<Main> findPage(RecordFilter filter, RecordCursor after, int limit);
+
+    // Same page as findPage, projected to list columns in a single query
+    List<RecordSummaryDTO> findSummaryPage(RecordFilter filter, RecordCursor after, int limit);
+
+    // Loads one record through its concrete subclass instead of the polymorphic outer join
+    Optional<Main> findTypedById(Long id);
+
+    // Loads full subclass entities for the given ids, one query per concrete type, preserving id order
+    List<Main> findAllTypedByIds(List<Long> ids);
+
+    // Moves the given records of one faculty from expectedStatus to status, each with its own comment,
+    // in a single guarded UPDATE; returns the rows changed
+    int updateVerificationStatusIfCurrent(Map<Long, String> commentsById, Long facultyId,
+                                          VerificationStatus expectedStatus, VerificationStatus status);
+}
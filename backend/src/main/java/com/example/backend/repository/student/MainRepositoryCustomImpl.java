@@ -0,0 +1,240 @@
+package com.example.backend.repository.student;
+
+import com.example.backend.dto.RecordCursor;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSummaryDTO;
+import com.example.backend.model.student.Main;
+import com.example.backend.model.student.RecordType;
+import com.example.backend.model.student.VerificationStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Queries that avoid the JOINED-inheritance outer join across every subclass table.
+ *
+ * Polymorphic "FROM Main m" entity queries make Hibernate left-join all seven subclass
+ * tables. Lists are therefore resolved in two phases: a base-table scan for ids and
+ * concrete types (the discriminator lives on main.dtype), then one query per concrete
+ * type present, which only joins that type's own tables. When the caller asks for a
+ * single type, the query is rooted at that subclass directly.
+ */
+public class MainRepositoryCustomImpl implements MainRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Main> findPage(RecordFilter filter, RecordCursor after, int limit) {
+        if (filter != null && filter.getType() != null) {
+            return findTypedPage(RecordType.from(filter.getType()).getEntityClass(), filter, after, limit);
+        }
+
+        // Phase 1: ids and concrete types from the base table only
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT m.id, TYPE(m) FROM Main m");
+        if (filter != null && filter.getDepartment() != null) {
+            jpql.append(" JOIN m.student s");
+        }
+        jpql.append(" WHERE 1 = 1");
+        appendConditions(jpql, params, filter, after);
+        jpql.append(" ORDER BY m.submissionDate DESC, m.id DESC");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        params.forEach(query::setParameter);
+        List<Object[]> keys = query.setMaxResults(limit).getResultList();
+
+        // Phase 2: subclass columns, one query per type on the page
+        return loadByType(keys);
+    }
+
+    @Override
+    public List<RecordSummaryDTO> findSummaryPage(RecordFilter filter, RecordCursor after, int limit) {
+        String root = filter != null && filter.getType() != null
+                ? entityName(RecordType.from(filter.getType()).getEntityClass())
+                : "Main";
+
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.example.backend.dto.RecordSummaryDTO("
+                + "m.id, m.title, TYPE(m), m.verificationStatus, m.submissionDate, m.flag, "
+                + "s.id, s.name, s.rollNo, f.id, f.name) "
+                + "FROM " + root + " m JOIN m.student s JOIN m.faculty f WHERE 1 = 1");
+        appendConditions(jpql, params, filter, after);
+        jpql.append(" ORDER BY m.submissionDate DESC, m.id DESC");
+
+        TypedQuery<RecordSummaryDTO> query = entityManager.createQuery(jpql.toString(), RecordSummaryDTO.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Optional<Main> findTypedById(Long id) {
+        List<Object> types = entityManager
+                .createQuery("SELECT TYPE(m) FROM Main m WHERE m.id = :id", Object.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (types.isEmpty()) {
+            return Optional.empty();
+        }
+        Class<? extends Main> entityClass = ((Class<?>) types.get(0)).asSubclass(Main.class);
+        return Optional.ofNullable(entityManager.find(entityClass, id));
+    }
+
+    @Override
+    public List<Main> findAllTypedByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Object[]> keys = entityManager
+                .createQuery("SELECT m.id, TYPE(m) FROM Main m WHERE m.id IN :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        // Restore the caller's order, which an IN query does not keep
+        Map<Long, Object[]> byId = new HashMap<>();
+        for (Object[] key : keys) {
+            byId.put((Long) key[0], key);
+        }
+        List<Object[]> ordered = new ArrayList<>();
+        for (Long id : ids) {
+            Object[] key = byId.get(id);
+            if (key != null) {
+                ordered.add(key);
+            }
+        }
+        return loadByType(ordered);
+    }
+
+    @Override
+    public int updateVerificationStatusIfCurrent(Map<Long, String> commentsById, Long facultyId,
+                                                 VerificationStatus expectedStatus, VerificationStatus status) {
+        if (commentsById.isEmpty()) {
+            return 0;
+        }
+        // Native for the same reason as updateVerificationStatusCodeIfCurrent; a null comment
+        // gets no WHEN branch and falls through to the CASE's implicit ELSE NULL
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder cases = new StringBuilder();
+        int i = 0;
+        for (Map.Entry<Long, String> entry : commentsById.entrySet()) {
+            if (entry.getValue() != null) {
+                cases.append(" WHEN :id").append(i).append(" THEN :comment").append(i);
+                params.put("id" + i, entry.getKey());
+                params.put("comment" + i, entry.getValue());
+                i++;
+            }
+        }
+        String sql = "UPDATE main SET verification_status = :status, comments = "
+                + (cases.length() == 0 ? "NULL" : "CASE id" + cases + " END")
+                + ", version = version + 1"
+                + " WHERE id IN (:ids) AND faculty_id = :facultyId AND verification_status = :expectedStatus";
+
+        // What @Modifying(flushAutomatically, clearAutomatically) does for the repository's own updates
+        entityManager.flush();
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("status", status.getCode())
+                .setParameter("ids", new ArrayList<>(commentsById.keySet()))
+                .setParameter("facultyId", facultyId)
+                .setParameter("expectedStatus", expectedStatus.getCode());
+        params.forEach(query::setParameter);
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private List<Main> findTypedPage(Class<? extends Main> entityClass, RecordFilter filter,
+                                     RecordCursor after, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT m FROM " + entityName(entityClass)
+                + " m JOIN FETCH m.student s JOIN FETCH m.faculty f WHERE 1 = 1");
+        appendConditions(jpql, params, filter, after);
+        jpql.append(" ORDER BY m.submissionDate DESC, m.id DESC");
+
+        TypedQuery<Main> query = entityManager.createQuery(jpql.toString(), Main.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // keys are (id, concrete class) pairs in the desired output order
+    private List<Main> loadByType(List<Object[]> keys) {
+        Map<Class<?>, List<Long>> idsByType = new LinkedHashMap<>();
+        for (Object[] key : keys) {
+            idsByType.computeIfAbsent((Class<?>) key[1], type -> new ArrayList<>()).add((Long) key[0]);
+        }
+
+        Map<Long, Main> loaded = new HashMap<>();
+        for (Map.Entry<Class<?>, List<Long>> entry : idsByType.entrySet()) {
+            String jpql = "SELECT e FROM " + entityName(entry.getKey())
+                    + " e JOIN FETCH e.student JOIN FETCH e.faculty WHERE e.id IN :ids";
+            for (Main record : entityManager.createQuery(jpql, Main.class)
+                    .setParameter("ids", entry.getValue())
+                    .getResultList()) {
+                loaded.put(record.getId(), record);
+            }
+        }
+
+        List<Main> records = new ArrayList<>(keys.size());
+        for (Object[] key : keys) {
+            Main record = loaded.get((Long) key[0]);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private String entityName(Class<?> entityClass) {
+        return entityManager.getMetamodel().entity(entityClass).getName();
+    }
+
+    // Expects the record alias "m"; the student alias "s" must be joined when filtering by department
+    private void appendConditions(StringBuilder jpql, Map<String, Object> params,
+                                  RecordFilter filter, RecordCursor after) {
+        if (filter != null) {
+            if (filter.getStatus() != null) {
+                jpql.append(" AND m.verificationStatus = :status");
+                params.put("status", VerificationStatus.from(filter.getStatus()));
+            }
+            if (filter.getFacultyId() != null) {
+                jpql.append(" AND m.faculty.id = :facultyId");
+                params.put("facultyId", filter.getFacultyId());
+            }
+            if (filter.getStudentId() != null) {
+                jpql.append(" AND m.student.id = :studentId");
+                params.put("studentId", filter.getStudentId());
+            }
+            if (filter.getDepartment() != null) {
+                jpql.append(" AND s.department = :department");
+                params.put("department", filter.getDepartment());
+            }
+            if (filter.getFlagged() != null) {
+                jpql.append(" AND m.flag = :flag");
+                params.put("flag", filter.getFlagged());
+            }
+            if (filter.getFrom() != null) {
+                jpql.append(" AND m.submissionDate >= :from");
+                params.put("from", filter.getFrom());
+            }
+            if (filter.getTo() != null) {
+                jpql.append(" AND m.submissionDate < :to");
+                params.put("to", filter.getTo());
+            }
+        }
+        if (after != null) {
+            jpql.append(" AND (m.submissionDate < :cursorDate"
+                    + " OR (m.submissionDate = :cursorDate AND m.id < :cursorId))");
+            params.put("cursorDate", after.getSubmissionDate());
+            params.put("cursorId", after.getId());
+        }
+    }
+}
@@ -25,7 +25,8 @@ public interface PublicationsRepository extends JpaRepository<Publications, Long
     //Find approved and pending events of a student
     @Query("SELECT pu FROM Publications pu " +
           "WHERE pu.student = :student " +
-          "AND pu.verificationStatus IN ('Pending', 'Approved')")
+          "AND pu.verificationStatus IN (com.example.backend.model.student.VerificationStatus.PENDING, " +
+          "com.example.backend.model.student.VerificationStatus.APPROVED)")
     List<Publications> findPendingAndApprovedByStudent(@Param("student") Student student);
 
 
@@ -25,6 +25,7 @@ public interface SportsEventRepository extends JpaRepository<SportsEvent, Long>
     //Find approved and pending events of a student
     @Query("SELECT se FROM SportsEvent se " +
           "WHERE se.student = :student " +
-          "AND se.verificationStatus IN ('Pending', 'Approved')")
+          "AND se.verificationStatus IN (com.example.backend.model.student.VerificationStatus.PENDING, " +
+          "com.example.backend.model.student.VerificationStatus.APPROVED)")
     List<SportsEvent> findPendingAndApprovedByStudent(@Param("student") Student student);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.backend.repository.student;
 
 import com.example.backend.model.student.TechnicalEvent;
 import com.example.backend.model.Student;
+import com.example.backend.model.student.VerificationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,7 +14,7 @@ import java.util.List;
 public interface TechnicalEventRepository extends JpaRepository<TechnicalEvent, Long> {
     
     // Find by verification status
-    List<TechnicalEvent> findByVerificationStatus(String verificationStatus);
+    List<TechnicalEvent> findByVerificationStatus(VerificationStatus verificationStatus);
     
     // Find by student (using object reference)
     @Query("SELECT t FROM TechnicalEvent t WHERE t.student = :student")
@@ -23,12 +24,13 @@ public interface TechnicalEventRepository extends JpaRepository<TechnicalEvent,
     List<TechnicalEvent> findByStudent_Id(Long studentId);
     
     // Find pending events for a specific student
-    @Query("SELECT t FROM TechnicalEvent t WHERE t.student = :student AND t.verificationStatus = 'Pending'")
+    @Query("SELECT t FROM TechnicalEvent t WHERE t.student = :student AND t.verificationStatus = com.example.backend.model.student.VerificationStatus.PENDING")
     List<TechnicalEvent> findPendingByStudent(@Param("student") Student student);
 
     //Find approved and pending events of a student
     @Query("SELECT te FROM TechnicalEvent te " +
           "WHERE te.student = :student " +
-          "AND te.verificationStatus IN ('Pending', 'Approved')")
+          "AND te.verificationStatus IN (com.example.backend.model.student.VerificationStatus.PENDING, " +
+          "com.example.backend.model.student.VerificationStatus.APPROVED)")
     List<TechnicalEvent> findPendingAndApprovedByStudent(@Param("student") Student student);
 }
\ No newline at end of file
@@ -19,12 +19,20 @@ public class AdminService {
     @Autowired
     private UserRepository userRepository; // Using UserRepository instead of StudentRepository
 
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private UserCache userCache;
+
     public boolean toggleUserStatus(Long userId) {
         Optional<User> userOptional = userRepository.findById(userId);
         if (userOptional.isPresent()) {
             User user = userOptional.get();
             user.setActive(!user.isActive()); // Toggle status
             userRepository.save(user);
+            userCache.evict(user); // login checks isActive on the cached user
+            auditService.record("USER", user.getId(), user.isActive() ? "ACTIVATED" : "DEACTIVATED", user.getEmail());
             return user.isActive(); // Return new status
         }
         throw new RuntimeException("User not found");
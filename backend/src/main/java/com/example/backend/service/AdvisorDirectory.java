@@ -0,0 +1,96 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Faculty;
+import com.example.backend.repository.FacultyRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The faculty advisors named by one roster, resolved in a single query.
+ *
+ * A roster repeats a handful of advisor emails across thousands of rows. The import
+ * {@link #note}s every row's advisor on a first pass over the file, then {@link #resolve}s
+ * the distinct emails at once; rows are matched against the map afterwards. Advisors that
+ * don't exist are collected with the rows naming them, so they can be reported together.
+ */
+final class AdvisorDirectory {
+
+    private static final int ROWS_LISTED = 5;
+
+    // Keyed by normalized email; insertion order keeps the report in roster order
+    private final Map<String, Mention> mentions = new LinkedHashMap<>();
+    private final Map<String, Faculty> faculty = new HashMap<>();
+
+    void note(String email, int rowNumber) {
+        mentions.computeIfAbsent(normalize(email), key -> new Mention(email == null ? "" : email.trim()))
+                .add(rowNumber);
+    }
+
+    AdvisorDirectory resolve(FacultyRepository facultyRepository) {
+        List<String> emails = mentions.keySet().stream().filter(email -> !email.isEmpty()).collect(Collectors.toList());
+        if (!emails.isEmpty()) {
+            for (Faculty advisor : facultyRepository.findByEmailIn(emails)) {
+                faculty.put(normalize(advisor.getEmail()), advisor);
+            }
+        }
+        return this;
+    }
+
+    // Null for an advisor that does not exist
+    Faculty get(String email) {
+        return faculty.get(normalize(email));
+    }
+
+    int distinctAdvisors() {
+        return mentions.size();
+    }
+
+    boolean hasUnknownAdvisors() {
+        return mentions.keySet().stream().anyMatch(email -> !faculty.containsKey(email));
+    }
+
+    // e.g. "Faculty not found: a@x.edu (rows 4, 9 and 12 more), <blank> (row 7)"
+    String unknownAdvisorsReport() {
+        List<String> unknown = new ArrayList<>();
+        mentions.forEach((email, mention) -> {
+            if (!faculty.containsKey(email)) {
+                unknown.add(mention.describe());
+            }
+        });
+        return "Faculty not found: " + String.join(", ", unknown);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Mention {
+        private final String email;
+        private final List<Integer> rows = new ArrayList<>(ROWS_LISTED);
+        private int count;
+
+        Mention(String email) {
+            this.email = email;
+        }
+
+        void add(int rowNumber) {
+            if (rows.size() < ROWS_LISTED) {
+                rows.add(rowNumber);
+            }
+            count++;
+        }
+
+        String describe() {
+            String listed = rows.stream().map(String::valueOf).collect(Collectors.joining(", "));
+            String more = count > rows.size() ? " and " + (count - rows.size()) + " more" : "";
+            return (email.isEmpty() ? "<blank>" : email)
+                    + " (row" + (count > 1 ? "s " : " ") + listed + more + ")";
+        }
+    }
+}
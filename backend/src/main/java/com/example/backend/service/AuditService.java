@@ -0,0 +1,280 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.AuditLogDTO;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.event.RecordEvent;
+import com.example.backend.model.User;
+import com.example.backend.model.student.VerificationStatus;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only audit log. {@link #record} only puts the entry on a lock-free queue;
+ * a scheduled writer drains it into {@code audit_log} with JDBC batch inserts.
+ * Entries still queued at shutdown are written by {@link #shutdown}.
+ *
+ * The actor is the user logged in to the session of the current request. The queue is
+ * bounded; while the database is unreachable entries wait in it, and an entry the table
+ * refuses is retried on its own and dropped, with an error log, after a few attempts.
+ */
+@Service
+public class AuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_DETAILS_LENGTH = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_log (occurred_at, actor, action, entity_type, entity_id, details) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Queue<Pending> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock(); // one writer at a time
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${app.audit.max-buffered:10000}")
+    private int maxBuffered = 10000;
+
+    @Value("${app.audit.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    public AuditService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void record(String entityType, Long entityId, String action, String details) {
+        if (details != null && details.length() > MAX_DETAILS_LENGTH) {
+            details = details.substring(0, MAX_DETAILS_LENGTH);
+        }
+        if (buffered.get() >= maxBuffered) {
+            dropped.incrementAndGet(); // reported by the next flush
+            return;
+        }
+        buffer.add(new Pending(new AuditLogDTO(null, LocalDateTime.now(), currentActor(), action, entityType,
+                entityId, details)));
+        buffered.incrementAndGet();
+    }
+
+    // Record changes are audited once their transaction has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecordEvent(RecordEvent event) {
+        record("RECORD", event.getRecordId(), actionFor(event), describe(event));
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:1000}")
+    public void flush() {
+        int lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            logger.error("Audit buffer was full, {} entries were not recorded", lost);
+        }
+        if (buffered.get() == 0 || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            // Only what is queued now, so entries put back by a failed write wait for the next run
+            int remaining = buffered.get();
+            List<Pending> batch = new ArrayList<>(Math.min(remaining, batchSize));
+            Pending entry;
+            while (remaining-- > 0 && (entry = buffer.poll()) != null) {
+                buffered.decrementAndGet();
+                batch.add(entry);
+                if (batch.size() == batchSize) {
+                    if (!write(batch)) {
+                        return;
+                    }
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // Newest first; cursor is the id of the last entry of the previous page
+    public CursorPage<AuditLogDTO> search(String entityType, Long entityId, String actor, String action,
+                                          String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, occurred_at, actor, action, entity_type, entity_id, details FROM audit_log WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (entityType != null && !entityType.isBlank()) {
+            sql.append(" AND entity_type = ?");
+            args.add(entityType);
+        }
+        if (entityId != null) {
+            sql.append(" AND entity_id = ?");
+            args.add(entityId);
+        }
+        if (actor != null && !actor.isBlank()) {
+            sql.append(" AND actor = ?");
+            args.add(actor);
+        }
+        if (action != null && !action.isBlank()) {
+            sql.append(" AND action = ?");
+            args.add(action);
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            sql.append(" AND id < ?");
+            args.add(parseCursor(cursor));
+        }
+        sql.append(" ORDER BY id DESC LIMIT ?");
+        args.add(pageSize + 1);
+
+        List<AuditLogDTO> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new AuditLogDTO(
+                rs.getLong("id"),
+                rs.getTimestamp("occurred_at").toLocalDateTime(),
+                rs.getString("actor"),
+                rs.getString("action"),
+                rs.getString("entity_type"),
+                rs.getObject("entity_id", Long.class),
+                rs.getString("details")), args.toArray());
+
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<AuditLogDTO> page = new ArrayList<>(rows.subList(0, pageSize));
+        return new CursorPage<>(page, String.valueOf(page.get(pageSize - 1).getId()));
+    }
+
+    int pending() {
+        return buffered.get();
+    }
+
+    /**
+     * Writes the batch, falling back to one insert per entry if the batch fails so that a
+     * single bad entry doesn't hold back the rest. Returns false if the database could not
+     * be reached; the unwritten entries are then back on the queue.
+     */
+    private boolean write(List<Pending> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(p -> p.entry).toList(), batch.size(), (ps, e) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(e.getOccurredAt()));
+                ps.setString(2, e.getActor());
+                ps.setString(3, e.getAction());
+                ps.setString(4, e.getEntityType());
+                ps.setObject(5, e.getEntityId());
+                ps.setString(6, e.getDetails());
+            });
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            logger.warn("Failed to write {} audit entries as a batch, writing them one by one", batch.size(), ex);
+        } catch (RuntimeException ex) {
+            // Keep the entries for the next run rather than losing history
+            logger.error("Failed to write {} audit entries, will retry", batch.size(), ex);
+            requeue(batch);
+            return false;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            AuditLogDTO e = pending.entry;
+            try {
+                jdbcTemplate.update(INSERT_SQL, Timestamp.valueOf(e.getOccurredAt()), e.getActor(), e.getAction(),
+                        e.getEntityType(), e.getEntityId(), e.getDetails());
+            } catch (DataIntegrityViolationException ex) {
+                if (++pending.attempts >= maxAttempts) {
+                    logger.error("Dropping audit entry after {} attempts: {} {} {} {} by {}: {}", pending.attempts,
+                            e.getAction(), e.getEntityType(), e.getEntityId(), e.getDetails(), e.getActor(),
+                            ex.getMostSpecificCause().getMessage());
+                } else {
+                    requeue(List.of(pending));
+                }
+            } catch (RuntimeException ex) {
+                logger.error("Failed to write {} audit entries, will retry", batch.size() - i, ex);
+                requeue(batch.subList(i, batch.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void requeue(List<Pending> entries) {
+        buffer.addAll(entries);
+        buffered.addAndGet(entries.size());
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // The user AuthController put in the session at login; "system" outside of a request
+    static String currentActor() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return "system";
+        }
+        Object user = request.getAttribute("user", RequestAttributes.SCOPE_SESSION);
+        return user instanceof User ? ((User) user).getEmail() : "anonymous";
+    }
+
+    static String actionFor(RecordEvent event) {
+        switch (event.getKind()) {
+            case CREATED:
+                return "SUBMITTED";
+            case VERIFIED:
+                return event.getAfter().getVerificationStatus() == VerificationStatus.APPROVED ? "APPROVED" : "REJECTED";
+            case UNFLAGGED:
+                return "RESTORED";
+            default:
+                return event.getKind().name();
+        }
+    }
+
+    private static String describe(RecordEvent event) {
+        RecordEvent.State state = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        StringBuilder details = new StringBuilder(state.getType())
+                .append(" student=").append(state.getStudentId())
+                .append(" faculty=").append(state.getFacultyId());
+        if (event.getBefore() != null && event.getAfter() != null
+                && event.getBefore().getVerificationStatus() != event.getAfter().getVerificationStatus()) {
+            details.append(' ').append(event.getBefore().getVerificationStatus().getLabel())
+                    .append(" -> ").append(event.getAfter().getVerificationStatus().getLabel());
+        }
+        return details.toString();
+    }
+
+    private static final class Pending {
+        final AuditLogDTO entry;
+        int attempts;
+
+        Pending(AuditLogDTO entry) {
+            this.entry = entry;
+        }
+    }
+}
@@ -11,9 +11,11 @@ import java.util.Optional;
 public class AuthenticationService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
-    public AuthenticationService(UserRepository userRepository) {
+    public AuthenticationService(UserRepository userRepository, UserCache userCache) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     public boolean authenticate(String email) {
@@ -35,6 +37,7 @@ public class AuthenticationService {
         
         student.setActive(true);
         userRepository.save(student);
+        userCache.evict(student);
         return "Student registration successful!";
     }
 
@@ -48,6 +51,7 @@ public class AuthenticationService {
         
         fa.setActive(true);
         userRepository.save(fa);
+        userCache.evict(fa);
         return "FA registration successful!";
     }
 
@@ -61,6 +65,7 @@ public class AuthenticationService {
         
         admin.setActive(true);
         userRepository.save(admin);
+        userCache.evict(admin);
         return "Admin registration successful!";
     }
 
@@ -77,6 +82,7 @@ public class AuthenticationService {
         User user = optionalUser.get();
         user.setActive(false);
         userRepository.save(user);
+        userCache.evict(user);
         return "User deactivated successfully!";
     }
 
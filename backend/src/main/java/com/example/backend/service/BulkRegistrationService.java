@@ -0,0 +1,207 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Role;
+import com.example.backend.model.Student;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registers imported students a chunk at a time with plain JDBC.
+ *
+ * {@link AuthenticationService#registerStudent} costs a lookup and an IDENTITY insert per
+ * student, and IDENTITY keeps Hibernate from batching at all. Here a chunk costs four
+ * statements: one query for the emails and roll numbers already taken, a batched insert
+ * into {@code users}, one query that reads the generated ids back by email (unique), and a
+ * batched insert into {@code student}. With {@code rewriteBatchedStatements=true} on the
+ * JDBC URL the driver sends each batch as a single multi-row INSERT.
+ */
+@Service
+public class BulkRegistrationService {
+
+    static final String EMAIL_TAKEN = "Email is already registered";
+    static final String ROLL_NO_TAKEN = "Roll number is already registered";
+    static final String EMAIL_MISSING = "Email cannot be null or empty";
+    static final String FACULTY_MISSING = "Faculty advisor is required";
+
+    private static final String TAKEN_SQL =
+            "SELECT 'email' AS field, email AS value FROM users WHERE email IN (%s) "
+            + "UNION ALL SELECT 'roll_no', roll_no FROM student WHERE roll_no IN (%s)";
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (name, email, role, is_active) VALUES (?, ?, ?, ?)";
+    private static final String IDS_SQL = "SELECT id, email FROM users WHERE email IN (%s)";
+    private static final String INSERT_STUDENT_SQL =
+            "INSERT INTO student (id, roll_no, date_of_birth, degree, department, batch, student_class, cgpa, "
+            + "gender, address, city, state, postal_code, country, faculty_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCache userCache;
+
+    public BulkRegistrationService(JdbcTemplate jdbcTemplate, UserCache userCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCache = userCache;
+    }
+
+    /**
+     * Registers the students that are not registered yet, each with its faculty already set.
+     * Returns, index for index, {@code null} for a student that was registered or the reason
+     * it was not; registered students get their generated id.
+     */
+    @Transactional
+    public List<String> registerStudents(List<Student> students) {
+        String[] outcomes = new String[students.size()];
+        List<Student> candidates = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            if (student.getEmail() == null || student.getEmail().trim().isEmpty()) {
+                outcomes[i] = EMAIL_MISSING;
+            } else if (student.getFaculty() == null) {
+                outcomes[i] = FACULTY_MISSING;
+            } else {
+                candidates.add(student);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Arrays.asList(outcomes);
+        }
+
+        // Taken in the database, or by an earlier row of the same chunk
+        TakenKeys taken = findTaken(candidates.stream().map(Student::getEmail).toList(),
+                candidates.stream().map(Student::getRollNo).toList());
+        Set<String> takenEmails = taken.emails;
+        Set<String> takenRollNos = taken.rollNos;
+
+        List<Student> accepted = new ArrayList<>(candidates.size());
+        for (int i = 0; i < students.size(); i++) {
+            if (outcomes[i] != null) {
+                continue;
+            }
+            Student student = students.get(i);
+            if (!takenEmails.add(normalize(student.getEmail()))) {
+                outcomes[i] = EMAIL_TAKEN;
+            } else if (!takenRollNos.add(normalize(student.getRollNo()))) {
+                outcomes[i] = ROLL_NO_TAKEN;
+            } else {
+                student.setRole(Role.STUDENT);
+                student.setActive(true);
+                accepted.add(student);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Arrays.asList(outcomes);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, accepted, accepted.size(), (ps, student) -> {
+            ps.setString(1, student.getName());
+            ps.setString(2, student.getEmail());
+            ps.setString(3, Role.STUDENT.name());
+            ps.setBoolean(4, true);
+        });
+        assignIds(accepted);
+        jdbcTemplate.batchUpdate(INSERT_STUDENT_SQL, accepted, accepted.size(), (ps, student) -> {
+            ps.setLong(1, student.getId());
+            ps.setString(2, student.getRollNo());
+            ps.setTimestamp(3, student.getDateOfBirth() == null ? null : new Timestamp(student.getDateOfBirth().getTime()));
+            ps.setString(4, student.getDegree());
+            ps.setString(5, student.getDepartment());
+            ps.setInt(6, student.getBatch());
+            ps.setString(7, student.getStudentClass());
+            if (student.getCgpa() == null) {
+                ps.setNull(8, Types.DOUBLE);
+            } else {
+                ps.setDouble(8, student.getCgpa());
+            }
+            ps.setString(9, student.getGender());
+            ps.setString(10, student.getAddress());
+            ps.setString(11, student.getCity());
+            ps.setString(12, student.getState());
+            ps.setString(13, student.getPostalCode());
+            ps.setString(14, student.getCountry());
+            ps.setLong(15, student.getFaculty().getId());
+        });
+        accepted.forEach(userCache::evict); // drops cached "unknown email" entries
+        return Arrays.asList(outcomes);
+    }
+
+    // Which of these emails and roll numbers are already registered, in one query
+    public TakenKeys findTaken(List<String> emails, List<String> rollNos) {
+        TakenKeys taken = new TakenKeys();
+        if (emails.isEmpty() && rollNos.isEmpty()) {
+            return taken;
+        }
+        // An empty IN list is a syntax error; NULL matches nothing
+        List<Object> args = new ArrayList<>(emails.size() + rollNos.size() + 2);
+        args.addAll(emails.isEmpty() ? Collections.singletonList(null) : emails);
+        args.addAll(rollNos.isEmpty() ? Collections.singletonList(null) : rollNos);
+        String sql = String.format(TAKEN_SQL,
+                String.join(", ", Collections.nCopies(Math.max(1, emails.size()), "?")),
+                String.join(", ", Collections.nCopies(Math.max(1, rollNos.size()), "?")));
+        for (Map<String, Object> row : jdbcTemplate.queryForList(sql, args.toArray())) {
+            String value = (String) row.get("value");
+            if ("email".equals(row.get("field"))) {
+                taken.emails.add(normalize(value));
+            } else {
+                taken.rollNos.add(normalize(value));
+            }
+        }
+        return taken;
+    }
+
+    // Reads the AUTO_INCREMENT ids of the new users back in one query instead of one per insert
+    private void assignIds(List<Student> accepted) {
+        Map<String, Long> ids = new HashMap<>(accepted.size() * 2);
+        String placeholders = String.join(", ", Collections.nCopies(accepted.size(), "?"));
+        for (Map<String, Object> row : jdbcTemplate.queryForList(String.format(IDS_SQL, placeholders),
+                accepted.stream().map(Student::getEmail).toArray())) {
+            ids.put(normalize((String) row.get("email")), ((Number) row.get("id")).longValue());
+        }
+        for (Student student : accepted) {
+            Long id = ids.get(normalize(student.getEmail()));
+            if (id == null) {
+                throw new IllegalStateException("No id was generated for " + student.getEmail());
+            }
+            student.setId(id);
+        }
+    }
+
+    // The unique keys compare case-insensitively under MySQL's default collation
+    private static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Emails and roll numbers already in use, compared as the database's unique keys compare them
+    public static final class TakenKeys {
+        private final Set<String> emails = new HashSet<>();
+        private final Set<String> rollNos = new HashSet<>();
+
+        TakenKeys() {
+        }
+
+        TakenKeys(Collection<String> emails, Collection<String> rollNos) {
+            emails.forEach(email -> this.emails.add(normalize(email)));
+            rollNos.forEach(rollNo -> this.rollNos.add(normalize(rollNo)));
+        }
+
+        public boolean isEmailTaken(String email) {
+            return emails.contains(normalize(email));
+        }
+
+        public boolean isRollNoTaken(String rollNo) {
+            return rollNos.contains(normalize(rollNo));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.DashboardCountsDTO;
+import com.example.backend.event.RecordEvent;
+import com.example.backend.model.student.RecordType;
+import com.example.backend.model.student.VerificationStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dashboard counters kept in memory. They are seeded once from a GROUP BY over
+ * {@code main} and then moved by {@link RecordEvent}s after each commit, so reading
+ * a scope never touches the database.
+ */
+@Service
+public class DashboardService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    static final String ALL = "all";
+
+    private static final String SEED_QUERY =
+            "SELECT dtype, verification_status, faculty_id, student_id, flag, COUNT(*) AS n "
+            + "FROM main GROUP BY dtype, verification_status, faculty_id, student_id, flag";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // scope ("all", "faculty:1", "student:7") -> counters
+    private volatile ConcurrentMap<String, Counters> scopes = new ConcurrentHashMap<>();
+
+    public DashboardService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Runs after the schema migrations and before the web server accepts requests,
+    // so no record event can race the seed
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        ConcurrentMap<String, Counters> seeded = new ConcurrentHashMap<>();
+        jdbcTemplate.query(SEED_QUERY, rs -> {
+            RecordEvent.State state = new RecordEvent.State(
+                    typeName(rs.getString("dtype")),
+                    VerificationStatus.fromCode(rs.getString("verification_status")),
+                    rs.getBoolean("flag"),
+                    rs.getObject("faculty_id", Long.class),
+                    rs.getObject("student_id", Long.class));
+            apply(seeded, state, rs.getLong("n"));
+        });
+        scopes = seeded;
+        logger.info("Dashboard counters seeded for {} scopes", seeded.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecordEvent(RecordEvent event) {
+        if (event.getBefore() != null) {
+            apply(scopes, event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            apply(scopes, event.getAfter(), 1);
+        }
+    }
+
+    public DashboardCountsDTO getInstitutionCounts() {
+        return snapshot(ALL);
+    }
+
+    public DashboardCountsDTO getFacultyCounts(Long facultyId) {
+        return snapshot(facultyScope(facultyId));
+    }
+
+    public DashboardCountsDTO getStudentCounts(Long studentId) {
+        return snapshot(studentScope(studentId));
+    }
+
+    private DashboardCountsDTO snapshot(String scope) {
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Map<String, Long>> byType = new TreeMap<>();
+        long total = 0;
+        long flagged = 0;
+
+        Counters counters = scopes.get(scope);
+        if (counters != null) {
+            for (Map.Entry<String, LongAdder> entry : counters.byTypeAndStatus.entrySet()) {
+                long count = entry.getValue().sum();
+                if (count == 0) {
+                    continue;
+                }
+                String[] key = entry.getKey().split("\\|", 2);
+                byType.computeIfAbsent(key[0], t -> new TreeMap<>()).merge(key[1], count, Long::sum);
+                byStatus.merge(key[1], count, Long::sum);
+                total += count;
+            }
+            flagged = counters.flagged.sum();
+        }
+        return new DashboardCountsDTO(scope, total, flagged, byStatus, byType);
+    }
+
+    private static void apply(ConcurrentMap<String, Counters> target, RecordEvent.State state, long delta) {
+        add(target, ALL, state, delta);
+        if (state.getFacultyId() != null) {
+            add(target, facultyScope(state.getFacultyId()), state, delta);
+        }
+        if (state.getStudentId() != null) {
+            add(target, studentScope(state.getStudentId()), state, delta);
+        }
+    }
+
+    private static void add(ConcurrentMap<String, Counters> target, String scope, RecordEvent.State state, long delta) {
+        Counters counters = target.computeIfAbsent(scope, s -> new Counters());
+        String key = state.getType() + "|" + state.getVerificationStatus().getLabel();
+        counters.byTypeAndStatus.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        if (state.isFlagged()) {
+            counters.flagged.add(delta);
+        }
+    }
+
+    // main.dtype holds the discriminator; the API uses the entity name
+    private static String typeName(String dtype) {
+        try {
+            return RecordType.from(dtype).getTypeName();
+        } catch (IllegalArgumentException e) {
+            return dtype;
+        }
+    }
+
+    private static String facultyScope(Long facultyId) {
+        return "faculty:" + facultyId;
+    }
+
+    private static String studentScope(Long studentId) {
+        return "student:" + studentId;
+    }
+
+    private static class Counters {
+        final ConcurrentMap<String, LongAdder> byTypeAndStatus = new ConcurrentHashMap<>();
+        final LongAdder flagged = new LongAdder();
+    }
+}
@@ -0,0 +1,410 @@
+package com.example.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Background collector for document files no record points to.
+ *
+ * Each run examines the next batch of files under the documents directory in path
+ * order, starting after a cursor kept in {@code .gc-cursor}, so a pass over a large
+ * store is spread over many runs and resumes after a restart. Files older than the
+ * grace period are looked up against {@code main.document_path} and
+ * {@code faculty_publications.document_path} in one query per batch; unreferenced ones
+ * are moved to {@code .quarantine/} and deleted once they have stayed there for the
+ * quarantine period. At the end of every pass the quarantine is purged and stale
+ * upload and staging files in {@code .tmp/} are cleaned up, promoting a staged file
+ * whose record committed but whose blob never made it into place.
+ *
+ * Runs on a single low-priority thread and touches at most
+ * {@code app.documents.gc.files-per-second} files per second, so it stays out of the
+ * way of request I/O.
+ */
+@Service
+public class DocumentCollectorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentCollectorService.class);
+
+    static final String CURSOR_FILE = ".gc-cursor";
+    static final String QUARANTINE_DIR = ".quarantine";
+
+    private static final String REFERENCED_SQL =
+            "SELECT document_path FROM main WHERE document_path IN (%1$s) "
+            + "UNION SELECT document_path FROM faculty_publications WHERE document_path IN (%1$s)";
+    private static final String DELETE_BLOB_SQL = "DELETE FROM document_blob WHERE storage_key = ?";
+
+    private final DocumentStorageService storage;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path root;
+    private final Path quarantine;
+    private final int batchSize;
+    private final long graceMillis;
+    private final long quarantineMillis;
+    private final long pauseNanos;
+    private final boolean enabled;
+
+    private final ExecutorService worker;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private long nextPermit;
+
+    private final Counter quarantined;
+    private final Counter deleted;
+    private final Counter restored;
+    private final Counter promoted;
+
+    @Autowired
+    public DocumentCollectorService(DocumentStorageService storage, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                    @Value("${app.documents.gc.enabled:true}") boolean enabled,
+                                    @Value("${app.documents.gc.batch-size:500}") int batchSize,
+                                    @Value("${app.documents.gc.grace-hours:24}") long graceHours,
+                                    @Value("${app.documents.gc.quarantine-hours:168}") long quarantineHours,
+                                    @Value("${app.documents.gc.files-per-second:50}") int filesPerSecond) {
+        this.storage = storage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.root = storage.getRoot();
+        this.quarantine = root.resolve(QUARANTINE_DIR);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.graceMillis = TimeUnit.HOURS.toMillis(graceHours);
+        this.quarantineMillis = TimeUnit.HOURS.toMillis(quarantineHours);
+        this.pauseNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, filesPerSecond);
+        this.nextPermit = System.nanoTime();
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "document-gc");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        this.quarantined = Counter.builder("documents.gc.files").tag("action", "quarantined").register(meterRegistry);
+        this.deleted = Counter.builder("documents.gc.files").tag("action", "deleted").register(meterRegistry);
+        this.restored = Counter.builder("documents.gc.files").tag("action", "restored").register(meterRegistry);
+        this.promoted = Counter.builder("documents.gc.files").tag("action", "promoted").register(meterRegistry);
+    }
+
+    // Hands one batch to the collector thread; skipped while the previous one is still running
+    @Scheduled(initialDelayString = "${app.documents.gc.initial-delay-ms:300000}",
+               fixedDelayString = "${app.documents.gc.interval-ms:60000}")
+    public void schedule() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        worker.execute(() -> {
+            try {
+                collectBatch();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Document collection failed, will retry on the next run", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    // One increment: the next batch after the cursor, plus the end-of-pass cleanup when the store is exhausted
+    void collectBatch() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        String cursor = readCursor();
+        List<Path> batch = new ArrayList<>(batchSize);
+        scan(root, cursor == null ? null : cursor.split("/"), 0, cursor != null, batch);
+
+        long cutoff = System.currentTimeMillis() - graceMillis;
+        List<Path> candidates = new ArrayList<>();
+        for (Path file : batch) {
+            if (lastModified(file) < cutoff) {
+                candidates.add(file);
+            }
+        }
+        Set<String> referenced = referenced(referenceForms(candidates));
+        for (Path file : candidates) {
+            if (!isReferenced(file, referenced)) {
+                quarantine(file);
+            }
+        }
+
+        if (batch.size() < batchSize) {
+            // End of the pass; the next one starts from the top
+            purgeQuarantine();
+            sweepTempDir();
+            writeCursor(null);
+        } else {
+            writeCursor(relative(root, batch.get(batch.size() - 1)));
+        }
+    }
+
+    /**
+     * Appends the regular files after {@code cursor} in path order until the batch is full.
+     * Directories are listed one at a time and sorted by name, so only the branch holding the
+     * cursor is skipped through rather than the whole tree.
+     */
+    private void scan(Path dir, String[] cursor, int depth, boolean onCursorPath, List<Path> batch) throws IOException {
+        List<Path> children;
+        try (Stream<Path> listing = Files.list(dir)) {
+            children = listing.sorted(Comparator.comparing(p -> p.getFileName().toString())).toList();
+        } catch (NoSuchFileException e) {
+            return; // removed while we were walking
+        }
+        for (Path child : children) {
+            if (batch.size() >= batchSize) {
+                return;
+            }
+            String name = child.getFileName().toString();
+            if (depth == 0 && name.startsWith(".")) {
+                continue; // staging, quarantine and the cursor itself
+            }
+            boolean childOnCursorPath = false;
+            if (onCursorPath && depth < cursor.length) {
+                int order = name.compareTo(cursor[depth]);
+                if (order < 0) {
+                    continue;
+                }
+                childOnCursorPath = order == 0;
+            }
+            if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                scan(child, cursor, depth + 1, childOnCursorPath, batch);
+            } else if (!childOnCursorPath && Files.isRegularFile(child, LinkOption.NOFOLLOW_LINKS)) {
+                batch.add(child);
+            }
+        }
+    }
+
+    // Moves an unreferenced file aside; checked again under the key lock so a racing submission wins
+    private void quarantine(Path file) {
+        String relative = relative(root, file);
+        synchronized (storage.lockFor(relative)) {
+            try {
+                if (!referenced(referenceForms(List.of(file))).isEmpty()) {
+                    return;
+                }
+                Path target = quarantine.resolve(relative);
+                Files.createDirectories(target.getParent());
+                Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+                // The quarantine period counts from now, not from the upload
+                Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+                quarantined.increment();
+                logger.info("Quarantined unreferenced document {}", relative);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not quarantine {}", relative, e);
+            }
+        }
+    }
+
+    // Deletes quarantined files past their period; one that got referenced again is put back
+    private void purgeQuarantine() throws IOException {
+        if (!Files.isDirectory(quarantine)) {
+            return;
+        }
+        List<Path> expired = new ArrayList<>();
+        long cutoff = System.currentTimeMillis() - quarantineMillis;
+        try (Stream<Path> files = Files.walk(quarantine)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                if (lastModified(file) < cutoff) {
+                    expired.add(file);
+                }
+            }
+        }
+        for (Path file : expired) {
+            String relative = relative(quarantine, file);
+            synchronized (storage.lockFor(relative)) {
+                try {
+                    Path original = root.resolve(relative);
+                    if (!referenced(referenceForms(relative)).isEmpty()) {
+                        if (!Files.exists(original)) {
+                            Files.createDirectories(original.getParent());
+                            Files.move(file, original);
+                            restored.increment();
+                            logger.warn("Restored document {} from quarantine, it is referenced again", relative);
+                            continue;
+                        }
+                    } else if (DocumentStorageService.isKey(relative)) {
+                        jdbcTemplate.update(DELETE_BLOB_SQL, relative);
+                    }
+                    Files.deleteIfExists(file);
+                    deleted.increment();
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Could not purge quarantined document {}", relative, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stale files in the staging area: interrupted uploads are deleted, and a staged document
+     * whose record committed before the process died is moved to its key instead.
+     */
+    private void sweepTempDir() throws IOException {
+        Path tempDir = storage.getTempDir();
+        if (!Files.isDirectory(tempDir)) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - graceMillis;
+        List<Path> stale = new ArrayList<>();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file) && lastModified(file) < cutoff) {
+                    stale.add(file);
+                }
+            }
+        }
+
+        List<String> stagedKeys = new ArrayList<>();
+        for (Path file : stale) {
+            String key = stagedKey(file.getFileName().toString());
+            if (key != null) {
+                stagedKeys.add(key);
+            }
+        }
+        Set<String> referenced = referenced(stagedKeys);
+
+        for (Path file : stale) {
+            String key = stagedKey(file.getFileName().toString());
+            try {
+                if (key != null && referenced.contains(key)) {
+                    synchronized (storage.lockFor(key)) {
+                        Path target = root.resolve(key);
+                        if (!Files.exists(target)) {
+                            Files.createDirectories(target.getParent());
+                            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+                            promoted.increment();
+                            logger.warn("Promoted staged document {} left behind after its record was saved", key);
+                            continue;
+                        }
+                    }
+                }
+                Files.deleteIfExists(file);
+                deleted.increment();
+            } catch (IOException e) {
+                logger.warn("Could not clean up staged file {}", file.getFileName(), e);
+            }
+        }
+    }
+
+    // <hash><ext>.<uuid>.staged -> sha256/<h0h1>/<h2h3>/<hash><ext>
+    static String stagedKey(String filename) {
+        if (!filename.endsWith(DocumentStorageService.STAGED_SUFFIX)) {
+            return null;
+        }
+        String name = filename.substring(0, filename.length() - DocumentStorageService.STAGED_SUFFIX.length());
+        int nonce = name.lastIndexOf('.');
+        if (nonce < 64) {
+            return null;
+        }
+        name = name.substring(0, nonce);
+        String key = DocumentStorageService.keyFor(name.substring(0, 64), name);
+        return DocumentStorageService.isKey(key) ? key : null;
+    }
+
+    // documentPath holds the key for stored documents and the absolute path for legacy ones
+    private Collection<String> referenceForms(List<Path> files) {
+        Set<String> forms = new LinkedHashSet<>();
+        for (Path file : files) {
+            forms.addAll(referenceForms(relative(root, file)));
+        }
+        return forms;
+    }
+
+    private Collection<String> referenceForms(String relative) {
+        return List.of(relative, root.resolve(relative).toString());
+    }
+
+    private boolean isReferenced(Path file, Set<String> referenced) {
+        for (String form : referenceForms(relative(root, file))) {
+            if (referenced.contains(form)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The subset of the given document paths that some record or publication holds
+    private Set<String> referenced(Collection<String> documentPaths) {
+        if (documentPaths.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(documentPaths.size(), "?"));
+        List<Object> args = new ArrayList<>(documentPaths);
+        args.addAll(documentPaths);
+        return new HashSet<>(jdbcTemplate.queryForList(String.format(REFERENCED_SQL, placeholders),
+                String.class, args.toArray()));
+    }
+
+    // Every stat paces the walk, so a pass over a large store never saturates the disk
+    private long lastModified(Path file) throws IOException {
+        pace();
+        try {
+            return Files.getLastModifiedTime(file, LinkOption.NOFOLLOW_LINKS).toMillis();
+        } catch (NoSuchFileException e) {
+            return Long.MAX_VALUE; // deleted in the meantime; never a candidate
+        }
+    }
+
+    private void pace() {
+        long now = System.nanoTime();
+        if (nextPermit - now > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(nextPermit - now);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Document collection interrupted", e);
+            }
+            now = nextPermit;
+        }
+        nextPermit = now + pauseNanos;
+    }
+
+    private String readCursor() throws IOException {
+        Path file = root.resolve(CURSOR_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String cursor = Files.readString(file, StandardCharsets.UTF_8).trim();
+        return cursor.isEmpty() ? null : cursor;
+    }
+
+    private void writeCursor(String cursor) throws IOException {
+        Path file = root.resolve(CURSOR_FILE);
+        Path temp = root.resolve(CURSOR_FILE + ".tmp");
+        Files.writeString(temp, cursor == null ? "" : cursor, StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String relative(Path base, Path file) {
+        return base.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+}
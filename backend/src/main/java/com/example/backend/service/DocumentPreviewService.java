@@ -0,0 +1,538 @@
+package com.example.backend.service;
+
+import com.example.backend.event.RecordEvent;
+import com.example.backend.model.student.VerificationStatus;
+import com.example.backend.service.DocumentStorageService.StoredDocument;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.io.RandomAccessSourceFactory;
+import com.itextpdf.text.pdf.PRStream;
+import com.itextpdf.text.pdf.PdfArray;
+import com.itextpdf.text.pdf.PdfDictionary;
+import com.itextpdf.text.pdf.PdfName;
+import com.itextpdf.text.pdf.PdfNumber;
+import com.itextpdf.text.pdf.PdfObject;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.RandomAccessFileOrArray;
+import com.itextpdf.text.pdf.parser.ImageRenderInfo;
+import com.itextpdf.text.pdf.parser.PdfImageObject;
+import com.itextpdf.text.pdf.parser.PdfReaderContentParser;
+import com.itextpdf.text.pdf.parser.RenderListener;
+import com.itextpdf.text.pdf.parser.TextRenderInfo;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Small JPEG previews of record documents for the review screens.
+ *
+ * A preview is rendered on first request and kept in {@code .previews/} under the
+ * documents directory, keyed by the document's content hash (legacy documents by path,
+ * size and mtime), so duplicate uploads share one preview. The cache is an LRU bounded
+ * by total bytes; file mtimes carry the recency across restarts. Newly submitted pending
+ * records get their preview rendered in the background after commit.
+ *
+ * Images are decoded with subsampling. PDFs are previewed by the image that fills most of
+ * their first page, which is what a scanned certificate consists of. Smaller images, such
+ * as a logo or signature on a generated certificate, don't stand for the page and are
+ * ignored. Scanned JPEGs are decoded with subsampling too, and other page images are only
+ * decoded up to {@link #MAX_DECODED_PIXELS}. PDFs without such an image have no preview and
+ * the client falls back to the download.
+ */
+@Service
+public class DocumentPreviewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentPreviewService.class);
+
+    static final String PREVIEW_DIR = ".previews";
+    private static final String NO_PREVIEW = ".none"; // marker for documents that can't be previewed
+    private static final long NO_PREVIEW_SIZE = 4096; // what a marker costs on disk, counted against the budget
+    static final double MIN_PAGE_COVERAGE = 0.5;
+    static final long MAX_DECODED_PIXELS = 12_000_000; // about 48 MB as RGB
+    private static final int MAX_ATTEMPTS = 3; // renders of one request whose file was evicted under it
+    private static final long TOUCH_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final DocumentStorageService storage;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path cacheDir;
+    private final int maxSize;
+    private final long maxBytes;
+    private final Semaphore renderers;
+    private final ExecutorService prefetcher;
+
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    // Access-ordered: file name -> entry; loaded from disk on first use
+    private final LinkedHashMap<String, CacheEntry> index = new LinkedHashMap<>(16, 0.75f, true);
+    private boolean loaded;
+    private long totalBytes;
+
+    @Autowired
+    public DocumentPreviewService(DocumentStorageService storage, JdbcTemplate jdbcTemplate,
+                                  @Value("${app.documents.preview.max-size:480}") int maxSize,
+                                  @Value("${app.documents.preview.cache-max-bytes:268435456}") long maxBytes,
+                                  @Value("${app.documents.preview.max-concurrent:2}") int maxConcurrent) {
+        this(storage, jdbcTemplate, storage.getRoot().resolve(PREVIEW_DIR), maxSize, maxBytes, maxConcurrent,
+                new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(256), runnable -> {
+                    Thread thread = new Thread(runnable, "document-preview");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy()));
+    }
+
+    DocumentPreviewService(DocumentStorageService storage, JdbcTemplate jdbcTemplate, Path cacheDir, int maxSize,
+                           long maxBytes, int maxConcurrent, ExecutorService prefetcher) {
+        this.storage = storage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheDir = cacheDir;
+        this.maxSize = maxSize;
+        this.maxBytes = maxBytes;
+        this.renderers = new Semaphore(Math.max(1, maxConcurrent));
+        this.prefetcher = prefetcher;
+    }
+
+    /**
+     * The cached preview of a document, rendered now if there is none yet.
+     * Returns null if the document's type can't be previewed.
+     */
+    public StoredDocument preview(StoredDocument document) throws IOException {
+        String name = previewName(document);
+        String baseName = document.getFilename().contains(".")
+                ? document.getFilename().substring(0, document.getFilename().lastIndexOf('.'))
+                : document.getFilename();
+        // The index lock is released once the path is known, so another render can evict the
+        // file before it is read; it is then rendered again, which re-adds it as most recent
+        for (int attempt = 1; ; attempt++) {
+            Path preview = cached(name);
+            if (preview == null) {
+                preview = render(name, document);
+            }
+            if (preview == null) {
+                return null;
+            }
+            try {
+                return new StoredDocument(preview, baseName + "-preview.jpg", Files.size(preview),
+                        Files.getLastModifiedTime(preview).toMillis(), "\"" + name.substring(0, name.length() - 4) + "\"",
+                        document.isImmutable(), MediaType.IMAGE_JPEG);
+            } catch (NoSuchFileException e) {
+                // Eviction already dropped the index entry, so the next pass renders it again
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // New pending submissions are what faculty open next, so their previews are made ahead of time
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecordEvent(RecordEvent event) {
+        if (event.getKind() != RecordEvent.Kind.CREATED || event.getAfter() == null
+                || event.getAfter().getVerificationStatus() != VerificationStatus.PENDING) {
+            return;
+        }
+        Long recordId = event.getRecordId();
+        // Dropped when the queue is full; the preview is then rendered on first request
+        prefetcher.execute(() -> prefetch(recordId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetcher.shutdownNow();
+    }
+
+    void prefetch(Long recordId) {
+        try {
+            List<String> paths = jdbcTemplate.queryForList("SELECT document_path FROM main WHERE id = ?", String.class, recordId);
+            StoredDocument document = paths.isEmpty() ? null : storage.open(paths.get(0));
+            if (document != null) {
+                preview(document);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not prepare preview for record {}", recordId, e);
+        }
+    }
+
+    // <key>-<size>.jpg, where key is the content hash for stored documents
+    String previewName(StoredDocument document) {
+        String key = document.isImmutable()
+                ? document.getETag().replace("\"", "")
+                : sha256Hex(document.getPath().toAbsolutePath() + "|" + document.getETag());
+        return key + "-" + maxSize + ".jpg";
+    }
+
+    private Path cached(String name) throws IOException {
+        synchronized (index) {
+            loadIndex();
+            CacheEntry entry = index.get(name);
+            if (entry == null || entry.unsupported) {
+                return null;
+            }
+            Path file = cacheDir.resolve(name);
+            if (!Files.exists(file)) {
+                remove(name);
+                return null;
+            }
+            // Persist recency for the next start, but not on every hit
+            long now = System.currentTimeMillis();
+            if (now - entry.touched > TOUCH_INTERVAL_MILLIS) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+                entry.touched = now;
+            }
+            return file;
+        }
+    }
+
+    // One render per preview at a time; concurrent requests for it wait for the same result
+    private Path render(String name, StoredDocument document) throws IOException {
+        synchronized (index) {
+            CacheEntry entry = index.get(name);
+            if (entry != null && entry.unsupported) {
+                return null;
+            }
+        }
+        CompletableFuture<Path> pending = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(name, pending);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (RuntimeException e) {
+                throw new IOException("Preview rendering failed", e);
+            }
+        }
+        try {
+            Path result = renderAndStore(name, document);
+            pending.complete(result);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(name);
+        }
+    }
+
+    private Path renderAndStore(String name, StoredDocument document) throws IOException {
+        BufferedImage source;
+        renderers.acquireUninterruptibly();
+        try {
+            source = read(document);
+        } finally {
+            renderers.release();
+        }
+
+        Files.createDirectories(cacheDir);
+        if (source == null) {
+            Path marker = cacheDir.resolve(name + NO_PREVIEW);
+            Files.write(marker, new byte[0]);
+            add(name, NO_PREVIEW_SIZE, true);
+            return null;
+        }
+
+        Path temp = Files.createTempFile(cacheDir, "preview-", ".part");
+        try {
+            writeJpeg(scale(source, maxSize), temp);
+            Path target = cacheDir.resolve(name);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            add(name, Files.size(target), false);
+            return target;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private BufferedImage read(StoredDocument document) throws IOException {
+        MediaType type = document.getMediaType();
+        if (MediaType.APPLICATION_PDF.equalsTypeAndSubtype(type)) {
+            return readPdfFirstPage(document.getPath());
+        }
+        if ("image".equals(type.getType())) {
+            return readImage(document.getPath());
+        }
+        return null;
+    }
+
+    private BufferedImage readImage(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            return readSubsampled(in);
+        }
+    }
+
+    // Subsampled while decoding, so a 40-megapixel photo never becomes a full-size bitmap
+    private BufferedImage readSubsampled(ImageInputStream in) throws IOException {
+        Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+        if (readers == null || !readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(in, true, true);
+            int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+            ImageReadParam param = reader.getDefaultReadParam();
+            int step = Math.max(1, longest / (maxSize * 2));
+            param.setSourceSubsampling(step, step, 0, 0);
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private BufferedImage readPdfFirstPage(Path file) throws IOException {
+        // Partial read: only the objects the first page needs are parsed
+        PdfReader reader = new PdfReader(new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().setForceRead(false).createBestSource(file.toString())), null);
+        try {
+            if (reader.getNumberOfPages() < 1) {
+                return null;
+            }
+            Rectangle page = reader.getCropBox(1);
+            return new PdfReaderContentParser(reader)
+                    .processContent(1, new PageImage((double) page.getWidth() * page.getHeight())).image;
+        } catch (RuntimeException e) {
+            logger.debug("Could not parse first page of {}", file, e);
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    static BufferedImage scale(BufferedImage source, int maxSize) {
+        double factor = Math.min(1d, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * factor));
+        // JPEG has no alpha; transparent areas become white
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.75f);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void add(String name, long size, boolean unsupported) throws IOException {
+        synchronized (index) {
+            loadIndex();
+            remove(name);
+            index.put(name, new CacheEntry(size, unsupported, System.currentTimeMillis()));
+            totalBytes += size;
+            Iterator<Map.Entry<String, CacheEntry>> eldest = index.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, CacheEntry> entry = eldest.next();
+                if (entry.getKey().equals(name)) {
+                    continue; // never evict what was just rendered
+                }
+                eldest.remove();
+                totalBytes -= entry.getValue().size;
+                deleteQuietly(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    // Caller holds the index lock
+    private void remove(String name) {
+        CacheEntry entry = index.remove(name);
+        if (entry != null) {
+            totalBytes -= entry.size;
+        }
+    }
+
+    // Rebuilds the LRU order from file mtimes, oldest first; caller holds the index lock
+    private void loadIndex() throws IOException {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(cacheDir)) {
+            files = listing.filter(Files::isRegularFile).toList();
+        }
+        Map<Path, Long> mtimes = new HashMap<>();
+        for (Path file : files) {
+            mtimes.put(file, Files.getLastModifiedTime(file).toMillis());
+        }
+        files.stream().sorted(Comparator.comparing(mtimes::get)).forEach(file -> {
+            String fileName = file.getFileName().toString();
+            try {
+                if (fileName.endsWith(NO_PREVIEW)) {
+                    String name = fileName.substring(0, fileName.length() - NO_PREVIEW.length());
+                    index.put(name, new CacheEntry(NO_PREVIEW_SIZE, true, mtimes.get(file)));
+                    totalBytes += NO_PREVIEW_SIZE;
+                } else if (fileName.endsWith(".jpg")) {
+                    long size = Files.size(file);
+                    index.put(fileName, new CacheEntry(size, false, mtimes.get(file)));
+                    totalBytes += size;
+                } else {
+                    Files.deleteIfExists(file); // interrupted render
+                }
+            } catch (IOException e) {
+                logger.warn("Skipping preview cache file {}", fileName, e);
+            }
+        });
+    }
+
+    private void deleteQuietly(String name, CacheEntry entry) {
+        try {
+            Files.deleteIfExists(cacheDir.resolve(entry.unsupported ? name + NO_PREVIEW : name));
+        } catch (IOException e) {
+            logger.warn("Could not evict preview {}", name, e);
+        }
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class CacheEntry {
+        private final long size;
+        private final boolean unsupported;
+        private long touched;
+
+        CacheEntry(long size, boolean unsupported, long touched) {
+            this.size = size;
+            this.unsupported = unsupported;
+            this.touched = touched;
+        }
+    }
+
+    // Keeps the largest image drawn over most of the page, decoding only what it may keep
+    private final class PageImage implements RenderListener {
+        private final double pageArea;
+        private double drawnArea;
+        private BufferedImage image;
+
+        PageImage(double pageArea) {
+            this.pageArea = pageArea;
+        }
+
+        @Override
+        public void renderImage(ImageRenderInfo info) {
+            // The image is drawn into the unit square, so the CTM's determinant is its area on the page
+            double drawn = Math.abs(info.getImageCTM().getDeterminant());
+            if (drawn < pageArea * MIN_PAGE_COVERAGE || drawn <= drawnArea) {
+                return;
+            }
+            try {
+                BufferedImage candidate = decode(info);
+                if (candidate != null) {
+                    image = candidate;
+                    drawnArea = drawn;
+                }
+            } catch (IOException | RuntimeException e) {
+                // Unsupported filter or color space; try the other images
+            }
+        }
+
+        private BufferedImage decode(ImageRenderInfo info) throws IOException {
+            PdfObject object = info.getRef() == null ? null : PdfReader.getPdfObject(info.getRef());
+            if (!(object instanceof PRStream)) {
+                // Inline images are small by definition
+                PdfImageObject inline = info.getImage();
+                return inline == null ? null : inline.getBufferedImage();
+            }
+            PRStream stream = (PRStream) object;
+            if (isJpeg(stream)) {
+                // The stream is the JPEG file, which can be decoded subsampled
+                try (ImageInputStream in = ImageIO.createImageInputStream(
+                        new ByteArrayInputStream(PdfReader.getStreamBytesRaw(stream)))) {
+                    return readSubsampled(in);
+                }
+            }
+            PdfNumber width = stream.getAsNumber(PdfName.WIDTH);
+            PdfNumber height = stream.getAsNumber(PdfName.HEIGHT);
+            if (width == null || height == null || (long) width.intValue() * height.intValue() > MAX_DECODED_PIXELS) {
+                return null;
+            }
+            return new PdfImageObject(stream).getBufferedImage();
+        }
+
+        @Override
+        public void beginTextBlock() {
+        }
+
+        @Override
+        public void renderText(TextRenderInfo info) {
+        }
+
+        @Override
+        public void endTextBlock() {
+        }
+    }
+
+    private static boolean isJpeg(PdfDictionary stream) {
+        PdfObject filter = PdfReader.getPdfObject(stream.get(PdfName.FILTER));
+        if (filter instanceof PdfArray) {
+            PdfArray filters = (PdfArray) filter;
+            filter = filters.size() == 1 ? PdfReader.getPdfObject(filters.getPdfObject(0)) : null;
+        }
+        return PdfName.DCTDECODE.equals(filter);
+    }
+}
@@ -0,0 +1,388 @@
+package com.example.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressable store for uploaded documents.
+ *
+ * An upload is hashed with SHA-256 while it is streamed to a staging file, then moved
+ * to {@code sha256/<h0h1>/<h2h3>/<hash><ext>} under the documents directory. That
+ * relative path is the key saved in {@code documentPath}. The same content uploaded
+ * again only increments {@code document_blob.ref_count}; the file is unlinked after
+ * the transaction that drops the last reference commits.
+ *
+ * Staging does no database work, so submissions stage the upload before their
+ * transaction starts and {@link #commit} it inside; the staged file is moved into
+ * place only once that transaction has committed.
+ *
+ * Document paths written before this store (absolute paths of UUID-named files) are
+ * still resolved and deleted as before.
+ */
+@Service
+public class DocumentStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentStorageService.class);
+
+    static final String DEFAULT_ROOT = System.getProperty("user.dir") + "/RecordDocuments/";
+
+    private static final Pattern KEY = Pattern.compile("sha256/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}(\\.[a-z0-9]{1,10})?");
+    private static final Pattern EXTENSION = Pattern.compile("\\.[a-z0-9]{1,10}");
+
+    static final String STAGED_SUFFIX = ".staged";
+
+    private static final String ADD_REFERENCE_SQL =
+            "INSERT INTO document_blob (storage_key, size_bytes, ref_count, created_at) VALUES (?, ?, 1, ?) "
+            + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1";
+    private static final String DROP_REFERENCE_SQL =
+            "UPDATE document_blob SET ref_count = ref_count - 1 WHERE storage_key = ? AND ref_count > 0";
+    private static final String DELETE_UNREFERENCED_SQL =
+            "DELETE FROM document_blob WHERE storage_key = ? AND ref_count = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path root;
+    private final Path tempDir;
+
+    // Striped by key: adding a reference and unlinking the last one never interleave
+    private final Object[] locks = new Object[64];
+
+    @Autowired
+    public DocumentStorageService(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, Paths.get(DEFAULT_ROOT));
+    }
+
+    DocumentStorageService(JdbcTemplate jdbcTemplate, Path root) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.root = root.toAbsolutePath().normalize();
+        this.tempDir = this.root.resolve(".tmp");
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    // Returns the storage key of the content, adding one reference to it
+    public String store(InputStream content, String originalFilename) throws IOException {
+        try (StagedDocument staged = stage(content, originalFilename)) {
+            return commit(staged);
+        }
+    }
+
+    // Hashes the content into the staging area; nothing is referenced until it is committed
+    public StagedDocument stage(InputStream content, String originalFilename) throws IOException {
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String key = keyFor(hash, originalFilename);
+            // Named after the key so a file left behind by a crash can still be matched to its row
+            Path staged = tempDir.resolve(key.substring(key.lastIndexOf('/') + 1) + "."
+                    + UUID.randomUUID() + STAGED_SUFFIX);
+            Files.move(temp, staged, StandardCopyOption.ATOMIC_MOVE);
+            return new StagedDocument(key, size, staged);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Adds the reference for a staged document in the caller's transaction and returns its key.
+     * The file is moved into place after that transaction commits and discarded if it rolls
+     * back; without a transaction it is moved right away.
+     */
+    public String commit(StagedDocument staged) throws IOException {
+        if (staged.handedOff || !Files.exists(staged.path)) {
+            throw new IllegalStateException("Document was already committed or discarded: " + staged.key);
+        }
+        jdbcTemplate.update(ADD_REFERENCE_SQL, staged.key, staged.size, Timestamp.valueOf(LocalDateTime.now()));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // Ahead of @TransactionalEventListener methods, so they find the file in place
+                @Override
+                public int getOrder() {
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCommit() {
+                    publish(staged);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    // On an unknown outcome the staged file is left for the collector to resolve
+                    if (status == STATUS_ROLLED_BACK) {
+                        discard(staged.path);
+                    }
+                }
+            });
+            staged.handedOff = true;
+        } else {
+            staged.handedOff = true;
+            publish(staged);
+        }
+        return staged.key;
+    }
+
+    // Drops one reference to a stored document; legacy files are deleted right away
+    public void release(String documentPath) throws IOException {
+        if (documentPath == null || documentPath.trim().isEmpty()) {
+            return;
+        }
+        if (!isKey(documentPath)) {
+            Path legacy = root.resolve(documentPath).normalize();
+            if (legacy.startsWith(root)) {
+                Files.deleteIfExists(legacy);
+            } else {
+                logger.warn("Not deleting document outside {}: {}", root, documentPath);
+            }
+            return;
+        }
+
+        jdbcTemplate.update(DROP_REFERENCE_SQL, documentPath);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unlinkIfUnreferenced(documentPath);
+                }
+            });
+        } else {
+            unlinkIfUnreferenced(documentPath);
+        }
+    }
+
+    // Location of a stored or legacy document, or null if it lies outside the documents directory
+    public Path resolve(String documentPath) {
+        Path path = root.resolve(documentPath).normalize();
+        return path.startsWith(root) ? path : null;
+    }
+
+    // Size, validators and type of a stored or legacy document; null if it doesn't exist
+    public StoredDocument open(String documentPath) throws IOException {
+        if (documentPath == null || documentPath.trim().isEmpty()) {
+            return null;
+        }
+        Path path = resolve(documentPath);
+        if (path == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        String filename = path.getFileName().toString();
+        MediaType mediaType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        if (isKey(documentPath)) {
+            // The name is the content hash, so it is a strong validator that never goes stale
+            String hash = filename.contains(".") ? filename.substring(0, filename.indexOf('.')) : filename;
+            return new StoredDocument(path, filename, attributes.size(), attributes.lastModifiedTime().toMillis(),
+                    "\"" + hash + "\"", true, mediaType);
+        }
+        // Legacy files are only identified by size and mtime
+        String etag = "W/\"" + Long.toHexString(attributes.size()) + "-"
+                + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+        return new StoredDocument(path, filename, attributes.size(), attributes.lastModifiedTime().toMillis(),
+                etag, false, mediaType);
+    }
+
+    public static boolean isKey(String documentPath) {
+        return documentPath != null && KEY.matcher(documentPath).matches();
+    }
+
+    Path getRoot() {
+        return root;
+    }
+
+    Path getTempDir() {
+        return tempDir;
+    }
+
+    static String keyFor(String sha256Hex, String originalFilename) {
+        return "sha256/" + sha256Hex.substring(0, 2) + "/" + sha256Hex.substring(2, 4) + "/"
+                + sha256Hex + extensionOf(originalFilename);
+    }
+
+    // Lower-cased extension of the original name, kept so downloads get a usable file name
+    static String extensionOf(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String extension = filename.substring(filename.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? extension : "";
+    }
+
+    // Moves a committed staged file to its key, unless the blob is already there
+    private void publish(StagedDocument staged) {
+        synchronized (lockFor(staged.key)) {
+            try {
+                Path target = root.resolve(staged.key);
+                if (!Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    try {
+                        Files.move(staged.path, target, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (FileAlreadyExistsException e) {
+                        // Written by another process in the meantime; same content
+                    }
+                }
+                Files.deleteIfExists(staged.path);
+            } catch (IOException | RuntimeException e) {
+                // The staged file keeps its key in its name, so it can still be recovered
+                logger.error("Failed to publish staged document {}", staged.key, e);
+            }
+        }
+    }
+
+    private void discard(Path stagedPath) {
+        try {
+            Files.deleteIfExists(stagedPath);
+        } catch (IOException e) {
+            logger.error("Failed to discard staged document {}", stagedPath, e);
+        }
+    }
+
+    private void unlinkIfUnreferenced(String key) {
+        synchronized (lockFor(key)) {
+            try {
+                if (jdbcTemplate.update(DELETE_UNREFERENCED_SQL, key) > 0) {
+                    Files.deleteIfExists(root.resolve(key));
+                }
+            } catch (IOException | RuntimeException e) {
+                // The blob stays on disk; it is only wasted space
+                logger.error("Failed to remove unreferenced document {}", key, e);
+            }
+        }
+    }
+
+    // Held while a blob is published, unlinked or moved by the collector
+    Object lockFor(String key) {
+        return locks[Math.floorMod(key.hashCode(), locks.length)];
+    }
+
+    /**
+     * An upload hashed into the staging area. Closing it deletes the staged file unless it
+     * was committed, so {@code try (StagedDocument d = stage(...)) { ... commit(d) ... }}
+     * leaves nothing behind when the submission fails before the commit.
+     */
+    public static class StagedDocument implements Closeable {
+        private final String key;
+        private final long size;
+        private final Path path;
+        // Set once a commit has taken over the file
+        private boolean handedOff;
+
+        StagedDocument(String key, long size, Path path) {
+            this.key = key;
+            this.size = size;
+            this.path = path;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        Path getPath() {
+            return path;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!handedOff) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    public static final class StoredDocument {
+        private final Path path;
+        private final String filename;
+        private final long size;
+        private final long lastModified;
+        private final String etag;
+        private final boolean immutable;
+        private final MediaType mediaType;
+
+        public StoredDocument(Path path, String filename, long size, long lastModified, String etag,
+                              boolean immutable, MediaType mediaType) {
+            this.path = path;
+            this.filename = filename;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = etag;
+            this.immutable = immutable;
+            this.mediaType = mediaType;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public String getFilename() {
+            return filename;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+
+        // Content-addressed documents never change under the same key
+        public boolean isImmutable() {
+            return immutable;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
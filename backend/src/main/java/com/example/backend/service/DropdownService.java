@@ -4,17 +4,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.example.backend.dto.DropdownDTO;
+import com.example.backend.dto.DropdownFormDTO;
 import com.example.backend.model.DropdownModel;
 import com.example.backend.repository.DropdownRepository;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
 
 @Service
 public class DropdownService {
 
+    private static final String EMPTY_VERSION = "0";
+
     @Autowired
     private DropdownRepository dropdownRepository;
 
+    @Autowired
+    private AuditService auditService;
+
+    // Immutable view of the whole table; replaced (never modified) after every change
+    private volatile Snapshot snapshot;
+
     // Add a new dropdown option
     public DropdownModel addDropdownOption(DropdownDTO dropdownDTO) {
         DropdownModel newOption = new DropdownModel(
@@ -22,7 +38,11 @@ public class DropdownService {
                 dropdownDTO.getDropdownName(), 
                 dropdownDTO.getOptionValue()
         );
-        return dropdownRepository.save(newOption);
+        DropdownModel saved = dropdownRepository.save(newOption);
+        auditService.record("DROPDOWN", saved.getId(), "CREATED",
+                saved.getCategory() + "/" + saved.getDropdownName() + "=" + saved.getOptionValue());
+        reload();
+        return saved;
     }
 
     // Delete a dropdown option by ID
@@ -31,6 +51,8 @@ public class DropdownService {
             throw new IllegalArgumentException("ID cannot be null");
         }
         dropdownRepository.deleteById(id);
+        auditService.record("DROPDOWN", id, "DELETED", null);
+        reload();
     }
 
     // Fetch dropdown options by category and dropdownName
@@ -41,6 +63,76 @@ public class DropdownService {
         if (dropdownName == null) {
             throw new IllegalArgumentException("Dropdown name cannot be null");
         }
-        return dropdownRepository.findByCategoryAndDropdownName(category, dropdownName);
+        Map<String, List<DropdownModel>> form = snapshot().forms.get(category);
+        if (form == null) {
+            return Collections.emptyList();
+        }
+        return form.getOrDefault(dropdownName, Collections.emptyList());
+    }
+
+    // Every dropdown of a form in one go, with a version that only changes when the form's options do
+    public DropdownFormDTO getDropdownForm(String category) {
+        if (category == null) {
+            throw new IllegalArgumentException("Category cannot be null");
+        }
+        Snapshot current = snapshot();
+        Map<String, List<DropdownModel>> form = current.forms.getOrDefault(category, Collections.emptyMap());
+        return new DropdownFormDTO(category, current.versions.getOrDefault(category, EMPTY_VERSION), form);
+    }
+
+    // Rebuilds the snapshot from the table; readers keep using the old one until the swap
+    public synchronized void reload() {
+        snapshot = Snapshot.of(dropdownRepository.findAll());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        // category -> dropdownName -> options, all unmodifiable
+        private final Map<String, Map<String, List<DropdownModel>>> forms;
+        // category -> checksum of its options
+        private final Map<String, String> versions;
+
+        private Snapshot(Map<String, Map<String, List<DropdownModel>>> forms, Map<String, String> versions) {
+            this.forms = forms;
+            this.versions = versions;
+        }
+
+        static Snapshot of(List<DropdownModel> options) {
+            List<DropdownModel> sorted = new ArrayList<>(options);
+            sorted.sort(Comparator.comparing(DropdownModel::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+            Map<String, Map<String, List<DropdownModel>>> grouped = new LinkedHashMap<>();
+            Map<String, CRC32> checksums = new LinkedHashMap<>();
+            for (DropdownModel option : sorted) {
+                grouped.computeIfAbsent(option.getCategory(), c -> new LinkedHashMap<>())
+                        .computeIfAbsent(option.getDropdownName(), n -> new ArrayList<>())
+                        .add(option);
+                String line = option.getId() + "\u0000" + option.getDropdownName() + "\u0000" + option.getOptionValue() + "\n";
+                checksums.computeIfAbsent(option.getCategory(), c -> new CRC32())
+                        .update(line.getBytes(StandardCharsets.UTF_8));
+            }
+
+            Map<String, Map<String, List<DropdownModel>>> forms = new LinkedHashMap<>();
+            grouped.forEach((category, dropdowns) -> {
+                Map<String, List<DropdownModel>> frozen = new LinkedHashMap<>();
+                dropdowns.forEach((name, list) -> frozen.put(name, Collections.unmodifiableList(list)));
+                forms.put(category, Collections.unmodifiableMap(frozen));
+            });
+            Map<String, String> versions = new LinkedHashMap<>();
+            checksums.forEach((category, crc) -> versions.put(category, Long.toHexString(crc.getValue())));
+            return new Snapshot(Collections.unmodifiableMap(forms), Collections.unmodifiableMap(versions));
+        }
     }
-}
\ No newline at end of file
+}
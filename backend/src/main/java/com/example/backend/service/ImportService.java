@@ -1,104 +1,113 @@
 package com.example.backend.service;
 
-import com.example.backend.model.Role;
-import com.example.backend.model.Faculty;
 import com.example.backend.model.Student;
 import com.example.backend.repository.AdminRepository;
 import com.example.backend.repository.FacultyRepository;
 import com.example.backend.repository.StudentRepository;
 
 import jakarta.transaction.Transactional;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class ImportService {
 
+    private static final int CHUNK_SIZE = 500;
+
     private final StudentRepository studentRepository;
     private final FacultyRepository facultyRepository;
     private final AdminRepository adminRepository;
-    private final AuthenticationService authenticationService;
+    private final BulkRegistrationService bulkRegistrationService;
+    private final UserCache userCache;
 
     public ImportService(StudentRepository studentRepository, FacultyRepository facultyRepository,
-                        AdminRepository adminRepository, AuthenticationService authenticationService) {
+                        AdminRepository adminRepository, BulkRegistrationService bulkRegistrationService,
+                        UserCache userCache) {
         this.adminRepository = adminRepository;
         this.studentRepository = studentRepository;
         this.facultyRepository = facultyRepository;
-        this.authenticationService = authenticationService;
+        this.bulkRegistrationService = bulkRegistrationService;
+        this.userCache = userCache;
     }
 
     public String uploadStudentsExcel(MultipartFile file) {
-        try (InputStream inputStream = file.getInputStream(); Workbook workbook = new XSSFWorkbook(inputStream)) {
-            List<Student> students = parseStudentExcel(workbook);
-            studentRepository.saveAll(students);
+        try {
+            List<Student> chunk = new ArrayList<>(CHUNK_SIZE);
+            StudentRosterReader.read(file.getInputStream(), row -> {
+                Student student = new Student();
+                student.setName(row.getString(0));
+                student.setEmail(row.getString(1));
+                chunk.add(student);
+                if (chunk.size() == CHUNK_SIZE) {
+                    saveChunk(chunk);
+                }
+            });
+            saveChunk(chunk);
             return "Students uploaded successfully!";
         } catch (Exception e) {
             return "Error processing student file: " + e.getMessage();
         }
     }
 
+    /**
+     * Registers the roster in chunks as it is read, so it is never held in memory as a whole.
+     * A first pass collects the advisors, which are looked up in one query; if any of them
+     * doesn't exist the import fails before writing anything, naming all of them.
+     * Students whose email or roll number is already registered are skipped, as with
+     * {@link AuthenticationService#registerStudent}; any other rejected row fails the import.
+     */
     @Transactional
     public void createStudentsFromExcel(MultipartFile file) throws IOException {
-        try (InputStream inputStream = file.getInputStream(); Workbook workbook = new XSSFWorkbook(inputStream)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-
-                Student student = new Student();
-                student.setName(getCellValueAsString(row.getCell(0)));
-                student.setEmail(getCellValueAsString(row.getCell(1)));
-                student.setRollNo(getCellValueAsString(row.getCell(2)));
-                student.setDateOfBirth(getCellValueAsDate(row.getCell(3)));
-                student.setDepartment(getCellValueAsString(row.getCell(4)));
-                student.setBatch(getCellValueAsInteger(row.getCell(5)));
-                student.setStudentClass(getCellValueAsString(row.getCell(6)));
-                student.setCgpa(getCellValueAsDouble(row.getCell(7)));
-                student.setGender(getCellValueAsString(row.getCell(8)));
-                student.setRole(Role.STUDENT);
-
-                student.setFaEmail(getCellValueAsString(row.getCell(9)), facultyRepository);
-                authenticationService.registerStudent(student);
+        Path roster = StudentRosterReader.spool(file.getInputStream());
+        try {
+            AdvisorDirectory advisors = new AdvisorDirectory();
+            StudentRosterReader.read(roster, row -> advisors.note(row.getFaEmail(), row.getRowNumber()));
+            advisors.resolve(facultyRepository);
+            if (advisors.hasUnknownAdvisors()) {
+                throw new IllegalArgumentException(advisors.unknownAdvisorsReport());
             }
-        }
-    }
 
-    private List<Student> parseStudentExcel(Workbook workbook) {
-        List<Student> students = new ArrayList<>();
-        Sheet sheet = workbook.getSheetAt(0);
-        for (Row row : sheet) {
-            if (row.getRowNum() == 0) continue;
-            Student student = new Student();
-            student.setName(getCellValueAsString(row.getCell(0)));
-            student.setEmail(getCellValueAsString(row.getCell(1)));
-            students.add(student);
+            List<Student> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<Integer> rowNumbers = new ArrayList<>(CHUNK_SIZE);
+            StudentRosterReader.read(roster, row -> {
+                Student student = row.toStudent();
+                student.setFaculty(advisors.get(row.getFaEmail()));
+                chunk.add(student);
+                rowNumbers.add(row.getRowNumber());
+                if (chunk.size() == CHUNK_SIZE) {
+                    registerChunk(chunk, rowNumbers);
+                }
+            });
+            registerChunk(chunk, rowNumbers);
+        } finally {
+            Files.deleteIfExists(roster);
         }
-        return students;
     }
 
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) return "";
-        return cell.getCellType() == CellType.STRING ? cell.getStringCellValue().trim() : "";
-    }
-
-    private Integer getCellValueAsInteger(Cell cell) {
-        if (cell == null) return null;
-        return cell.getCellType() == CellType.NUMERIC ? (int) cell.getNumericCellValue() : null;
-    }
-
-    private Double getCellValueAsDouble(Cell cell) {
-        if (cell == null) return null;
-        return cell.getCellType() == CellType.NUMERIC ? cell.getNumericCellValue() : null;
+    private void registerChunk(List<Student> chunk, List<Integer> rowNumbers) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<String> outcomes = bulkRegistrationService.registerStudents(chunk);
+        for (int i = 0; i < outcomes.size(); i++) {
+            String outcome = outcomes.get(i);
+            if (outcome != null && !outcome.equals(BulkRegistrationService.EMAIL_TAKEN)
+                    && !outcome.equals(BulkRegistrationService.ROLL_NO_TAKEN)) {
+                throw new IllegalArgumentException("Row " + rowNumbers.get(i) + ": " + outcome);
+            }
+        }
+        chunk.clear();
+        rowNumbers.clear();
     }
 
-    private java.util.Date getCellValueAsDate(Cell cell) {
-        if (cell == null) return null;
-        return cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell) ? cell.getDateCellValue() : null;
+    private void saveChunk(List<Student> chunk) {
+        studentRepository.saveAll(chunk);
+        chunk.forEach(userCache::evict); // drops cached "unknown email" entries
+        chunk.clear();
     }
 }
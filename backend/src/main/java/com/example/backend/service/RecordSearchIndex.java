@@ -0,0 +1,358 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.RecordSearchHitDTO;
+import com.example.backend.model.student.VerificationStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over record text, ranked with BM25.
+ *
+ * Documents get dense, increasing ids, so every posting list stays sorted by
+ * appending. Filter attributes live in parallel primitive arrays indexed by doc id,
+ * which keeps a filtered query to one pass over the postings of its terms.
+ * Re-indexing or removing a record only tombstones its old doc; dead postings are
+ * compacted away once they make up a quarter of the index.
+ */
+class RecordSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int NO_FACULTY = -1;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "was", "were", "with");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByRecord = new HashMap<>();
+    private final Dictionary types = new Dictionary();
+    private final Dictionary departments = new Dictionary();
+
+    // Per-document columns, indexed by doc id
+    private long[] recordIds = new long[1024];
+    private int[] typeIds = new int[1024];
+    private byte[] statuses = new byte[1024];
+    private long[] facultyIds = new long[1024];
+    private int[] departmentIds = new int[1024];
+    private int[] lengths = new int[1024];
+    private int[] termCounts = new int[1024];
+    private String[] titles = new String[1024];
+    private final BitSet live = new BitSet();
+
+    private int docCount;
+    private int liveCount;
+    private long totalLength;
+    private long totalPostings;
+    private long deadPostings;
+
+    // Adds the record, replacing any previous version of it
+    void put(long recordId, String type, VerificationStatus status, Long facultyId, String department,
+             String title, String... fields) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        int length = 0;
+        for (String field : fields) {
+            for (String token : tokenize(field)) {
+                frequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(recordId);
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            recordIds[doc] = recordId;
+            typeIds[doc] = types.idFor(type);
+            statuses[doc] = (byte) status.ordinal();
+            facultyIds[doc] = facultyId == null ? NO_FACULTY : facultyId;
+            departmentIds[doc] = departments.idFor(department);
+            lengths[doc] = length;
+            termCounts[doc] = frequencies.size();
+            titles[doc] = title;
+            live.set(doc);
+            docByRecord.put(recordId, doc);
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new Postings()).add(doc, entry.getValue());
+            }
+            liveCount++;
+            totalLength += length;
+            totalPostings += frequencies.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long recordId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(recordId);
+            if (deadPostings > 1024 && deadPostings * 4 > totalPostings) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Status changes don't touch the text, so only the column is rewritten
+    void updateStatus(long recordId, VerificationStatus status) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByRecord.get(recordId);
+            if (doc != null) {
+                statuses[doc] = (byte) status.ordinal();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<RecordSearchHitDTO> search(String query, String type, VerificationStatus status, Long facultyId,
+                                    String department, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return Collections.emptyList();
+            }
+            // A filter value the index has never seen can't match anything
+            int typeId = type == null ? -1 : types.find(type);
+            int departmentId = department == null ? -1 : departments.find(department);
+            if ((type != null && typeId < 0) || (department != null && departmentId < 0)) {
+                return Collections.emptyList();
+            }
+            int statusOrdinal = status == null ? -1 : status.ordinal();
+
+            float averageLength = Math.max(1f, (float) totalLength / liveCount);
+            // Sized by the postings the query touches, not by the number of docs in the index
+            int touchedPostings = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                touchedPostings += list == null ? 0 : list.size;
+            }
+            Scores scores = new Scores(Math.min(touchedPostings, docCount));
+
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (liveCount - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (!live.get(doc)
+                            || (typeId >= 0 && typeIds[doc] != typeId)
+                            || (statusOrdinal >= 0 && statuses[doc] != statusOrdinal)
+                            || (facultyId != null && facultyIds[doc] != facultyId)
+                            || (departmentId >= 0 && departmentIds[doc] != departmentId)) {
+                        continue;
+                    }
+                    int tf = list.freqs[i];
+                    float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    scores.add(doc, idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+
+            // Min-heap of the best `limit` docs seen so far, by their slot in the scores
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, (a, b) -> scores.score(a) != scores.score(b)
+                    ? Float.compare(scores.score(a), scores.score(b))
+                    : Integer.compare(scores.doc(b), scores.doc(a)));
+            for (int i = 0; i < scores.size; i++) {
+                top.offer(scores.slots[i]);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<RecordSearchHitDTO> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int slot = top.poll();
+                int doc = scores.doc(slot);
+                hits.add(new RecordSearchHitDTO(recordIds[doc], types.name(typeIds[doc]),
+                        VerificationStatus.values()[statuses[doc]], titles[doc], scores.score(slot)));
+            }
+            Collections.reverse(hits);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lower-cased runs of letters and digits, without one-letter tokens and common stop words
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private void removeLocked(long recordId) {
+        Integer doc = docByRecord.remove(recordId);
+        if (doc == null) {
+            return;
+        }
+        live.clear(doc);
+        liveCount--;
+        totalLength -= lengths[doc];
+        deadPostings += termCounts[doc];
+        titles[doc] = null;
+    }
+
+    // Drops postings of removed docs; doc ids stay as they are
+    private void compact() {
+        postings.values().removeIf(list -> list.retainLive(live) == 0);
+        totalPostings -= deadPostings;
+        deadPostings = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= recordIds.length) {
+            return;
+        }
+        int grown = Math.max(capacity, recordIds.length * 2);
+        recordIds = Arrays.copyOf(recordIds, grown);
+        typeIds = Arrays.copyOf(typeIds, grown);
+        statuses = Arrays.copyOf(statuses, grown);
+        facultyIds = Arrays.copyOf(facultyIds, grown);
+        departmentIds = Arrays.copyOf(departmentIds, grown);
+        lengths = Arrays.copyOf(lengths, grown);
+        termCounts = Arrays.copyOf(termCounts, grown);
+        titles = Arrays.copyOf(titles, grown);
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        int retainLive(BitSet live) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (live.get(docs[i])) {
+                    docs[kept] = docs[i];
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+
+    // Open-addressing doc -> score map for one query, with the slots in the order they were filled
+    private static final class Scores {
+        private final int[] keys; // doc + 1, 0 for an empty slot
+        private final float[] values;
+        private final int[] slots;
+        private final int mask;
+        private final int shift;
+        private int size;
+
+        Scores(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(8, expected) * 2 - 1) << 1; // at most half full
+            keys = new int[capacity];
+            values = new float[capacity];
+            slots = new int[Math.max(8, expected)];
+            mask = capacity - 1;
+            shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        }
+
+        void add(int doc, float score) {
+            int slot = (doc * 0x9E3779B9) >>> shift; // Fibonacci hashing: the top bits
+            while (keys[slot] != 0 && keys[slot] != doc + 1) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = doc + 1;
+                slots[size++] = slot;
+            }
+            values[slot] += score;
+        }
+
+        int doc(int slot) {
+            return keys[slot] - 1;
+        }
+
+        float score(int slot) {
+            return values[slot];
+        }
+    }
+
+    // Case-insensitive string <-> small int mapping for the type and department columns
+    private static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        int idFor(String name) {
+            if (name == null) {
+                return -1;
+            }
+            return ids.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> {
+                names.add(name);
+                return names.size() - 1;
+            });
+        }
+
+        int find(String name) {
+            return ids.getOrDefault(name.toLowerCase(Locale.ROOT), -1);
+        }
+
+        String name(int id) {
+            return id < 0 ? null : names.get(id);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.RecordSearchHitDTO;
+import com.example.backend.event.RecordEvent;
+import com.example.backend.model.student.RecordType;
+import com.example.backend.model.student.VerificationStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Full-text search over record titles, descriptions, publication keywords/abstracts
+ * and event hosts/achievements. The index is loaded once with a single streamed
+ * query and then kept current from {@link RecordEvent}s, so searches never hit the database.
+ */
+@Service
+public class RecordSearchService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordSearchService.class);
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private static final String LOAD_QUERY =
+            "SELECT m.id, m.dtype, m.verification_status, m.faculty_id, m.title, m.description, s.department, "
+            + "p.keywords, p.abstract_content, e.host, e.achievement "
+            + "FROM main m "
+            + "LEFT JOIN student s ON s.id = m.student_id "
+            + "LEFT JOIN publications p ON p.id = m.id "
+            + "LEFT JOIN event e ON e.id = m.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile RecordSearchIndex index = new RecordSearchIndex();
+
+    public RecordSearchService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        RecordSearchIndex rebuilt = new RecordSearchIndex();
+        jdbcTemplate.query(LOAD_QUERY, indexer(rebuilt));
+        index = rebuilt;
+        logger.info("Search index built with {} records in {} ms", rebuilt.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecordEvent(RecordEvent event) {
+        switch (event.getKind()) {
+            case CREATED:
+                // Text isn't part of the event; read the one committed row
+                jdbcTemplate.query(LOAD_QUERY + " WHERE m.id = ?", indexer(index), event.getRecordId());
+                break;
+            case VERIFIED:
+            case RESUBMITTED:
+                index.updateStatus(event.getRecordId(), event.getAfter().getVerificationStatus());
+                break;
+            case DELETED:
+                index.remove(event.getRecordId());
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Records ranked by relevance to the query, optionally narrowed by type, status, faculty and student department
+    public List<RecordSearchHitDTO> search(String query, String type, String status, Long facultyId,
+                                           String department, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        String typeName = type == null || type.isBlank() ? null : RecordType.from(type).getTypeName();
+        VerificationStatus verificationStatus = status == null || status.isBlank() ? null : VerificationStatus.from(status);
+        String departmentName = department == null || department.isBlank() ? null : department.trim();
+        return index.search(query, typeName, verificationStatus, facultyId, departmentName, size);
+    }
+
+    private static RowCallbackHandler indexer(RecordSearchIndex target) {
+        return rs -> target.put(
+                rs.getLong("id"),
+                typeName(rs.getString("dtype")),
+                VerificationStatus.fromCode(rs.getString("verification_status")),
+                rs.getObject("faculty_id", Long.class),
+                rs.getString("department"),
+                rs.getString("title"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getString("keywords"),
+                rs.getString("abstract_content"),
+                rs.getString("host"),
+                rs.getString("achievement"));
+    }
+
+    // main.dtype holds the discriminator; the API uses the entity name
+    private static String typeName(String dtype) {
+        try {
+            return RecordType.from(dtype).getTypeName();
+        } catch (IllegalArgumentException e) {
+            return dtype;
+        }
+    }
+}
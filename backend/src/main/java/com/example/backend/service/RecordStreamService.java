@@ -0,0 +1,226 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.RecordStreamEventDTO;
+import com.example.backend.event.RecordEvent;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process publish/subscribe hub behind the record SSE streams.
+ *
+ * Committed {@link RecordEvent}s are fanned out to the subscribers of the affected
+ * faculty topic and, for flag changes, the admin "flagged" topic. Each subscriber has
+ * its own bounded queue drained by a small shared pool, so a slow client never blocks
+ * the committing thread; a client that falls a full queue behind is disconnected and
+ * reloads its list when its EventSource reconnects.
+ */
+@Service
+public class RecordStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordStreamService.class);
+
+    static final String FLAGGED_TOPIC = "flagged";
+
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Executor sender;
+
+    @Value("${app.stream.timeout-ms:1800000}")
+    private long timeoutMs = 1_800_000L;
+
+    @Value("${app.stream.queue-capacity:256}")
+    private int queueCapacity = 256;
+
+    public RecordStreamService() {
+        this(Executors.newFixedThreadPool(4, new SenderThreadFactory()));
+    }
+
+    RecordStreamService(Executor sender) {
+        this.sender = sender;
+    }
+
+    public SseEmitter subscribeFaculty(Long facultyId) {
+        return subscribe(facultyTopic(facultyId), new SseEmitter(timeoutMs));
+    }
+
+    public SseEmitter subscribeFlagged() {
+        return subscribe(FLAGGED_TOPIC, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(String topic, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(topic, emitter, queueCapacity);
+        topics.computeIfAbsent(topic, t -> new CopyOnWriteArraySet<>()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscriber.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecordEvent(RecordEvent event) {
+        RecordEvent.State state = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        String name = "record-" + event.getKind().name().toLowerCase();
+        RecordStreamEventDTO payload = new RecordStreamEventDTO(name, event.getRecordId(), state.getType(),
+                state.getVerificationStatus(), state.isFlagged(), state.getFacultyId(), state.getStudentId());
+
+        Set<String> targets = new LinkedHashSet<>();
+        if (event.getBefore() != null && event.getBefore().getFacultyId() != null) {
+            targets.add(facultyTopic(event.getBefore().getFacultyId()));
+        }
+        if (event.getAfter() != null && event.getAfter().getFacultyId() != null) {
+            targets.add(facultyTopic(event.getAfter().getFacultyId()));
+        }
+        if (affectsFlaggedList(event)) {
+            targets.add(FLAGGED_TOPIC);
+        }
+        for (String topic : targets) {
+            publish(topic, name, payload);
+        }
+    }
+
+    // Keeps idle connections from being closed by proxies and finds dead clients
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Set<Subscriber> subscribers : topics.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        topics.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter.complete()));
+        topics.clear();
+        if (sender instanceof ExecutorService) {
+            ((ExecutorService) sender).shutdown();
+        }
+    }
+
+    int subscriberCount(String topic) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    static String facultyTopic(Long facultyId) {
+        return "faculty:" + facultyId;
+    }
+
+    private void publish(String topic, String name, RecordStreamEventDTO payload) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        String id = String.valueOf(sequence.incrementAndGet());
+        for (Subscriber subscriber : subscribers) {
+            // Builders are not shareable between emitters, so each subscriber gets its own
+            subscriber.offer(SseEmitter.event().id(id).name(name).data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        Set<Subscriber> subscribers = topics.get(subscriber.topic);
+        if (subscribers != null) {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private static boolean affectsFlaggedList(RecordEvent event) {
+        switch (event.getKind()) {
+            case FLAGGED:
+            case UNFLAGGED:
+                return true;
+            case DELETED:
+                return event.getBefore() != null && event.getBefore().isFlagged();
+            default:
+                return false;
+        }
+    }
+
+    private final class Subscriber {
+        private final String topic;
+        private final SseEmitter emitter;
+        private final Queue<SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(String topic, SseEmitter emitter, int capacity) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void offer(SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                logger.warn("Stream subscriber on {} fell {} events behind, disconnecting", topic, queue.size());
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // Client went away; the container reports it through onError/onCompletion too
+                        close();
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            remove(this);
+            emitter.complete();
+        }
+    }
+
+    private static final class SenderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "record-stream-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Faculty;
+import com.example.backend.model.Student;
+import com.example.backend.service.BulkRegistrationService.TakenKeys;
+import com.example.backend.service.StudentRosterReader.RosterRow;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.regex.Pattern;
+
+/**
+ * Checks parsed roster rows before they are committed: email format, roll number, date of
+ * birth, CGPA range, batch year, and that the email, roll number and advisor are known to
+ * be free or to exist, against lookups loaded beforehand.
+ *
+ * {@link #validate(List, TakenKeys, ForkJoinPool)} splits a block of rows across a fork-join
+ * pool. The checks only read the lookups, and each task writes the result of a row into
+ * that row's slot, so the results come back in roster order with the errors of a row in a
+ * fixed order, however the tasks were scheduled.
+ */
+final class RosterValidator {
+
+    static final double MAX_CGPA = 10.0;
+    static final int MIN_BATCH = 1950;
+    static final int BATCH_YEARS_AHEAD = 6; // batches may be named by their graduation year
+
+    private static final int MIN_SPLIT = 256;
+    private static final int TASKS_PER_WORKER = 4;
+
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("uuuu-MM-dd").withResolverStyle(ResolverStyle.STRICT),
+            DateTimeFormatter.ofPattern("dd-MM-uuuu").withResolverStyle(ResolverStyle.STRICT),
+            DateTimeFormatter.ofPattern("d/M/uuuu").withResolverStyle(ResolverStyle.STRICT));
+
+    private final AdvisorDirectory advisors;
+    private final LocalDate today;
+
+    RosterValidator(AdvisorDirectory advisors, LocalDate today) {
+        this.advisors = advisors;
+        this.today = today;
+    }
+
+    // The rows' results in the same order as the rows
+    List<ValidatedRow> validate(List<RosterRow> rows, TakenKeys taken, ForkJoinPool pool) {
+        ValidatedRow[] results = new ValidatedRow[rows.size()];
+        // A few tasks per worker keeps them busy without paying for more splits than that
+        int threshold = Math.max(MIN_SPLIT, rows.size() / (pool.getParallelism() * TASKS_PER_WORKER));
+        pool.invoke(new ValidationTask(rows, taken, results, 0, rows.size(), threshold));
+        return Arrays.asList(results);
+    }
+
+    ValidatedRow validate(RosterRow row, TakenKeys taken) {
+        Student student = row.toStudent();
+        List<String> errors = new ArrayList<>(2);
+
+        String email = student.getEmail().trim();
+        if (email.isEmpty()) {
+            errors.add("Email is required");
+        } else if (!EMAIL.matcher(email).matches()) {
+            errors.add("Email " + email + " is not a valid address");
+        } else if (taken.isEmailTaken(email)) {
+            errors.add(BulkRegistrationService.EMAIL_TAKEN);
+        }
+
+        String rollNo = student.getRollNo().trim();
+        if (rollNo.isEmpty()) {
+            errors.add("Roll number is required");
+        } else if (taken.isRollNoTaken(rollNo)) {
+            errors.add(BulkRegistrationService.ROLL_NO_TAKEN);
+        }
+
+        Object dateOfBirth = row.get(3);
+        if (!isBlank(dateOfBirth)) {
+            Date parsed = parseDate(dateOfBirth);
+            if (parsed == null) {
+                errors.add("Date of birth " + row.getString(3) + " is not a valid date");
+            } else if (toLocalDate(parsed).isAfter(today)) {
+                errors.add("Date of birth " + toLocalDate(parsed) + " is in the future");
+            } else {
+                student.setDateOfBirth(parsed);
+            }
+        }
+
+        Double batchYear = row.getDouble(5);
+        int maxBatch = today.getYear() + BATCH_YEARS_AHEAD;
+        if (isBlank(row.get(5))) {
+            errors.add("Batch year is required");
+        } else if (batchYear == null || batchYear != Math.rint(batchYear)) {
+            errors.add("Batch year " + row.getString(5) + " is not a year");
+        } else if (batchYear < MIN_BATCH || batchYear > maxBatch) {
+            errors.add("Batch year " + row.getString(5) + " is outside " + MIN_BATCH + "-" + maxBatch);
+        }
+
+        if (!isBlank(row.get(7))) {
+            Double cgpa = student.getCgpa();
+            if (cgpa == null) {
+                errors.add("CGPA " + row.getString(7) + " is not a number");
+            } else if (cgpa < 0 || cgpa > MAX_CGPA) {
+                errors.add("CGPA " + row.getString(7) + " is outside 0-" + (int) MAX_CGPA);
+            }
+        }
+
+        String faEmail = row.getFaEmail();
+        Faculty advisor = advisors.get(faEmail);
+        if (faEmail.isEmpty()) {
+            errors.add("Faculty advisor email is required");
+        } else if (advisor == null) {
+            errors.add("Faculty with email " + faEmail + " not found");
+        } else {
+            student.setFaculty(advisor);
+        }
+
+        return new ValidatedRow(row.getRowNumber(), student, errors);
+    }
+
+    // A date cell, an Excel serial number that lost its date format, or text in a common layout
+    private static Date parseDate(Object value) {
+        if (value instanceof Date) {
+            return (Date) value;
+        }
+        if (value instanceof Double) {
+            double serial = (Double) value;
+            return DateUtil.isValidExcelDate(serial) && serial >= 1 ? DateUtil.getJavaDate(serial) : null;
+        }
+        String text = value.toString().trim();
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return Date.from(LocalDate.parse(text, format).atStartOfDay(ZoneId.systemDefault()).toInstant());
+            } catch (DateTimeParseException e) {
+                // try the next layout
+            }
+        }
+        return null;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private static boolean isBlank(Object cell) {
+        return cell == null || cell instanceof String && ((String) cell).isBlank();
+    }
+
+    static final class ValidatedRow {
+        private final int rowNumber;
+        private final Student student;
+        private final List<String> errors;
+
+        ValidatedRow(int rowNumber, Student student, List<String> errors) {
+            this.rowNumber = rowNumber;
+            this.student = student;
+            this.errors = errors;
+        }
+
+        int getRowNumber() {
+            return rowNumber;
+        }
+
+        Student getStudent() {
+            return student;
+        }
+
+        boolean isValid() {
+            return errors.isEmpty();
+        }
+
+        List<String> getErrors() {
+            return errors;
+        }
+    }
+
+    private final class ValidationTask extends RecursiveAction {
+        private final List<RosterRow> rows;
+        private final TakenKeys taken;
+        private final ValidatedRow[] results;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ValidationTask(List<RosterRow> rows, TakenKeys taken, ValidatedRow[] results, int from, int to,
+                       int threshold) {
+            this.rows = rows;
+            this.taken = taken;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    results[i] = validate(rows.get(i), taken);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ValidationTask(rows, taken, results, from, middle, threshold),
+                    new ValidationTask(rows, taken, results, middle, to, threshold));
+        }
+    }
+}
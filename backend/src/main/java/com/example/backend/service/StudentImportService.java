@@ -0,0 +1,406 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.StudentImportJobDTO;
+import com.example.backend.dto.StudentImportJobDTO.Status;
+import com.example.backend.model.Student;
+import com.example.backend.repository.FacultyRepository;
+import com.example.backend.service.RosterValidator.ValidatedRow;
+import com.example.backend.service.StudentRosterReader.RosterRow;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Student roster imports, run as background jobs.
+ *
+ * {@link #submit} spools the upload to a temporary file, records a QUEUED job in
+ * {@code student_import_job} and returns at once; a bounded pool of workers runs the jobs.
+ * A job reads the roster twice: once to resolve its advisors ({@link AdvisorDirectory}),
+ * then to validate and register the students. The second pass collects rows into blocks;
+ * each block is validated in parallel ({@link RosterValidator}) against the emails and roll
+ * numbers already taken, looked up once per block, and its valid rows are then registered
+ * in roster order through {@link BulkRegistrationService} in chunks, each committed in its
+ * own transaction, which also catches duplicates within the file. A row that can't be
+ * imported is recorded in {@code student_import_error} and the job carries on. The counters
+ * on the job row are updated after every chunk, which is what {@link #getJob} reports as
+ * progress.
+ */
+@Service
+public class StudentImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportService.class);
+
+    private static final int MESSAGE_LENGTH = 1000;
+    private static final int VALIDATION_BLOCK_CHUNKS = 8; // chunks of rows validated together
+
+    private static final String INSERT_JOB_SQL =
+            "INSERT INTO student_import_job (filename, status, submitted_at) VALUES (?, ?, ?)";
+    private static final String START_JOB_SQL =
+            "UPDATE student_import_job SET status = ?, started_at = ? WHERE id = ?";
+    private static final String PROGRESS_SQL =
+            "UPDATE student_import_job SET rows_parsed = ?, rows_committed = ?, rows_failed = ? WHERE id = ?";
+    private static final String FINISH_JOB_SQL =
+            "UPDATE student_import_job SET status = ?, finished_at = ?, rows_parsed = ?, rows_committed = ?, "
+            + "rows_failed = ?, message = ? WHERE id = ?";
+    private static final String FAIL_INTERRUPTED_SQL =
+            "UPDATE student_import_job SET status = ?, finished_at = ?, message = ? WHERE status IN (?, ?)";
+    private static final String SELECT_JOB_SQL =
+            "SELECT id, filename, status, submitted_at, started_at, finished_at, rows_parsed, rows_committed, "
+            + "rows_failed, message FROM student_import_job WHERE id = ?";
+    private static final String INSERT_ERROR_SQL =
+            "INSERT INTO student_import_error (job_id, row_no, email, message) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_ERRORS_SQL =
+            "SELECT row_no, email, message FROM student_import_error WHERE job_id = ? ORDER BY row_no";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FacultyRepository facultyRepository;
+    private final BulkRegistrationService bulkRegistrationService;
+    private final ExecutorService workers;
+    private final ForkJoinPool validators;
+    private final int chunkSize;
+
+    @Autowired
+    public StudentImportService(JdbcTemplate jdbcTemplate, FacultyRepository facultyRepository,
+                                BulkRegistrationService bulkRegistrationService,
+                                @Value("${app.import.workers:2}") int workers,
+                                @Value("${app.import.queue-capacity:16}") int queueCapacity,
+                                @Value("${app.import.chunk-size:500}") int chunkSize,
+                                @Value("${app.import.validation-parallelism:0}") int validationParallelism) {
+        this(jdbcTemplate, facultyRepository, bulkRegistrationService,
+                new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(queueCapacity), new WorkerThreadFactory()),
+                new ForkJoinPool(validationParallelism > 0
+                        ? validationParallelism : Runtime.getRuntime().availableProcessors()),
+                chunkSize);
+    }
+
+    StudentImportService(JdbcTemplate jdbcTemplate, FacultyRepository facultyRepository,
+                         BulkRegistrationService bulkRegistrationService, ExecutorService workers,
+                         ForkJoinPool validators, int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.facultyRepository = facultyRepository;
+        this.bulkRegistrationService = bulkRegistrationService;
+        this.workers = workers;
+        this.validators = validators;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // Jobs that were running when the application stopped lost their spooled file with it
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        int interrupted = jdbcTemplate.update(FAIL_INTERRUPTED_SQL, Status.FAILED.name(), now(),
+                "Interrupted by a restart; upload the file again", Status.QUEUED.name(), Status.RUNNING.name());
+        if (interrupted > 0) {
+            logger.warn("Marked {} interrupted student import jobs as failed", interrupted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        validators.shutdownNow();
+    }
+
+    /**
+     * Queues an import of the roster and returns the new job. Throws IllegalStateException
+     * if the queue is full; the job is then recorded as failed.
+     */
+    public StudentImportJobDTO submit(MultipartFile file) throws IOException {
+        Path roster = StudentRosterReader.spool(file.getInputStream());
+        LocalDateTime submittedAt = LocalDateTime.now();
+        long jobId;
+        try {
+            jobId = insertJob(file.getOriginalFilename(), submittedAt);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(roster);
+            throw e;
+        }
+        try {
+            workers.execute(() -> run(jobId, roster));
+        } catch (RejectedExecutionException e) {
+            Files.deleteIfExists(roster);
+            finish(jobId, Status.FAILED, new Progress(), "Too many imports are queued; try again later");
+            throw new IllegalStateException("Student import queue is full", e);
+        }
+        return new StudentImportJobDTO(jobId, file.getOriginalFilename(), Status.QUEUED, submittedAt,
+                null, null, 0, 0, 0, 0, null);
+    }
+
+    public Optional<StudentImportJobDTO> getJob(long jobId) {
+        List<StudentImportJobDTO> jobs = jdbcTemplate.query(SELECT_JOB_SQL, (rs, rowNum) -> {
+            LocalDateTime startedAt = toLocalDateTime(rs.getTimestamp("started_at"));
+            LocalDateTime finishedAt = toLocalDateTime(rs.getTimestamp("finished_at"));
+            int committed = rs.getInt("rows_committed");
+            return new StudentImportJobDTO(
+                    rs.getLong("id"),
+                    rs.getString("filename"),
+                    Status.valueOf(rs.getString("status")),
+                    toLocalDateTime(rs.getTimestamp("submitted_at")),
+                    startedAt,
+                    finishedAt,
+                    rs.getInt("rows_parsed"),
+                    committed,
+                    rs.getInt("rows_failed"),
+                    throughput(committed, startedAt, finishedAt),
+                    rs.getString("message"));
+        }, jobId);
+        return jobs.stream().findFirst();
+    }
+
+    // Writes the rows the job could not import as CSV (row, email, error), in roster order
+    public void writeErrorReport(long jobId, Writer out) throws IOException {
+        out.write("row,email,error\n");
+        try {
+            jdbcTemplate.query(SELECT_ERRORS_SQL, (RowCallbackHandler) rs -> {
+                try {
+                    out.write(rs.getInt("row_no") + "," + csv(rs.getString("email")) + ","
+                            + csv(rs.getString("message")) + "\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, jobId);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    void run(long jobId, Path roster) {
+        Progress progress = new Progress();
+        try {
+            jdbcTemplate.update(START_JOB_SQL, Status.RUNNING.name(), now(), jobId);
+
+            AdvisorDirectory advisors = new AdvisorDirectory();
+            StudentRosterReader.read(roster, row -> advisors.note(row.getFaEmail(), row.getRowNumber()));
+            advisors.resolve(facultyRepository);
+
+            RosterValidator validator = new RosterValidator(advisors, LocalDate.now());
+            Chunk chunk = new Chunk(jobId, progress);
+            List<RosterRow> block = new ArrayList<>();
+            int blockSize = chunkSize * VALIDATION_BLOCK_CHUNKS;
+            StudentRosterReader.read(roster, row -> {
+                progress.parsed.incrementAndGet();
+                block.add(row);
+                if (block.size() >= blockSize) {
+                    validateAndCommit(block, validator, chunk);
+                }
+            });
+            validateAndCommit(block, validator, chunk);
+            chunk.flush();
+            finish(jobId, Status.COMPLETED, progress,
+                    advisors.hasUnknownAdvisors() ? advisors.unknownAdvisorsReport() : null);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Student import job {} failed", jobId, e);
+            finish(jobId, Status.FAILED, progress, e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(roster);
+            } catch (IOException e) {
+                logger.warn("Could not delete spooled roster {}", roster, e);
+            }
+        }
+    }
+
+    // Validates the block in parallel, then hands its rows to the chunk in roster order
+    private void validateAndCommit(List<RosterRow> block, RosterValidator validator, Chunk chunk) {
+        if (block.isEmpty()) {
+            return;
+        }
+        List<String> emails = new ArrayList<>(block.size());
+        List<String> rollNos = new ArrayList<>(block.size());
+        for (RosterRow row : block) {
+            emails.add(row.getString(1));
+            rollNos.add(row.getString(2));
+        }
+        BulkRegistrationService.TakenKeys taken = bulkRegistrationService.findTaken(emails, rollNos);
+        for (ValidatedRow result : validator.validate(block, taken, validators)) {
+            if (result.isValid()) {
+                chunk.add(result.getRowNumber(), result.getStudent());
+            } else {
+                chunk.reject(result.getRowNumber(), result.getStudent().getEmail(),
+                        String.join("; ", result.getErrors()));
+            }
+        }
+        block.clear();
+    }
+
+    private long insertJob(String filename, LocalDateTime submittedAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_JOB_SQL, new String[] {"id"});
+            ps.setString(1, truncate(filename, 255));
+            ps.setString(2, Status.QUEUED.name());
+            ps.setTimestamp(3, Timestamp.valueOf(submittedAt));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void finish(long jobId, Status status, Progress progress, String message) {
+        try {
+            jdbcTemplate.update(FINISH_JOB_SQL, status.name(), now(), progress.parsed.get(), progress.committed.get(),
+                    progress.failed.get(), truncate(message, MESSAGE_LENGTH), jobId);
+        } catch (DataAccessException e) {
+            logger.error("Could not record the end of student import job {}", jobId, e);
+        }
+    }
+
+    /**
+     * The rows of the job since the last commit. Students go to the database together, each
+     * chunk in its own transaction; rejected rows are written to the error table alongside.
+     */
+    private final class Chunk {
+        private final long jobId;
+        private final Progress progress;
+        private final List<Student> students = new ArrayList<>();
+        private final List<Integer> rowNumbers = new ArrayList<>();
+        private final List<Object[]> errors = new ArrayList<>();
+
+        Chunk(long jobId, Progress progress) {
+            this.jobId = jobId;
+            this.progress = progress;
+        }
+
+        void add(int rowNumber, Student student) {
+            students.add(student);
+            rowNumbers.add(rowNumber);
+            if (students.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(int rowNumber, String email, String message) {
+            errors.add(new Object[] {jobId, rowNumber, truncate(email, 255), truncate(message, MESSAGE_LENGTH)});
+            if (errors.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (students.isEmpty() && errors.isEmpty()) {
+                return;
+            }
+            if (!students.isEmpty()) {
+                register();
+            }
+            if (!errors.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ERROR_SQL, errors);
+                progress.failed.addAndGet(errors.size());
+                errors.clear();
+            }
+            jdbcTemplate.update(PROGRESS_SQL, progress.parsed.get(), progress.committed.get(),
+                    progress.failed.get(), jobId);
+        }
+
+        private void register() {
+            List<String> outcomes;
+            try {
+                outcomes = bulkRegistrationService.registerStudents(students);
+            } catch (DataAccessException e) {
+                // e.g. a student registered concurrently; the chunk was rolled back as a whole
+                String reason = "Not imported, the chunk could not be saved: "
+                        + e.getMostSpecificCause().getMessage();
+                outcomes = new ArrayList<>(students.size());
+                for (int i = 0; i < students.size(); i++) {
+                    outcomes.add(reason);
+                }
+            }
+            for (int i = 0; i < outcomes.size(); i++) {
+                String outcome = outcomes.get(i);
+                if (outcome == null) {
+                    progress.committed.incrementAndGet();
+                } else {
+                    errors.add(new Object[] {jobId, rowNumbers.get(i), truncate(students.get(i).getEmail(), 255),
+                            truncate(outcome, MESSAGE_LENGTH)});
+                }
+            }
+            students.clear();
+            rowNumbers.clear();
+        }
+    }
+
+    private static final class Progress {
+        final AtomicInteger parsed = new AtomicInteger();
+        final AtomicInteger committed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "student-import-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static double throughput(int committed, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        if (startedAt == null) {
+            return 0;
+        }
+        long millis = Duration.between(startedAt, finishedAt != null ? finishedAt : LocalDateTime.now()).toMillis();
+        return millis <= 0 ? 0 : committed * 1000.0 / millis;
+    }
+
+    // Quoted when needed; a leading formula character is escaped so spreadsheets show it as text
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
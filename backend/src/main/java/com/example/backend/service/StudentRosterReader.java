@@ -0,0 +1,491 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Role;
+import com.example.backend.model.Student;
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streams the rows of a student roster workbook (the first sheet of an .xlsx file).
+ *
+ * The sheet XML is read with SAX straight out of the package, so only the current row is
+ * held in memory. Shared strings, which a DOM workbook would load in full, are spilled to
+ * a temporary file with a fixed-width offset index next to it and read back by index;
+ * a small cache keeps the repeated ones (department, class, gender) off the disk. Peak
+ * heap therefore stays flat however many rows the roster has.
+ *
+ * The header row and rows without any values are skipped.
+ */
+public final class StudentRosterReader {
+
+    private static final int CACHED_STRINGS = 512;
+
+    private StudentRosterReader() {
+    }
+
+    // Hands every data row of the roster to the consumer, in sheet order; returns the number of rows read
+    public static int read(InputStream workbook, Consumer<RosterRow> rows) throws IOException {
+        Path file = spool(workbook);
+        try {
+            return read(file, rows);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // Copies an upload to a temporary file, which the package is read from; the caller deletes it
+    static Path spool(InputStream workbook) throws IOException {
+        Path file = Files.createTempFile("roster-", ".xlsx");
+        try (InputStream in = workbook) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    public static int read(Path workbook, Consumer<RosterRow> rows) throws IOException {
+        try (OPCPackage pkg = open(workbook);
+             SpilledStrings strings = SpilledStrings.load(pkg)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return 0;
+            }
+            SheetHandler handler = new SheetHandler(reader.getStylesTable(), strings, rows);
+            try (InputStream sheet = sheets.next()) {
+                parse(sheet, handler);
+            }
+            return handler.count;
+        } catch (OpenXML4JException e) {
+            throw new IOException("Not a valid .xlsx workbook: " + e.getMessage(), e);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static OPCPackage open(Path workbook) throws IOException {
+        try {
+            return OPCPackage.open(workbook.toFile(), PackageAccess.READ);
+        } catch (InvalidFormatException | InvalidOperationException | UnsupportedFileFormatException e) {
+            throw new IOException("Not a valid .xlsx workbook: " + e.getMessage(), e);
+        }
+    }
+
+    private static void parse(InputStream xml, DefaultHandler handler) throws IOException {
+        try {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(handler);
+            parser.parse(new InputSource(xml));
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new IOException("Malformed workbook: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One data row of the roster. Cell values are a trimmed {@code String}, a {@code Double},
+     * or a {@code Date} for numbers in a date format; missing cells are {@code null}.
+     */
+    public static final class RosterRow {
+        private final int rowNumber;
+        private final Object[] cells;
+
+        RosterRow(int rowNumber, Object[] cells) {
+            this.rowNumber = rowNumber;
+            this.cells = cells;
+        }
+
+        // The row number as shown in Excel, header included
+        public int getRowNumber() {
+            return rowNumber;
+        }
+
+        public Object get(int column) {
+            return column < cells.length ? cells[column] : null;
+        }
+
+        // Numbers are read the way they are typed, so a numeric roll number comes back as "2021001"
+        public String getString(int column) {
+            Object value = get(column);
+            if (value instanceof String) {
+                return (String) value;
+            }
+            if (value instanceof Double) {
+                double number = (Double) value;
+                return number == Math.rint(number) && !Double.isInfinite(number)
+                        ? String.valueOf((long) number) : String.valueOf(number);
+            }
+            return "";
+        }
+
+        public Double getDouble(int column) {
+            Object value = get(column);
+            if (value instanceof Double) {
+                return (Double) value;
+            }
+            if (value instanceof String && !((String) value).isEmpty()) {
+                try {
+                    return Double.valueOf((String) value);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        public Integer getInteger(int column) {
+            Double value = getDouble(column);
+            return value == null ? null : value.intValue();
+        }
+
+        public Date getDate(int column) {
+            Object value = get(column);
+            return value instanceof Date ? (Date) value : null;
+        }
+
+        public String getFaEmail() {
+            return getString(9);
+        }
+
+        /**
+         * Maps the roster columns (name, email, roll no, date of birth, department, batch,
+         * class, CGPA, gender) onto a new student. The advisor in column 9 is left to the
+         * caller, who resolves it against the faculty table.
+         */
+        public Student toStudent() {
+            Student student = new Student();
+            student.setName(getString(0));
+            student.setEmail(getString(1));
+            student.setRollNo(getString(2));
+            student.setDateOfBirth(getDate(3));
+            student.setDepartment(getString(4));
+            Integer batch = getInteger(5);
+            student.setBatch(batch == null ? 0 : batch);
+            student.setStudentClass(getString(6));
+            student.setCgpa(getDouble(7));
+            student.setGender(getString(8));
+            student.setRole(Role.STUDENT);
+            return student;
+        }
+    }
+
+    // Collects the cells of one <row> at a time and emits it on </row>
+    private static final class SheetHandler extends DefaultHandler {
+        private final StylesTable styles;
+        private final SpilledStrings strings;
+        private final Consumer<RosterRow> rows;
+
+        private Object[] cells = new Object[16];
+        private int rowNumber;
+        private boolean rowHasValues;
+        private int column;
+        private String type;
+        private int style;
+        private boolean inValue;
+        private boolean inInlineText;
+        private final StringBuilder text = new StringBuilder();
+        private int count;
+
+        SheetHandler(StylesTable styles, SpilledStrings strings, Consumer<RosterRow> rows) {
+            this.styles = styles;
+            this.strings = strings;
+            this.rows = rows;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String r = attributes.getValue("r");
+                    rowNumber = r != null ? Integer.parseInt(r) : rowNumber + 1;
+                    Arrays.fill(cells, null);
+                    rowHasValues = false;
+                    column = -1;
+                }
+                case "c" -> {
+                    String ref = attributes.getValue("r");
+                    column = ref != null ? columnOf(ref) : column + 1;
+                    type = attributes.getValue("t");
+                    String s = attributes.getValue("s");
+                    style = s != null ? Integer.parseInt(s) : -1;
+                    text.setLength(0);
+                }
+                case "v" -> {
+                    inValue = true;
+                    text.setLength(0);
+                }
+                case "t" -> {
+                    if ("inlineStr".equals(type)) {
+                        inInlineText = true;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue || inInlineText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v" -> inValue = false;
+                case "t" -> inInlineText = false;
+                case "c" -> {
+                    Object value = value();
+                    if (value != null && column >= 0) {
+                        if (column >= cells.length) {
+                            cells = Arrays.copyOf(cells, Math.max(column + 1, cells.length * 2));
+                        }
+                        cells[column] = value;
+                        rowHasValues = true;
+                    }
+                }
+                case "row" -> {
+                    if (rowNumber > 1 && rowHasValues) {
+                        count++;
+                        rows.accept(new RosterRow(rowNumber, cells.clone()));
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private Object value() {
+            if (text.length() == 0) {
+                return null;
+            }
+            String raw = text.toString();
+            if (type == null || "n".equals(type)) {
+                double number;
+                try {
+                    number = Double.parseDouble(raw);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                return isDateStyle() && DateUtil.isValidExcelDate(number) ? DateUtil.getJavaDate(number) : number;
+            }
+            return switch (type) {
+                case "s" -> strings.get(Integer.parseInt(raw.trim())).trim();
+                case "inlineStr", "str" -> raw.trim();
+                case "b" -> String.valueOf("1".equals(raw));
+                default -> null; // errors
+            };
+        }
+
+        private boolean isDateStyle() {
+            if (style < 0 || styles == null || style >= styles.getNumCellStyles()) {
+                return false;
+            }
+            XSSFCellStyle cellStyle = styles.getStyleAt(style);
+            return cellStyle != null
+                    && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+        }
+
+        // "AB12" -> 27
+        private static int columnOf(String ref) {
+            int column = 0;
+            for (int i = 0; i < ref.length(); i++) {
+                char c = ref.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                column = column * 26 + (c - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+
+    /**
+     * The shared strings table, copied out of the package into a data file of
+     * UTF-8 strings plus an index of their start offsets.
+     */
+    private static final class SpilledStrings extends DefaultHandler implements Closeable {
+        private final Path data;
+        private final Path index;
+        private DataOutputStream dataOut;
+        private DataOutputStream indexOut;
+        private long offset;
+        private int size;
+
+        private FileChannel dataChannel;
+        private FileChannel indexChannel;
+        private final ByteBuffer slot = ByteBuffer.allocate(2 * Long.BYTES);
+        private final Map<Integer, String> cache = new LinkedHashMap<>(CACHED_STRINGS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > CACHED_STRINGS;
+            }
+        };
+
+        private boolean inItem;
+        private boolean inText;
+        private int phonetic;
+        private final StringBuilder item = new StringBuilder();
+
+        private SpilledStrings(Path data, Path index) {
+            this.data = data;
+            this.index = index;
+        }
+
+        static SpilledStrings load(OPCPackage pkg) throws IOException {
+            SpilledStrings strings = new SpilledStrings(Files.createTempFile("roster-strings-", ".bin"),
+                    Files.createTempFile("roster-index-", ".bin"));
+            try {
+                List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+                try (DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(strings.data)));
+                     DataOutputStream indexOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(strings.index)))) {
+                    strings.dataOut = dataOut;
+                    strings.indexOut = indexOut;
+                    if (!parts.isEmpty()) {
+                        try (InputStream xml = parts.get(0).getInputStream()) {
+                            parse(xml, strings);
+                        }
+                    }
+                    indexOut.writeLong(strings.offset); // end of the last string
+                }
+                strings.dataOut = null;
+                strings.indexOut = null;
+                strings.dataChannel = FileChannel.open(strings.data);
+                strings.indexChannel = FileChannel.open(strings.index);
+                return strings;
+            } catch (IOException | RuntimeException e) {
+                strings.close();
+                throw e;
+            }
+        }
+
+        String get(int i) {
+            if (i < 0 || i >= size) {
+                throw new IllegalArgumentException("No shared string at index " + i);
+            }
+            return cache.computeIfAbsent(i, this::readAt);
+        }
+
+        private String readAt(int i) {
+            try {
+                // Entry i and the one after it bound the string, so one read of each file will do
+                slot.clear();
+                readFully(indexChannel, slot, (long) i * Long.BYTES);
+                slot.flip();
+                long start = slot.getLong();
+                ByteBuffer bytes = ByteBuffer.allocate((int) (slot.getLong() - start));
+                readFully(dataChannel, bytes, start);
+                return new String(bytes.array(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    throw new IOException("Shared strings file is truncated");
+                }
+            }
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "si" -> {
+                    inItem = true;
+                    item.setLength(0);
+                }
+                case "rPh" -> phonetic++;
+                case "t" -> inText = inItem && phonetic == 0;
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                item.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            switch (localName) {
+                case "t" -> inText = false;
+                case "rPh" -> phonetic--;
+                case "si" -> {
+                    inItem = false;
+                    try {
+                        byte[] bytes = item.toString().getBytes(StandardCharsets.UTF_8);
+                        indexOut.writeLong(offset);
+                        dataOut.write(bytes);
+                        offset += bytes.length;
+                        size++;
+                    } catch (IOException e) {
+                        throw new SAXException(e);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (dataChannel != null) {
+                    dataChannel.close();
+                }
+                if (indexChannel != null) {
+                    indexChannel.close();
+                }
+            } finally {
+                Files.deleteIfExists(data);
+                Files.deleteIfExists(index);
+            }
+        }
+    }
+}
@@ -1,22 +1,36 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.StudentProfileDTO;
 import com.example.backend.model.Student;
+import com.example.backend.model.student.Main;
 import com.example.backend.repository.StudentRepository;
+import com.example.backend.repository.student.MainRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class StudentService {
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
     private final StudentRepository studentRepository;
     private final ExcelUploadService excelUploadService; // ✅ Inject ExcelUploadService
+    private final MainRepository mainRepository;
+    private final UserCache userCache;
 
-    public StudentService(StudentRepository studentRepository, ExcelUploadService excelUploadService) {
+    public StudentService(StudentRepository studentRepository, ExcelUploadService excelUploadService,
+                          MainRepository mainRepository, UserCache userCache) {
         this.studentRepository = studentRepository;
         this.excelUploadService = excelUploadService;
+        this.mainRepository = mainRepository;
+        this.userCache = userCache;
     }
 
     public List<Student> getAllStudents() {
@@ -27,22 +41,54 @@ public class StudentService {
         return studentRepository.findById(id);
     }
 
+    // Two selects: the student with its faculty, then all of its records. Running both in one
+    // read-only transaction lets the records' student/faculty references resolve from the
+    // persistence context instead of extra queries.
+    @Transactional(readOnly = true)
+    public Optional<StudentProfileDTO> getStudentProfile(Long id) {
+        return studentRepository.findWithFacultyById(id).map(student -> {
+            List<Main> records = mainRepository.findAllByStudentIdNewestFirst(id);
+            Map<String, Map<String, List<Main>>> activities = new LinkedHashMap<>();
+            for (Main record : records) {
+                activities.computeIfAbsent(record.getDtype(), t -> new LinkedHashMap<>())
+                        .computeIfAbsent(record.getVerificationStatus().getLabel(), s -> new ArrayList<>())
+                        .add(record);
+            }
+            return new StudentProfileDTO(student, activities, records.size());
+        });
+    }
+
     public Student saveStudent(Student student) {
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        userCache.evict(saved);
+        return saved;
     }
 
     public void deleteStudent(Long id) {
         studentRepository.deleteById(id);
+        userCache.evictId(id);
     }
 
     public void saveStudentsToDatabase(MultipartFile file) {
         if (excelUploadService.isValidExcelFile(file)) { // ✅ Now called as an instance method
             try {
-                List<Student> students = excelUploadService.getStudentDataFromExcel(file.getInputStream()); // ✅ Instance method
-                this.studentRepository.saveAll(students);
+                List<Student> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+                excelUploadService.readStudentData(file.getInputStream(), student -> {
+                    chunk.add(student);
+                    if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                        saveImportedChunk(chunk);
+                    }
+                });
+                saveImportedChunk(chunk);
             } catch (IOException e) {
                 throw new IllegalArgumentException("The file is not a valid Excel file");
             }
         }
     }
+
+    private void saveImportedChunk(List<Student> chunk) {
+        studentRepository.saveAll(chunk);
+        chunk.forEach(userCache::evict); // drops cached "unknown email" entries
+        chunk.clear();
+    }
 }
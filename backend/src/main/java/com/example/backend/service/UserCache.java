@@ -0,0 +1,225 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Faculty;
+import com.example.backend.model.Student;
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Read-through cache of users (students, faculty, admins) by id and by email.
+ *
+ * Both maps are LRU-bounded and entries expire after a TTL; unknown emails are cached
+ * as misses for a shorter TTL so repeated logins with an unregistered address don't
+ * hit the database. Services that write users must call one of the evict methods.
+ * Hits, misses and evictions are published as {@code user.cache.*} meters.
+ */
+@Service
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final LongSupplier clock;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    private final Store<Long> byId;
+    private final Store<String> byEmail;
+
+    @Autowired
+    public UserCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                     @Value("${app.user-cache.max-size:10000}") int maxSize,
+                     @Value("${app.user-cache.ttl-seconds:300}") long ttlSeconds,
+                     @Value("${app.user-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this(userRepository, meterRegistry, maxSize, ttlSeconds, negativeTtlSeconds, System::nanoTime);
+    }
+
+    UserCache(UserRepository userRepository, MeterRegistry meterRegistry, int maxSize,
+              long ttlSeconds, long negativeTtlSeconds, LongSupplier clock) {
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.byId = new Store<>("id", maxSize, meterRegistry);
+        this.byEmail = new Store<>("email", maxSize, meterRegistry);
+    }
+
+    public Optional<User> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return byId.get(id, userRepository::findById);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return byEmail.get(email, userRepository::findByEmail);
+    }
+
+    public Optional<Student> findStudentById(Long id) {
+        return findById(id).filter(Student.class::isInstance).map(Student.class::cast);
+    }
+
+    // After a user is created, updated, activated/deactivated or imported
+    public void evict(User user) {
+        if (user == null) {
+            return;
+        }
+        if (user.getEmail() != null) {
+            byEmail.remove(user.getEmail());
+        }
+        evictId(user.getId());
+    }
+
+    // After a delete by id, when the email isn't known
+    public void evictId(Long id) {
+        if (id == null) {
+            return;
+        }
+        byId.remove(id);
+        byEmail.removeIf(user -> id.equals(user.getId()));
+    }
+
+    // A faculty change also invalidates cached students holding the old Faculty
+    public void evictFaculty(Faculty faculty) {
+        if (faculty == null) {
+            return;
+        }
+        evict(faculty);
+        evictStudentsOf(faculty.getId());
+    }
+
+    // After a faculty is deleted by id; its students were deleted with it
+    public void evictFacultyId(Long facultyId) {
+        evictId(facultyId);
+        evictStudentsOf(facultyId);
+    }
+
+    private void evictStudentsOf(Long facultyId) {
+        if (facultyId == null) {
+            return;
+        }
+        Predicate<User> advisedByFaculty = user -> user instanceof Student
+                && ((Student) user).getFaculty() != null
+                && facultyId.equals(((Student) user).getFaculty().getId());
+        byId.removeIf(advisedByFaculty);
+        byEmail.removeIf(advisedByFaculty);
+    }
+
+    public void clear() {
+        byId.clear();
+        byEmail.clear();
+    }
+
+    private final class Store<K> {
+        private final int maxSize;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter evictions;
+        // Bumped on every invalidation so a load that raced it isn't cached
+        private long generation;
+
+        private final LinkedHashMap<K, Entry> entries;
+
+        Store(String name, int maxSize, MeterRegistry meterRegistry) {
+            this.maxSize = maxSize;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+            this.hits = Counter.builder("user.cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+            this.misses = Counter.builder("user.cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+            this.evictions = Counter.builder("user.cache.evictions").tag("cache", name).register(meterRegistry);
+            Gauge.builder("user.cache.size", this, Store::size).tag("cache", name).register(meterRegistry);
+        }
+
+        Optional<User> get(K key, Function<K, Optional<User>> loader) {
+            long loadGeneration;
+            synchronized (this) {
+                Entry entry = entries.get(key);
+                if (entry != null && entry.expiresAt - clock.getAsLong() > 0) {
+                    hits.increment();
+                    return Optional.ofNullable(entry.user);
+                }
+                if (entry != null) {
+                    entries.remove(key);
+                    evictions.increment();
+                }
+                loadGeneration = generation;
+            }
+            misses.increment();
+
+            Optional<User> loaded = loader.apply(key);
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    long ttl = loaded.isPresent() ? ttlNanos : negativeTtlNanos;
+                    entries.put(key, new Entry(loaded.orElse(null), clock.getAsLong() + ttl));
+                    trim();
+                }
+            }
+            return loaded;
+        }
+
+        synchronized void remove(K key) {
+            generation++;
+            if (entries.remove(key) != null) {
+                evictions.increment();
+            }
+        }
+
+        synchronized void removeIf(Predicate<User> predicate) {
+            generation++;
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                User user = it.next().user;
+                if (user != null && predicate.test(user)) {
+                    it.remove();
+                    evictions.increment();
+                }
+            }
+        }
+
+        synchronized void clear() {
+            generation++;
+            evictions.increment(entries.size());
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        private void trim() {
+            Iterator<Map.Entry<K, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxSize && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    // user is null for a cached miss
+    private static final class Entry {
+        private final User user;
+        private final long expiresAt;
+
+        Entry(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -15,19 +15,22 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     // ✅ Fetch user by email
     public Optional<User> getUserByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return userCache.findByEmail(email);
     }
 
     public Role getUserRoleByEmail(String email) {
-        Optional<User> user = userRepository.findByEmail(email);
+        Optional<User> user = userCache.findByEmail(email);
         return user.map(User::getRole).orElse(null);
     }
     
 
     public Optional<User> authenticate(String email, String password) {
-        Optional<User> user = userRepository.findByEmail(email);
+        Optional<User> user = userCache.findByEmail(email);
         if (user.isPresent()) {
             return user;
         }
@@ -39,7 +42,7 @@ public class UserService {
     }
 
     public Optional<User> getUserById(Long id) {
-        return userRepository.findById(id);
+        return userCache.findById(id);
     }
 
     public List<User> getUsersByRoles(List<String> roles) {
@@ -0,0 +1,394 @@
+package com.example.backend.service.faculty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over faculty publication title, author and keywords.
+ *
+ * Queries keep the substring semantics of the old {@code LIKE '%q%'} search: the
+ * candidates are the docs in the rarest trigram posting list of the most selective
+ * criterion, and each candidate is then checked with {@code contains}. Work is bounded
+ * by that posting list rather than by the table. Criteria shorter than a trigram fall
+ * back to scanning the in-memory fields.
+ */
+class FacultyPublicationSearchIndex {
+
+    enum Field {
+        TITLE(3f), AUTHOR(1f), KEYWORDS(2f);
+
+        private final float weight;
+
+        Field(float weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // One trigram -> postings map per field, indexed by ordinal
+    private final List<Map<String, Postings>> trigrams = List.of(new HashMap<>(), new HashMap<>(), new HashMap<>());
+    private final Map<Long, Integer> docByPublication = new HashMap<>();
+
+    private long[] publicationIds = new long[256];
+    private String[][] values = new String[256][];
+    private Integer[] years = new Integer[256];
+    private String[] types = new String[256];
+    private final BitSet live = new BitSet();
+
+    private int docCount;
+    private int liveCount;
+    private int deadDocs;
+
+    void put(long publicationId, String title, String author, String keywords, Integer year, String publicationType) {
+        String[] fieldValues = { normalize(title), normalize(author), normalize(keywords) };
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(publicationId);
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            publicationIds[doc] = publicationId;
+            values[doc] = fieldValues;
+            years[doc] = year;
+            types[doc] = publicationType;
+            live.set(doc);
+            docByPublication.put(publicationId, doc);
+            liveCount++;
+            for (Field field : FIELDS) {
+                for (String trigram : trigramsOf(fieldValues[field.ordinal()])) {
+                    trigrams.get(field.ordinal()).computeIfAbsent(trigram, t -> new Postings()).add(doc);
+                }
+            }
+            // An edit retires the old doc, so re-indexing alone can fill the index with dead docs
+            compactIfMostlyDead();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long publicationId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(publicationId);
+            compactIfMostlyDead();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param any matched against every field (the old single-box search)
+     * @param limit maximum number of ids returned; facets and total cover all matches
+     */
+    Result search(String any, String title, String author, String keywords,
+                  Integer year, String publicationType, int limit) {
+        List<Criterion> criteria = new ArrayList<>();
+        addCriterion(criteria, any, FIELDS);
+        addCriterion(criteria, title, Field.TITLE);
+        addCriterion(criteria, author, Field.AUTHOR);
+        addCriterion(criteria, keywords, Field.KEYWORDS);
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Long> yearFacets = new TreeMap<>(Collections.reverseOrder());
+            Map<String, Long> typeFacets = new TreeMap<>();
+            List<Hit> hits = new ArrayList<>();
+
+            int[] candidates = candidates(criteria);
+            int candidateCount = candidates == null ? docCount : candidates.length;
+            for (int i = 0; i < candidateCount; i++) {
+                int doc = candidates == null ? i : candidates[i];
+                if (!live.get(doc)) {
+                    continue;
+                }
+                float score = score(doc, criteria);
+                if (score < 0) {
+                    continue;
+                }
+                // Facets count every match so the UI can show what the filters would give
+                if (years[doc] != null) {
+                    yearFacets.merge(years[doc], 1L, Long::sum);
+                }
+                if (types[doc] != null) {
+                    typeFacets.merge(types[doc], 1L, Long::sum);
+                }
+                if ((year != null && !year.equals(years[doc]))
+                        || (publicationType != null && !publicationType.equalsIgnoreCase(types[doc]))) {
+                    continue;
+                }
+                hits.add(new Hit(doc, score));
+            }
+
+            // Best score first, then newest
+            hits.sort((a, b) -> {
+                if (a.score != b.score) {
+                    return Float.compare(b.score, a.score);
+                }
+                int byYear = Integer.compare(yearOf(b.doc), yearOf(a.doc));
+                return byYear != 0 ? byYear : Long.compare(publicationIds[b.doc], publicationIds[a.doc]);
+            });
+            List<Long> ids = new ArrayList<>(Math.min(limit, hits.size()));
+            for (int i = 0; i < hits.size() && i < limit; i++) {
+                ids.add(publicationIds[hits.get(i).doc]);
+            }
+            return new Result(hits.size(), ids, yearFacets, typeFacets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Doc slots in use, including removed docs not yet compacted away
+    int slots() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> trigramsOf(String value) {
+        if (value == null || value.length() < 3) {
+            return Collections.emptySet();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            result.add(value.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    private static void addCriterion(List<Criterion> criteria, String needle, Field... fields) {
+        String normalized = normalize(needle);
+        if (normalized != null && !normalized.isEmpty()) {
+            criteria.add(new Criterion(normalized, fields));
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Doc ids from the smallest posting list any criterion can offer; null means scan everything
+    private int[] candidates(List<Criterion> criteria) {
+        int[] best = null;
+        for (Criterion criterion : criteria) {
+            Set<String> needleTrigrams = trigramsOf(criterion.needle);
+            if (needleTrigrams.isEmpty()) {
+                continue;
+            }
+            // A doc matches the criterion if any of its fields contains the needle,
+            // so the candidates are the union of each field's rarest list
+            BitSet union = new BitSet();
+            for (Field field : criterion.fields) {
+                Postings rarest = null;
+                for (String trigram : needleTrigrams) {
+                    Postings list = trigrams.get(field.ordinal()).get(trigram);
+                    if (list == null) {
+                        rarest = Postings.EMPTY;
+                        break;
+                    }
+                    if (rarest == null || list.size < rarest.size) {
+                        rarest = list;
+                    }
+                }
+                for (int i = 0; i < rarest.size; i++) {
+                    union.set(rarest.docs[i]);
+                }
+            }
+            if (best == null || union.cardinality() < best.length) {
+                best = union.stream().toArray();
+            }
+        }
+        return best;
+    }
+
+    // -1 when the doc fails a criterion
+    private float score(int doc, List<Criterion> criteria) {
+        float score = 0;
+        for (Criterion criterion : criteria) {
+            float best = -1;
+            for (Field field : criterion.fields) {
+                String value = values[doc][field.ordinal()];
+                if (value == null) {
+                    continue;
+                }
+                int at = value.indexOf(criterion.needle);
+                if (at < 0) {
+                    continue;
+                }
+                // Whole-field and word-start matches beat matches inside a word
+                float quality = value.length() == criterion.needle.length() ? 3f
+                        : at == 0 || !Character.isLetterOrDigit(value.charAt(at - 1)) ? 2f : 1f;
+                best = Math.max(best, field.weight * quality);
+            }
+            if (best < 0) {
+                return -1;
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private int yearOf(int doc) {
+        return years[doc] == null ? Integer.MIN_VALUE : years[doc];
+    }
+
+    private void removeLocked(long publicationId) {
+        Integer doc = docByPublication.remove(publicationId);
+        if (doc == null) {
+            return;
+        }
+        live.clear(doc);
+        values[doc] = null;
+        liveCount--;
+        deadDocs++;
+    }
+
+    private void compactIfMostlyDead() {
+        if (deadDocs > 256 && deadDocs > liveCount) {
+            compact();
+        }
+    }
+
+    // Drops removed docs and renumbers the live ones from 0 in their old order, so postings stay sorted
+    private void compact() {
+        int[] renumbered = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (!live.get(doc)) {
+                renumbered[doc] = -1;
+                continue;
+            }
+            renumbered[doc] = next;
+            publicationIds[next] = publicationIds[doc];
+            values[next] = values[doc];
+            years[next] = years[doc];
+            types[next] = types[doc];
+            docByPublication.put(publicationIds[next], next);
+            next++;
+        }
+        Arrays.fill(values, next, docCount, null);
+        Arrays.fill(years, next, docCount, null);
+        Arrays.fill(types, next, docCount, null);
+        live.clear();
+        live.set(0, next);
+
+        for (Map<String, Postings> map : trigrams) {
+            map.values().removeIf(list -> list.renumber(renumbered) == 0);
+        }
+        docCount = next;
+        deadDocs = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= publicationIds.length) {
+            return;
+        }
+        int grown = Math.max(capacity, publicationIds.length * 2);
+        publicationIds = Arrays.copyOf(publicationIds, grown);
+        values = Arrays.copyOf(values, grown);
+        years = Arrays.copyOf(years, grown);
+        types = Arrays.copyOf(types, grown);
+    }
+
+    static final class Result {
+        private final int total;
+        private final List<Long> ids;
+        private final Map<Integer, Long> yearFacets;
+        private final Map<String, Long> typeFacets;
+
+        Result(int total, List<Long> ids, Map<Integer, Long> yearFacets, Map<String, Long> typeFacets) {
+            this.total = total;
+            this.ids = ids;
+            this.yearFacets = yearFacets;
+            this.typeFacets = typeFacets;
+        }
+
+        int getTotal() {
+            return total;
+        }
+
+        List<Long> getIds() {
+            return ids;
+        }
+
+        Map<Integer, Long> getYearFacets() {
+            return yearFacets;
+        }
+
+        Map<String, Long> getTypeFacets() {
+            return typeFacets;
+        }
+    }
+
+    private static final class Criterion {
+        private final String needle;
+        private final Field[] fields;
+
+        Criterion(String needle, Field[] fields) {
+            this.needle = needle;
+            this.fields = fields;
+        }
+    }
+
+    private static final class Hit {
+        private final int doc;
+        private final float score;
+
+        Hit(int doc, float score) {
+            this.doc = doc;
+            this.score = score;
+        }
+    }
+
+    private static final class Postings {
+        static final Postings EMPTY = new Postings();
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        // Maps each doc through renumbered, dropping those mapped to -1; returns the docs kept
+        int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = renumbered[docs[i]];
+                if (doc >= 0) {
+                    docs[kept++] = doc;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+}
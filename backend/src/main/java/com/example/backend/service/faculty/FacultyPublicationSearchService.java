@@ -0,0 +1,91 @@
+package com.example.backend.service.faculty;
+
+import com.example.backend.dto.FacultyPublicationSearchResultDTO;
+import com.example.backend.event.FacultyPublicationEvent;
+import com.example.backend.model.faculty.FacultyPublication;
+import com.example.backend.repository.faculty.FacultyPublicationRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Search over faculty publications backed by {@link FacultyPublicationSearchIndex}.
+ * The index is loaded once at startup and follows {@link FacultyPublicationEvent}s;
+ * only the returned page of publications is read from the database.
+ */
+@Service
+public class FacultyPublicationSearchService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyPublicationSearchService.class);
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final String LOAD_QUERY =
+            "SELECT id, title, author, keywords, year, publication_type FROM faculty_publications";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FacultyPublicationRepository facultyPublicationRepository;
+    private volatile FacultyPublicationSearchIndex index = new FacultyPublicationSearchIndex();
+
+    public FacultyPublicationSearchService(JdbcTemplate jdbcTemplate,
+                                           FacultyPublicationRepository facultyPublicationRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.facultyPublicationRepository = facultyPublicationRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        FacultyPublicationSearchIndex rebuilt = new FacultyPublicationSearchIndex();
+        jdbcTemplate.query(LOAD_QUERY, rs -> {
+            rebuilt.put(rs.getLong("id"), rs.getString("title"), rs.getString("author"), rs.getString("keywords"),
+                    rs.getObject("year", Integer.class), rs.getString("publication_type"));
+        });
+        index = rebuilt;
+        logger.info("Faculty publication index built with {} publications", rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicationEvent(FacultyPublicationEvent event) {
+        if (event.isDeleted()) {
+            index.remove(event.getPublicationId());
+        } else {
+            index.put(event.getPublicationId(), event.getTitle(), event.getAuthor(), event.getKeywords(),
+                    event.getYear(), event.getPublicationType());
+        }
+    }
+
+    // Every given criterion must match (q against any field); size null returns all matches
+    public FacultyPublicationSearchResultDTO search(String query, String title, String author, String keywords,
+                                                    Integer year, String publicationType, Integer size) {
+        int limit = size == null ? Integer.MAX_VALUE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String type = publicationType == null || publicationType.isBlank() ? null : publicationType.trim();
+        FacultyPublicationSearchIndex.Result result = index.search(query, title, author, keywords, year, type, limit);
+
+        // findAllById doesn't keep order, so put the page back in rank order
+        Map<Long, FacultyPublication> byId = facultyPublicationRepository.findAllById(result.getIds()).stream()
+                .collect(Collectors.toMap(FacultyPublication::getId, Function.identity()));
+        List<FacultyPublication> page = new ArrayList<>(result.getIds().size());
+        for (Long id : result.getIds()) {
+            FacultyPublication publication = byId.get(id);
+            if (publication != null) {
+                page.add(publication);
+            }
+        }
+        return new FacultyPublicationSearchResultDTO(result.getTotal(), page,
+                result.getYearFacets(), result.getTypeFacets());
+    }
+}
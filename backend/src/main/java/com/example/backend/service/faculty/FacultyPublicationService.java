@@ -1,19 +1,19 @@
 package com.example.backend.service.faculty;
 
+import com.example.backend.dto.FacultyPublicationSearchResultDTO;
+import com.example.backend.event.FacultyPublicationEvent;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.faculty.FacultyPublication;
 import com.example.backend.repository.faculty.FacultyPublicationRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
 import com.example.backend.service.student.MainService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 
 @Service
@@ -22,12 +22,18 @@ public class FacultyPublicationService {
 
     private final FacultyPublicationRepository facultyPublicationRepository;
     private final MainService mainService;
+    private final FacultyPublicationSearchService facultyPublicationSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public FacultyPublicationService(FacultyPublicationRepository facultyPublicationRepository,
-                                   MainService mainService) {
+                                   MainService mainService,
+                                   FacultyPublicationSearchService facultyPublicationSearchService,
+                                   ApplicationEventPublisher eventPublisher) {
         this.facultyPublicationRepository = facultyPublicationRepository;
         this.mainService = mainService;
+        this.facultyPublicationSearchService = facultyPublicationSearchService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<FacultyPublication> getAllFacultyPublications() {
@@ -38,36 +44,46 @@ public class FacultyPublicationService {
         return facultyPublicationRepository.findByFacultyId(facultyId);
     }
 
+    // Any-field search, as the single search box used to do
     public List<FacultyPublication> searchPublications(String query) {
-        return facultyPublicationRepository.searchPublications(query);
+        return facultyPublicationSearchService.search(query, null, null, null, null, null, null).getResults();
+    }
+
+    public FacultyPublicationSearchResultDTO searchPublications(String query, String title, String author, String keywords,
+                                                                Integer year, String publicationType, Integer size) {
+        return facultyPublicationSearchService.search(query, title, author, keywords, year, publicationType, size);
     }
 
     public FacultyPublication savePublication(FacultyPublication publication) {
-        return facultyPublicationRepository.save(publication);
+        FacultyPublication saved = facultyPublicationRepository.save(publication);
+        eventPublisher.publishEvent(FacultyPublicationEvent.saved(saved));
+        return saved;
     }
 
-    public FacultyPublication submitPublication(FacultyPublication publication, MultipartFile documentFile) throws IOException {
-        if (documentFile != null && !documentFile.isEmpty()) {
-            String documentPath = mainService.saveFile(documentFile);
-            publication.setDocumentPath(documentPath);
+    // The document, if any, is staged through MainService.stageFile before this transaction opens
+    public FacultyPublication submitPublication(FacultyPublication publication, StagedDocument document) throws IOException {
+        if (document != null) {
+            publication.setDocumentPath(mainService.commitFile(document));
         }
-        return facultyPublicationRepository.save(publication);
+        FacultyPublication saved = facultyPublicationRepository.save(publication);
+        eventPublisher.publishEvent(FacultyPublicationEvent.saved(saved));
+        return saved;
     }
 
     public void deletePublication(Long publicationId) throws IOException {
         FacultyPublication publication = facultyPublicationRepository.findById(publicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Publication not found with id: " + publicationId));
         
-        // Delete associated file if exists
+        // Release the associated file; shared documents stay until their last reference goes
         if (publication.getDocumentPath() != null) {
             try {
-                Path filePath = Paths.get(publication.getDocumentPath());
-                Files.deleteIfExists(filePath);
+                mainService.releaseFile(publication.getDocumentPath());
             } catch (IOException e) {
                 throw new IOException("Failed to delete document file: " + e.getMessage());
             }
         }
         
         facultyPublicationRepository.deleteById(publicationId);
+        eventPublisher.publishEvent(FacultyPublicationEvent.deleted(publicationId));
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.example.backend.model.User;
 import com.example.backend.repository.FacultyRepository;
 import com.example.backend.repository.StudentRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.service.UserCache;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,13 +18,16 @@ public class FacultyService {
     private final FacultyRepository facultyRepository;
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
+    private final UserCache userCache;
 
     public FacultyService(FacultyRepository facultyRepository, 
                          UserRepository userRepository, 
-                         StudentRepository studentRepository) {
+                         StudentRepository studentRepository,
+                         UserCache userCache) {
         this.facultyRepository = facultyRepository;
         this.userRepository = userRepository;
         this.studentRepository = studentRepository;
+        this.userCache = userCache;
     }
 
     // Object-based version
@@ -61,11 +65,15 @@ public class FacultyService {
     }
 
     public Faculty saveFaculty(Faculty faculty) {
-        return facultyRepository.save(faculty);
+        Faculty saved = facultyRepository.save(faculty);
+        userCache.evictFaculty(saved);
+        return saved;
     }
 
     public void deleteFaculty(Long id) {
         facultyRepository.deleteById(id);
+        // Faculty.students cascades, so the faculty's students are gone too
+        userCache.evictFacultyId(id);
     }
 
     public Object findById(Long facultyId) {
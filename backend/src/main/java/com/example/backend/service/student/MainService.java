@@ -1,28 +1,41 @@
 package com.example.backend.service.student;
 
+import com.example.backend.dto.BulkVerificationRequest;
+import com.example.backend.dto.BulkVerificationResult;
+import com.example.backend.dto.BulkVerificationResult.Outcome;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.RecordCursor;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSummaryDTO;
+import com.example.backend.event.RecordEvent;
 import com.example.backend.model.student.Main;
+import com.example.backend.model.student.VerificationStatus;
+import com.example.backend.exception.InvalidStatusTransitionException;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.Student;
 import com.example.backend.repository.FacultyRepository;
 import com.example.backend.repository.student.MainRepository;
+import com.example.backend.service.DocumentStorageService;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @Transactional
@@ -30,26 +43,33 @@ public class MainService {
 
     private final MainRepository mainRepository;
     private final FacultyRepository facultyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DocumentStorageService documentStorageService;
 
-    public MainService(MainRepository mainRepository, FacultyRepository facultyRepository) {
+    public MainService(MainRepository mainRepository, FacultyRepository facultyRepository,
+                       ApplicationEventPublisher eventPublisher, DocumentStorageService documentStorageService) {
         this.mainRepository = mainRepository;
         this.facultyRepository = facultyRepository;
+        this.eventPublisher = eventPublisher;
+        this.documentStorageService = documentStorageService;
     }
 
-    private static final String UPLOAD_DIR = System.getProperty("user.dir") + "/RecordDocuments/";
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BULK_SIZE = 500;
 
     public Main getEventById(Long id) {
-        return mainRepository.findById(id)
+        return mainRepository.findTypedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<Main> getStudentActivities(Student student, Faculty faculty, String status) {
+    public List<Main> getStudentActivities(Student student, Faculty faculty, VerificationStatus status) {
         return mainRepository.findByStudentAndFacultyAndVerificationStatus(student, faculty, status);
     }
 
     @Transactional(readOnly = true)
-    public List<Main> getStudentActivitiesByIds(Long studentId, Long facultyId, String status) {
+    public List<Main> getStudentActivitiesByIds(Long studentId, Long facultyId, VerificationStatus status) {
         return mainRepository.findByStudent_IdAndFaculty_IdAndVerificationStatus(studentId, facultyId, status);
     }
 
@@ -65,14 +85,11 @@ public class MainService {
         
         if (optionalRecord.isPresent()) {
             Main record = optionalRecord.get();
-            record.setVerificationStatus(status);
-            
+            VerificationStatus target = VerificationStatus.from(status);
+
             // Only store comment if rejecting
-            if ("Rejected".equalsIgnoreCase(status)) {
-                record.setComments(comment);
-            }
-            
-            mainRepository.save(record);
+            String comments = target == VerificationStatus.REJECTED ? comment : record.getComments();
+            transition(record, target, comments);
             return true;
         }
         return false;
@@ -92,13 +109,13 @@ public class MainService {
     @Transactional
     public List<Main> getPendingRecords(Long facultyId) {
         return mainRepository.findByFacultyIdAndVerificationStatus(
-            facultyId, "Pending");
+            facultyId, VerificationStatus.PENDING);
     }
 
     @Transactional
     public List<Main> getRejectedRecords(Long facultyId) {
         return mainRepository.findByFacultyIdAndVerificationStatus(
-            facultyId, "Rejected");
+            facultyId, VerificationStatus.REJECTED);
     }
 
     @Transactional
@@ -110,10 +127,7 @@ public class MainService {
             return false;
         }
 
-        Main record = recordOpt.get();
-        record.setVerificationStatus("Approved");
-        record.setComments(comment);
-        mainRepository.save(record);
+        transition(recordOpt.get(), VerificationStatus.APPROVED, comment);
         return true;
     }
 
@@ -126,15 +140,118 @@ public class MainService {
             return false;
         }
 
-        Main record = recordOpt.get();
-        record.setVerificationStatus("Rejected");
-        record.setComments(comment);
-        mainRepository.save(record);
+        transition(recordOpt.get(), VerificationStatus.REJECTED, comment);
         return true;
     }
 
+    // Student sends a rejected record back for review; the rejection comment stays for reference
+    @Transactional
+    public void resubmitRecord(Long recordId, Long studentId) {
+        Main record = mainRepository.findById(recordId)
+            .filter(r -> r.getStudent() != null && Objects.equals(r.getStudent().getId(), studentId))
+            .orElseThrow(() -> new ResourceNotFoundException("Record not found with id: " + recordId));
+
+        transition(record, VerificationStatus.PENDING, record.getComments());
+    }
+
+    // Guarded status change: the UPDATE only matches while the row still has the status we read,
+    // so of two concurrent reviewers exactly one wins and the other gets a conflict
+    private void transition(Main record, VerificationStatus target, String comment) {
+        VerificationStatus current = record.getVerificationStatus();
+        if (!current.canTransitionTo(target)) {
+            throw new InvalidStatusTransitionException("Record " + record.getId() + " is "
+                    + current.getLabel() + " and cannot be changed to " + target.getLabel());
+        }
+
+        RecordEvent.State before = RecordEvent.State.of(record);
+        int updated = mainRepository.updateVerificationStatusIfCurrent(
+                List.of(record.getId()), record.getFaculty().getId(), current, target, comment);
+        if (updated == 0) {
+            throw new InvalidStatusTransitionException("Record " + record.getId()
+                    + " was changed by someone else, reload and try again");
+        }
+
+        RecordEvent.Kind kind = target == VerificationStatus.PENDING
+                ? RecordEvent.Kind.RESUBMITTED : RecordEvent.Kind.VERIFIED;
+        eventPublisher.publishEvent(new RecordEvent(kind, record.getId(), before, before.withVerificationStatus(target)));
+    }
+
+    // Approve or reject many Pending records of one faculty: one status read, then one guarded UPDATE for the batch
     @Transactional
+    public BulkVerificationResult bulkUpdateVerificationStatus(Long facultyId, BulkVerificationRequest request) {
+        VerificationStatus status = VerificationStatus.from(request.getStatus());
+        if (!VerificationStatus.PENDING.canTransitionTo(status)) {
+            throw new IllegalArgumentException("Status must be Approved or Rejected");
+        }
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            throw new IllegalArgumentException("No record ids given");
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+        ids.removeIf(Objects::isNull);
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " records per request");
+        }
+
+        Map<Long, RecordEvent.State> current = new HashMap<>();
+        for (Object[] row : mainRepository.findVerificationStateByIdsAndFacultyId(ids, facultyId)) {
+            current.put((Long) row[0], new RecordEvent.State(((Class<?>) row[2]).getSimpleName(),
+                    (VerificationStatus) row[1], Boolean.TRUE.equals(row[4]), facultyId, (Long) row[3]));
+        }
+
+        BulkVerificationResult result = new BulkVerificationResult();
+        Map<Long, String> commentsById = new LinkedHashMap<>();
+        for (Long id : ids) {
+            String comment = request.commentFor(id);
+            if (!current.containsKey(id)) {
+                result.put(id, Outcome.NOT_FOUND);
+            } else if (current.get(id).getVerificationStatus() != VerificationStatus.PENDING) {
+                result.put(id, Outcome.NOT_PENDING);
+            } else if (status == VerificationStatus.REJECTED && (comment == null || comment.trim().isEmpty())) {
+                result.put(id, Outcome.COMMENT_REQUIRED);
+            } else {
+                result.put(id, Outcome.UPDATED);
+                commentsById.put(id, comment);
+            }
+        }
+
+        int updated = mainRepository.updateVerificationStatusIfCurrent(
+                commentsById, facultyId, VerificationStatus.PENDING, status);
+
+        // Someone else verified part of the batch in between; find out which ones
+        if (updated < commentsById.size()) {
+            List<Long> attempted = new ArrayList<>(commentsById.keySet());
+            Map<Long, VerificationStatus> after = new HashMap<>();
+            for (Object[] row : mainRepository.findVerificationStateByIdsAndFacultyId(attempted, facultyId)) {
+                after.put((Long) row[0], (VerificationStatus) row[1]);
+            }
+            for (Long id : attempted) {
+                if (after.get(id) != status) {
+                    result.put(id, Outcome.CONFLICT);
+                }
+            }
+        }
+
+        result.getOutcomes().forEach((id, outcome) -> {
+            if (outcome == Outcome.UPDATED) {
+                RecordEvent.State before = current.get(id);
+                eventPublisher.publishEvent(new RecordEvent(RecordEvent.Kind.VERIFIED, id,
+                        before, before.withVerificationStatus(status)));
+            }
+        });
+        return result;
+    }
+
+    // Not transactional, so no connection is held while the upload is staged
     public String saveFile(MultipartFile file) throws IOException {
+        // Stored by content: a duplicate upload returns the existing document's key
+        try (StagedDocument staged = stageFile(file)) {
+            return documentStorageService.commit(staged);
+        }
+    }
+
+    // Streams and hashes the upload without a transaction, so no connection is held during disk I/O
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StagedDocument stageFile(MultipartFile file) throws IOException {
         // Validate input file
         if (file == null) {
             throw new IllegalArgumentException("File cannot be null");
@@ -150,78 +267,96 @@ public class MainService {
             throw new IllegalArgumentException("File name cannot be empty");
         }
     
-        // Create upload directory if it doesn't exist
-        File directory = new File(UPLOAD_DIR);
-        if (!directory.exists()) {
-            boolean dirsCreated = directory.mkdirs();
-            if (!dirsCreated) {
-                throw new IOException("Failed to create upload directory");
-            }
-        }
-    
-        // Extract file extension
-        String fileExtension = "";
-        if (originalFilename.contains(".")) {
-            fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
-    
-        // Generate unique filename
-        String fileName = UUID.randomUUID().toString() + fileExtension;
-        Path filePath = Paths.get(UPLOAD_DIR, fileName);
-    
-        // Save the file
-        try {
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream content = file.getInputStream()) {
+            return documentStorageService.stage(content, originalFilename);
         } catch (IOException e) {
             throw new IOException("Failed to save file: " + e.getMessage(), e);
         }
-    
-        return filePath.toAbsolutePath().toString();
     }
 
+    // Saves a new record with its staged document; the file is moved into place only if this commits
     @Transactional
-public Resource downloadFile(Long eventId) throws MalformedURLException, ResourceNotFoundException {
-    // Validate input
-    if (eventId == null) {
-        throw new IllegalArgumentException("Event ID cannot be null");
+    public <T extends Main> T submitRecord(T record, StagedDocument document) throws IOException {
+        record.setDocumentPath(documentStorageService.commit(document));
+        T saved = mainRepository.save(record);
+        recordSubmitted(saved);
+        return saved;
     }
 
-    // Find the event record
-    Main event = mainRepository.findById(eventId)
-        .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
-
-    // Check document path
-    String documentPath = event.getDocumentPath();
-    if (documentPath == null || documentPath.trim().isEmpty()) {
-        throw new ResourceNotFoundException("No document path found for event id: " + eventId);
+    // Adds a reference to a staged document in the caller's transaction; the file is moved into place if it commits
+    @Transactional
+    public String commitFile(StagedDocument document) throws IOException {
+        return documentStorageService.commit(document);
     }
 
-    // Resolve file path
-    Path filePath = Paths.get(UPLOAD_DIR).resolve(documentPath).normalize();
-    
-    // Verify the path is within the upload directory (security check)
-    if (!filePath.startsWith(Paths.get(UPLOAD_DIR).normalize())) {
-        throw new SecurityException("Attempted path traversal attack");
+    // Drops the record's (or publication's) reference to its document
+    public void releaseFile(String documentPath) throws IOException {
+        documentStorageService.release(documentPath);
     }
 
-    // Create resource
-    Resource resource = new UrlResource(filePath.toUri());
-    
-    if (!resource.exists()) {
-        throw new ResourceNotFoundException("File not found at path: " + filePath);
-    }
+    // The record's document with what a ranged, cacheable download needs
+    @Transactional(readOnly = true)
+    public DocumentStorageService.StoredDocument getDocument(Long eventId) throws IOException {
+        if (eventId == null) {
+            throw new IllegalArgumentException("Event ID cannot be null");
+        }
 
-    return resource;
-}
+        Main event = mainRepository.findById(eventId)
+            .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+
+        String documentPath = event.getDocumentPath();
+        if (documentPath == null || documentPath.trim().isEmpty()) {
+            throw new ResourceNotFoundException("No document path found for event id: " + eventId);
+        }
+
+        // Resolved inside the documents directory only
+        DocumentStorageService.StoredDocument document = documentStorageService.open(documentPath);
+        if (document == null) {
+            throw new ResourceNotFoundException("File not found for event id: " + eventId);
+        }
+        return document;
+    }
 
-    public List<Main> getAllByVerificationStatus(String verificationStatus) {
+    public List<Main> getAllByVerificationStatus(VerificationStatus verificationStatus) {
         return mainRepository.findByVerificationStatus(verificationStatus);
     }
 
-    public List<Main> getAllByStudentIdAndVerificationStatus(Long studentId, String status) {
+    public List<Main> getAllByStudentIdAndVerificationStatus(Long studentId, VerificationStatus status) {
         return mainRepository.findAllByStudentIdAndVerificationStatus(studentId, status);
     }
 
+    // Keyset-paginated listing; replaces the unbounded list lookups above for large tables
+    @Transactional(readOnly = true)
+    public CursorPage<Main> listRecords(RecordFilter filter, String cursor, Integer size) {
+        int pageSize = clampPageSize(size);
+        List<Main> rows = mainRepository.findPage(filter, RecordCursor.decode(cursor), pageSize + 1);
+        return toPage(rows, pageSize, last -> new RecordCursor(last.getSubmissionDate(), last.getId()));
+    }
+
+    // Projection-based variant for list screens: one query, no entity graphs
+    @Transactional(readOnly = true)
+    public CursorPage<RecordSummaryDTO> listRecordSummaries(RecordFilter filter, String cursor, Integer size) {
+        int pageSize = clampPageSize(size);
+        List<RecordSummaryDTO> rows = mainRepository.findSummaryPage(filter, RecordCursor.decode(cursor), pageSize + 1);
+        return toPage(rows, pageSize, last -> new RecordCursor(last.getSubmissionDate(), last.getId()));
+    }
+
+    // Rows are fetched with one extra element; its presence means there is a next page
+    private static <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, RecordCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, pageSize));
+        return new CursorPage<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+
+    static int clampPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     // Flag related methods
 
     @Transactional(readOnly = true)
@@ -240,11 +375,10 @@ public Resource downloadFile(Long eventId) throws MalformedURLException, Resourc
         Main record = mainRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Record not found with id: " + id));
 
-        // Delete the associated file if it exists
+        // Release the associated document; it is unlinked once no record refers to it
         if (record.getDocumentPath() != null && !record.getDocumentPath().isEmpty()) {
             try {
-                Path filePath = Paths.get(UPLOAD_DIR).resolve(record.getDocumentPath()).normalize();
-                Files.deleteIfExists(filePath);
+                documentStorageService.release(record.getDocumentPath());
             } catch (IOException e) {
                 // Log the error but continue with record deletion
                 System.err.println("Failed to delete document file: " + e.getMessage());
@@ -253,6 +387,7 @@ public Resource downloadFile(Long eventId) throws MalformedURLException, Resourc
 
         // Delete the record from database
         mainRepository.deleteById(id);
+        eventPublisher.publishEvent(RecordEvent.deleted(record));
     }
 
     @Transactional
@@ -260,8 +395,16 @@ public Resource downloadFile(Long eventId) throws MalformedURLException, Resourc
         Main record = mainRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Record not found with id: " + id));
 
+        boolean wasFlagged = Boolean.TRUE.equals(record.getFlag());
+        RecordEvent.State before = RecordEvent.State.of(record);
         record.setFlag(flag);
         mainRepository.save(record);
+
+        if (wasFlagged != Boolean.TRUE.equals(flag)) {
+            eventPublisher.publishEvent(new RecordEvent(
+                    wasFlagged ? RecordEvent.Kind.UNFLAGGED : RecordEvent.Kind.FLAGGED,
+                    id, before, RecordEvent.State.of(record)));
+        }
     }
 
     // Additional helper method to flag a record
@@ -269,6 +412,11 @@ public Resource downloadFile(Long eventId) throws MalformedURLException, Resourc
     public void flagRecord(Long id) {
         updateFlag(id, true);
     }
+
+    // Called by the submit endpoints once the new record is saved
+    public void recordSubmitted(Main record) {
+        eventPublisher.publishEvent(RecordEvent.created(record));
+    }
 }
 
 
@@ -0,0 +1,88 @@
+package com.example.backend.service.student;
+
+import com.example.backend.model.student.VerificationStatus;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cheap "has anything changed" markers for record listings: the row count and the
+ * newest {@code last_modified} of the records in a scope. Both come from a covering
+ * index, so a marker costs one index range read instead of loading the rows.
+ *
+ * Any insert, update or delete in the scope moves the count or the timestamp,
+ * which makes the marker usable as a weak ETag.
+ */
+@Service
+public class RecordChangeMarkerService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecordChangeMarkerService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Marker forFaculty(Long facultyId, VerificationStatus... statuses) {
+        return query("faculty_id = ?", facultyId, statuses);
+    }
+
+    public Marker forStudent(Long studentId, VerificationStatus... statuses) {
+        return query("student_id = ?", studentId, statuses);
+    }
+
+    public Marker forAll(VerificationStatus... statuses) {
+        return query(null, null, statuses);
+    }
+
+    private Marker query(String scopeCondition, Long scopeId, VerificationStatus[] statuses) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (scopeCondition != null) {
+            conditions.add(scopeCondition);
+            args.add(scopeId);
+        }
+        if (statuses.length > 0) {
+            conditions.add("verification_status IN (" + String.join(", ", Collections.nCopies(statuses.length, "?")) + ")");
+            for (VerificationStatus status : statuses) {
+                args.add(status.getCode());
+            }
+        }
+        String sql = "SELECT COUNT(*) AS n, MAX(last_modified) AS modified FROM main"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions));
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            Timestamp modified = rs.getTimestamp("modified");
+            long micros = modified == null ? 0L
+                    : Math.floorDiv(modified.getTime(), 1000L) * 1_000_000L + modified.getNanos() / 1000;
+            return new Marker(rs.getLong("n"), micros);
+        }, args.toArray());
+    }
+
+    public static final class Marker {
+        private final long count;
+        private final long lastModifiedMicros; // epoch microseconds, 0 for an empty scope
+
+        public Marker(long count, long lastModifiedMicros) {
+            this.count = count;
+            this.lastModifiedMicros = lastModifiedMicros;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        // Epoch millis, for the Last-Modified header
+        public long getLastModified() {
+            return lastModifiedMicros / 1000;
+        }
+
+        // Keeps the full column precision; Last-Modified only resolves whole seconds
+        public String toETag() {
+            return "W/\"" + Long.toHexString(count) + "-" + Long.toHexString(lastModifiedMicros) + "\"";
+        }
+    }
+}
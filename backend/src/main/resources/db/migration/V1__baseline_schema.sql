@@ -0,0 +1,165 @@
+-- Schema as previously generated by Hibernate. IF NOT EXISTS makes this a no-op
+-- on databases that were created before migrations were introduced.
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    role VARCHAR(255),
+    is_active BOOLEAN NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS admin (
+    id BIGINT NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_admin_user FOREIGN KEY (id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS faculty (
+    id BIGINT NOT NULL,
+    fa_id VARCHAR(255) NOT NULL,
+    department VARCHAR(255),
+    phone VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_faculty_fa_id UNIQUE (fa_id),
+    CONSTRAINT fk_faculty_user FOREIGN KEY (id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS student (
+    id BIGINT NOT NULL,
+    roll_no VARCHAR(255) NOT NULL,
+    date_of_birth DATETIME(6),
+    degree VARCHAR(255),
+    department VARCHAR(255),
+    batch INT NOT NULL,
+    student_class VARCHAR(255) NOT NULL,
+    cgpa DOUBLE,
+    gender VARCHAR(255) NOT NULL,
+    address VARCHAR(255),
+    city VARCHAR(255),
+    state VARCHAR(255),
+    postal_code VARCHAR(255),
+    country VARCHAR(255),
+    faculty_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_student_roll_no UNIQUE (roll_no),
+    CONSTRAINT fk_student_user FOREIGN KEY (id) REFERENCES users (id),
+    CONSTRAINT fk_student_faculty FOREIGN KEY (faculty_id) REFERENCES faculty (id)
+);
+
+CREATE TABLE IF NOT EXISTS main (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    dtype VARCHAR(31) NOT NULL,
+    title VARCHAR(255),
+    description TEXT,
+    submission_date DATETIME(6),
+    student_id BIGINT NOT NULL,
+    faculty_id BIGINT NOT NULL,
+    verification_status VARCHAR(255),
+    comments TEXT,
+    document_path VARCHAR(255),
+    flag BOOLEAN,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_main_student FOREIGN KEY (student_id) REFERENCES student (id),
+    CONSTRAINT fk_main_faculty FOREIGN KEY (faculty_id) REFERENCES faculty (id)
+);
+
+CREATE TABLE IF NOT EXISTS event (
+    id BIGINT NOT NULL,
+    event_date DATE,
+    host VARCHAR(255),
+    category VARCHAR(255),
+    achievement VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_event_main FOREIGN KEY (id) REFERENCES main (id)
+);
+
+CREATE TABLE IF NOT EXISTS technical_event (
+    id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_technical_event_event FOREIGN KEY (id) REFERENCES event (id)
+);
+
+CREATE TABLE IF NOT EXISTS sports_event (
+    id BIGINT NOT NULL,
+    event_level VARCHAR(255),
+    role VARCHAR(255),
+    outcome VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_sports_event_event FOREIGN KEY (id) REFERENCES event (id)
+);
+
+CREATE TABLE IF NOT EXISTS cultural_event (
+    id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_cultural_event_event FOREIGN KEY (id) REFERENCES event (id)
+);
+
+CREATE TABLE IF NOT EXISTS clubs_and_societies (
+    id BIGINT NOT NULL,
+    position VARCHAR(255),
+    start_date DATE,
+    end_date DATE,
+    club_category VARCHAR(255),
+    event_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_clubs_and_societies_main FOREIGN KEY (id) REFERENCES main (id),
+    CONSTRAINT fk_clubs_and_societies_event FOREIGN KEY (event_id) REFERENCES event (id)
+);
+
+CREATE TABLE IF NOT EXISTS publications (
+    id BIGINT NOT NULL,
+    orcid_id VARCHAR(255),
+    author TEXT,
+    year INT,
+    doi VARCHAR(255),
+    keywords TEXT,
+    abstract_content TEXT,
+    publication_type VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_publications_main FOREIGN KEY (id) REFERENCES main (id)
+);
+
+CREATE TABLE IF NOT EXISTS job_opportunity (
+    id BIGINT NOT NULL,
+    company_name VARCHAR(255),
+    start_date DATE,
+    role VARCHAR(255),
+    field VARCHAR(255),
+    type VARCHAR(255),
+    duration VARCHAR(255),
+    stipend VARCHAR(255),
+    ctc VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_job_opportunity_main FOREIGN KEY (id) REFERENCES main (id)
+);
+
+CREATE TABLE IF NOT EXISTS dropdown_options (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    category VARCHAR(255),
+    dropdown_name VARCHAR(255),
+    option_value VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS faculty_publications (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255),
+    publication_type VARCHAR(255),
+    orcid_id VARCHAR(255),
+    author VARCHAR(255),
+    year INT,
+    collaborators VARCHAR(255),
+    doi VARCHAR(255),
+    keywords VARCHAR(255),
+    abstract_content VARCHAR(255),
+    description VARCHAR(255),
+    document_path VARCHAR(255),
+    faculty_id BIGINT NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_faculty_publications_faculty FOREIGN KEY (faculty_id) REFERENCES faculty (id)
+);
@@ -0,0 +1,36 @@
+-- Indexes for the derived queries in MainRepository, the per-type repositories,
+-- StudentRepository, FacultyRepository and the keyset listing.
+-- Foreign key columns (main.student_id, student.faculty_id, ...) are already indexed by InnoDB.
+
+-- findByFacultyIdAndVerificationStatus, findByFacultyAndVerificationStatus, bulk verification
+CREATE INDEX idx_main_faculty_status ON main (faculty_id, verification_status);
+
+-- findAllByStudentIdAndVerificationStatus
+CREATE INDEX idx_main_student_status ON main (student_id, verification_status);
+
+-- findByStudentAndFacultyAndVerificationStatus, findByStudent_IdAndFaculty_IdAndVerificationStatus, findByStudentAndFaculty
+CREATE INDEX idx_main_student_faculty_status ON main (student_id, faculty_id, verification_status);
+
+-- findByFlag on Main and every per-type repository
+CREATE INDEX idx_main_flag ON main (flag);
+
+-- findByStudentIdAndFlag, findByStudentAndFlag
+CREATE INDEX idx_main_student_flag ON main (student_id, flag);
+
+-- findByVerificationStatus, and the status-filtered keyset listing ordered by (submission_date, id)
+CREATE INDEX idx_main_status_submitted ON main (verification_status, submission_date, id);
+
+-- Unfiltered keyset listing
+CREATE INDEX idx_main_submitted ON main (submission_date, id);
+
+-- UserRepository.findByRoleIn
+CREATE INDEX idx_users_role ON users (role);
+
+-- StudentRepository.findByDepartment
+CREATE INDEX idx_student_department ON student (department);
+
+-- JobOpportunityRepository.findByType
+CREATE INDEX idx_job_opportunity_type ON job_opportunity (type);
+
+-- DropdownRepository.findByCategoryAndDropdownName
+CREATE INDEX idx_dropdown_category_name ON dropdown_options (category, dropdown_name);
@@ -0,0 +1,11 @@
+-- verification_status becomes a one-letter code (see VerificationStatus): P, A or R
+UPDATE main SET verification_status = CASE
+    WHEN LOWER(verification_status) = 'approved' THEN 'A'
+    WHEN LOWER(verification_status) = 'rejected' THEN 'R'
+    ELSE 'P'
+END;
+
+ALTER TABLE main MODIFY COLUMN verification_status CHAR(1) NOT NULL DEFAULT 'P';
+
+-- Optimistic locking for Main (@Version)
+ALTER TABLE main ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- Append-only history of mutating operations, written in batches by AuditService
+CREATE TABLE audit_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    occurred_at DATETIME(6) NOT NULL,
+    actor VARCHAR(255),
+    action VARCHAR(40) NOT NULL,
+    entity_type VARCHAR(40) NOT NULL,
+    entity_id BIGINT,
+    details VARCHAR(1000),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_audit_log_entity ON audit_log (entity_type, entity_id, id);
+CREATE INDEX idx_audit_log_actor ON audit_log (actor, id);
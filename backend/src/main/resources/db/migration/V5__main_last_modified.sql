@@ -0,0 +1,15 @@
+-- Change marker for conditional GETs (see RecordChangeMarkerService). The database
+-- maintains it, so JPQL bulk updates and imports bump it as well.
+ALTER TABLE main ADD COLUMN last_modified DATETIME(6) NOT NULL
+    DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- COUNT(*) and MAX(last_modified) per scope are answered from these indexes alone.
+-- The new indexes replace the V2 ones they extend; they are created first so the
+-- foreign keys on faculty_id and student_id always keep a usable index.
+CREATE INDEX idx_main_faculty_status_modified ON main (faculty_id, verification_status, last_modified);
+DROP INDEX idx_main_faculty_status ON main;
+
+CREATE INDEX idx_main_student_status_modified ON main (student_id, verification_status, last_modified);
+DROP INDEX idx_main_student_status ON main;
+
+CREATE INDEX idx_main_status_modified ON main (verification_status, last_modified);
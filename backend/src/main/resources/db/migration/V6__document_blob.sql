@@ -0,0 +1,9 @@
+-- References to content-addressed documents (see DocumentStorageService).
+-- storage_key is the path below the documents directory, also stored in documentPath.
+CREATE TABLE document_blob (
+    storage_key VARCHAR(100) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    ref_count INT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (storage_key)
+);
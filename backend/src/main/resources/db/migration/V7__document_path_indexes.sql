@@ -0,0 +1,5 @@
+-- Reference lookups of the orphan document collector (DocumentCollectorService):
+-- document_path IN (...) for every batch of files it examines.
+CREATE INDEX idx_main_document_path ON main (document_path);
+
+CREATE INDEX idx_faculty_publications_document_path ON faculty_publications (document_path);
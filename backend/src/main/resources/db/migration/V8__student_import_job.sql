@@ -0,0 +1,24 @@
+-- Background student roster imports (see StudentImportService)
+CREATE TABLE student_import_job (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    filename VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    submitted_at DATETIME(6) NOT NULL,
+    started_at DATETIME(6),
+    finished_at DATETIME(6),
+    rows_parsed INT NOT NULL DEFAULT 0,
+    rows_committed INT NOT NULL DEFAULT 0,
+    rows_failed INT NOT NULL DEFAULT 0,
+    message VARCHAR(1000),
+    PRIMARY KEY (id)
+);
+
+-- The rows a job could not import, for its downloadable error report
+CREATE TABLE student_import_error (
+    job_id BIGINT NOT NULL,
+    row_no INT NOT NULL,
+    email VARCHAR(255),
+    message VARCHAR(1000) NOT NULL,
+    PRIMARY KEY (job_id, row_no),
+    CONSTRAINT fk_student_import_error_job FOREIGN KEY (job_id) REFERENCES student_import_job (id)
+);
@@ -0,0 +1,127 @@
+package com.example.backend.config;
+
+import com.example.backend.model.student.VerificationStatus;
+import com.example.backend.service.student.RecordChangeMarkerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecordETagInterceptorTest {
+
+    @Mock
+    private RecordChangeMarkerService markerService;
+
+    private RecordETagInterceptor interceptor;
+
+    private final RecordChangeMarkerService.Marker marker = new RecordChangeMarkerService.Marker(3, 1_700_000_000_123_456L);
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new RecordETagInterceptor(markerService);
+    }
+
+    @Test
+    void preHandle_ShouldSetETagAndContinue_WhenNoValidatorSent() throws Exception {
+        when(markerService.forFaculty(5L, VerificationStatus.PENDING)).thenReturn(marker);
+        MockHttpServletRequest request = get("/api/faculty/5/pending-records", Map.of("facultyId", "5"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request, response, handler("facultyPending"));
+
+        assertTrue(proceed);
+        assertEquals(200, response.getStatus());
+        assertEquals(marker.toETag(), response.getHeader("ETag"));
+        assertNotNull(response.getHeader("Last-Modified"));
+        assertEquals("private, no-cache", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void preHandle_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        when(markerService.forStudent(7L, VerificationStatus.PENDING, VerificationStatus.APPROVED)).thenReturn(marker);
+        MockHttpServletRequest request = get("/api/technical/student/object/7", Map.of("studentId", "7"));
+        request.addHeader("If-None-Match", marker.toETag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request, response, handler("studentObjects"));
+
+        assertFalse(proceed);
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldContinue_WhenScopeChanged() throws Exception {
+        when(markerService.forAll(VerificationStatus.APPROVED)).thenReturn(new RecordChangeMarkerService.Marker(4, 1_700_000_000_123_999L));
+        MockHttpServletRequest request = get("/api/main/approved", Map.of());
+        request.addHeader("If-None-Match", marker.toETag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, handler("allApproved")));
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldSkipUnannotatedHandlers() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(get("/api/main/records", Map.of()), response, handler("plain")));
+        assertNull(response.getHeader("ETag"));
+        verifyNoInteractions(markerService);
+    }
+
+    @Test
+    void preHandle_ShouldLeaveMalformedIdsToTheHandler() throws Exception {
+        MockHttpServletRequest request = get("/api/faculty/abc/pending-records", Map.of("facultyId", "abc"));
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), handler("facultyPending")));
+        verifyNoInteractions(markerService);
+    }
+
+    @Test
+    void marker_ShouldChangeETagWithCountOrTimestamp() {
+        String etag = marker.toETag();
+
+        assertTrue(etag.startsWith("W/\""));
+        assertNotEquals(etag, new RecordChangeMarkerService.Marker(2, 1_700_000_000_123_456L).toETag());
+        assertNotEquals(etag, new RecordChangeMarkerService.Marker(3, 1_700_000_000_123_457L).toETag());
+        assertEquals(1_700_000_000_123L, marker.getLastModified());
+    }
+
+    private static MockHttpServletRequest get(String uri, Map<String, String> pathVariables) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathVariables);
+        return request;
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod(name));
+    }
+
+    static class Handlers {
+        @RecordETag(scope = RecordETag.Scope.FACULTY, statuses = VerificationStatus.PENDING)
+        void facultyPending() {
+        }
+
+        @RecordETag(scope = RecordETag.Scope.STUDENT, statuses = { VerificationStatus.PENDING, VerificationStatus.APPROVED })
+        void studentObjects() {
+        }
+
+        @RecordETag(scope = RecordETag.Scope.ALL, statuses = VerificationStatus.APPROVED)
+        void allApproved() {
+        }
+
+        void plain() {
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the migrations against H2 in MySQL mode and checks that repository access paths use an index
+class SchemaMigratorTest {
+
+    private SchemaMigrator schemaMigrator;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID()
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,VALUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        schemaMigrator = new SchemaMigrator(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        schemaMigrator.migrate();
+    }
+
+    @Test
+    void migrate_ShouldApplyEachScriptOnce() {
+        int scripts = schemaMigrator.findMigrations().size();
+
+        assertEquals(scripts, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM schema_version", Integer.class));
+        assertEquals(0, schemaMigrator.migrate());
+    }
+
+    @Test
+    void migrate_ShouldFail_WhenAppliedScriptWasModified() {
+        jdbcTemplate.update("UPDATE schema_version SET checksum = checksum + 1 WHERE version = 1");
+
+        assertThrows(IllegalStateException.class, () -> schemaMigrator.migrate());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQuery_ShouldNotScanWholeTable(String query, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertFalse(plan.contains(".tableScan"), query + " does a full table scan:\n" + plan);
+    }
+
+    // SQL shaped like what Hibernate generates for each derived query
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                // MainRepository
+                Arguments.of("Main.findByFacultyIdAndVerificationStatus",
+                        "SELECT m.id FROM main m WHERE m.faculty_id = 1 AND m.verification_status = 'P'"),
+                Arguments.of("Main.findAllByStudentIdAndVerificationStatus",
+                        "SELECT m.id FROM main m WHERE m.student_id = 1 AND m.verification_status = 'P'"),
+                Arguments.of("Main.findByStudent_IdAndFaculty_IdAndVerificationStatus",
+                        "SELECT m.id FROM main m WHERE m.student_id = 1 AND m.faculty_id = 2 AND m.verification_status = 'P'"),
+                Arguments.of("Main.findByStudentAndFaculty",
+                        "SELECT m.id FROM main m WHERE m.student_id = 1 AND m.faculty_id = 2"),
+                Arguments.of("Main.findByStudent",
+                        "SELECT m.id FROM main m WHERE m.student_id = 1"),
+                Arguments.of("Main.findByVerificationStatus",
+                        "SELECT m.id FROM main m WHERE m.verification_status = 'P'"),
+                Arguments.of("Main.findByFlag",
+                        "SELECT m.id FROM main m WHERE m.flag = TRUE"),
+                Arguments.of("Main.findByStudentIdAndFlag",
+                        "SELECT m.id FROM main m WHERE m.student_id = 1 AND m.flag = TRUE"),
+                Arguments.of("Main.findByIdAndFacultyId",
+                        "SELECT m.id FROM main m WHERE m.id = 1 AND m.faculty_id = 2"),
+                Arguments.of("Main.findFacultyByStudent",
+                        "SELECT f.id FROM main m JOIN faculty f ON f.id = m.faculty_id WHERE m.student_id = 1"),
+                Arguments.of("Main.listRecords (status filter)",
+                        "SELECT m.id FROM main m WHERE m.verification_status = 'P' "
+                                + "ORDER BY m.submission_date DESC, m.id DESC LIMIT 21"),
+                // Per-type repositories
+                Arguments.of("TechnicalEvent.findByVerificationStatus",
+                        "SELECT t.id FROM technical_event t JOIN event e ON e.id = t.id JOIN main m ON m.id = t.id "
+                                + "WHERE m.verification_status = 'P'"),
+                Arguments.of("TechnicalEvent.findPendingByStudent",
+                        "SELECT t.id FROM technical_event t JOIN event e ON e.id = t.id JOIN main m ON m.id = t.id "
+                                + "WHERE m.student_id = 1 AND m.verification_status = 'P'"),
+                Arguments.of("SportsEvent.findByStudent_Id",
+                        "SELECT s.id FROM sports_event s JOIN event e ON e.id = s.id JOIN main m ON m.id = s.id "
+                                + "WHERE m.student_id = 1"),
+                Arguments.of("CulturalEvent.findByStudentAndFlag",
+                        "SELECT c.id FROM cultural_event c JOIN event e ON e.id = c.id JOIN main m ON m.id = c.id "
+                                + "WHERE m.student_id = 1 AND m.flag = TRUE"),
+                Arguments.of("ClubsAndSocieties.findByFlag",
+                        "SELECT c.id FROM clubs_and_societies c JOIN main m ON m.id = c.id WHERE m.flag = TRUE"),
+                Arguments.of("Publications.findByStudent_Id",
+                        "SELECT p.id FROM publications p JOIN main m ON m.id = p.id WHERE m.student_id = 1"),
+                Arguments.of("JobOpportunity.findByType",
+                        "SELECT j.id FROM job_opportunity j JOIN main m ON m.id = j.id WHERE j.type = 'INTERNSHIP'"),
+                // StudentRepository
+                Arguments.of("Student.findByEmail",
+                        "SELECT s.id FROM student s JOIN users u ON u.id = s.id WHERE u.email = 'a@b.com'"),
+                Arguments.of("Student.findByDepartment",
+                        "SELECT s.id FROM student s JOIN users u ON u.id = s.id WHERE s.department = 'CSE'"),
+                Arguments.of("Student.findByFaculty",
+                        "SELECT s.id FROM student s JOIN users u ON u.id = s.id WHERE s.faculty_id = 1"),
+                Arguments.of("Student.findStudentsByFaculty_Email",
+                        "SELECT s.id FROM student s JOIN users u ON u.id = s.id "
+                                + "JOIN users fu ON fu.id = s.faculty_id WHERE fu.email = 'fa@b.com'"),
+                // FacultyRepository and the rest
+                Arguments.of("Faculty.findByEmail",
+                        "SELECT f.id FROM faculty f JOIN users u ON u.id = f.id WHERE u.email = 'fa@b.com'"),
+                Arguments.of("User.findByRoleIn",
+                        "SELECT u.id FROM users u WHERE u.role IN ('STUDENT', 'FACULTY')"),
+                Arguments.of("Dropdown.findByCategoryAndDropdownName",
+                        "SELECT d.id FROM dropdown_options d WHERE d.category = 'Cultural Event Form' "
+                                + "AND d.dropdown_name = 'Awards'"),
+                Arguments.of("FacultyPublication.findByFacultyId",
+                        "SELECT p.id FROM faculty_publications p WHERE p.faculty_id = 1"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.AuditLogDTO;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.service.AuditService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditControllerTest {
+
+    @Mock
+    private AuditService auditService;
+
+    @InjectMocks
+    private AuditController auditController;
+
+    @Test
+    void getAuditLog_ShouldReturnPage() {
+        CursorPage<AuditLogDTO> page = new CursorPage<>(List.of(), null);
+        when(auditService.search("RECORD", 4L, null, null, null, null)).thenReturn(page);
+
+        ResponseEntity<CursorPage<AuditLogDTO>> response = auditController.getAuditLog("RECORD", 4L, null, null, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(page, response.getBody());
+    }
+
+    @Test
+    void getAuditLog_ShouldReturnBadRequest_ForInvalidCursor() {
+        when(auditService.search(null, null, null, null, "x", null)).thenThrow(new IllegalArgumentException("Invalid cursor: x"));
+
+        ResponseEntity<CursorPage<AuditLogDTO>> response = auditController.getAuditLog(null, null, null, null, "x", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
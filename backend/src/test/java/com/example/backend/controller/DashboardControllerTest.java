@@ -0,0 +1,48 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.DashboardCountsDTO;
+import com.example.backend.service.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardControllerTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @InjectMocks
+    private DashboardController dashboardController;
+
+    @Test
+    void getCounts_ShouldUseFacultyScope_WhenFacultyIdGiven() {
+        DashboardCountsDTO counts = new DashboardCountsDTO("faculty:1", 3, 0, Map.of("Pending", 3L), Map.of());
+        when(dashboardService.getFacultyCounts(1L)).thenReturn(counts);
+
+        ResponseEntity<DashboardCountsDTO> response = dashboardController.getCounts(1L, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(counts, response.getBody());
+        verify(dashboardService, never()).getInstitutionCounts();
+    }
+
+    @Test
+    void getCounts_ShouldBeInstitutionWide_WithoutParameters() {
+        DashboardCountsDTO counts = new DashboardCountsDTO("all", 0, 0, Map.of(), Map.of());
+        when(dashboardService.getInstitutionCounts()).thenReturn(counts);
+
+        ResponseEntity<DashboardCountsDTO> response = dashboardController.getCounts(null, null);
+
+        assertSame(counts, response.getBody());
+    }
+}
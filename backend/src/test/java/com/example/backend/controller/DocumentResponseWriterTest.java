@@ -0,0 +1,149 @@
+package com.example.backend.controller;
+
+import com.example.backend.service.DocumentStorageService.StoredDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentResponseWriterTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path dir;
+
+    private StoredDocument document;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(dir.resolve("proof.pdf"), CONTENT);
+        document = new StoredDocument(file, "proof.pdf", CONTENT.length(), 1_700_000_000_000L,
+                "\"d2f5\"", true, MediaType.APPLICATION_PDF);
+    }
+
+    @Test
+    void write_ShouldSendWholeDocument_WithValidatorsAndCacheHeaders() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DocumentResponseWriter.write(document, get(), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+        assertEquals(CONTENT.length(), response.getContentLengthLong());
+        assertEquals("application/pdf", response.getContentType());
+        assertEquals("\"d2f5\"", response.getHeader("ETag"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertTrue(response.getHeader("Cache-Control").contains("immutable"));
+    }
+
+    @Test
+    void write_ShouldSendPartialContent_ForSingleRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=5-9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DocumentResponseWriter.write(document, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("56789", response.getContentAsString());
+        assertEquals("bytes 5-9/20", response.getHeader("Content-Range"));
+        assertEquals(5, response.getContentLengthLong());
+    }
+
+    @Test
+    void write_ShouldSendTail_ForSuffixRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=-4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DocumentResponseWriter.write(document, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("ghij", response.getContentAsString());
+        assertEquals("bytes 16-19/20", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void write_ShouldRejectRangeBeyondEnd() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=50-60");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DocumentResponseWriter.write(document, request, response);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */20", response.getHeader("Content-Range"));
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void write_ShouldIgnoreRange_WhenIfRangeIsStale() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=5-9");
+        request.addHeader("If-Range", "\"old\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DocumentResponseWriter.write(document, request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+    }
+
+    @Test
+    void write_ShouldReturnNotModified_WhenETagMatches() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("If-None-Match", "\"d2f5\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DocumentResponseWriter.write(document, request, response);
+
+        assertEquals(304, response.getStatus());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void write_ShouldHandRegionToSendfile_WhenConnectorSupportsIt() throws IOException {
+        MockHttpServletRequest request = get();
+        request.setAttribute(DocumentResponseWriter.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader("Range", "bytes=5-9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DocumentResponseWriter.write(document, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals(document.getPath().toAbsolutePath().toString(), request.getAttribute(DocumentResponseWriter.SENDFILE_FILENAME));
+        assertEquals(5L, request.getAttribute(DocumentResponseWriter.SENDFILE_START));
+        assertEquals(10L, request.getAttribute(DocumentResponseWriter.SENDFILE_END));
+        // The connector writes the body, not the application
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void write_ShouldRevalidateLegacyDocuments() throws IOException {
+        StoredDocument legacy = new StoredDocument(document.getPath(), "proof.pdf", CONTENT.length(),
+                1_700_000_000_000L, "W/\"14-18bcfe56800\"", false, MediaType.APPLICATION_PDF);
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=0-3");
+        request.addHeader("If-Range", "W/\"14-18bcfe56800\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DocumentResponseWriter.write(legacy, request, response);
+
+        // Weak validators can't be used with If-Range
+        assertEquals(200, response.getStatus());
+        assertEquals("private, no-cache", response.getHeader("Cache-Control"));
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/main/download/1");
+    }
+}
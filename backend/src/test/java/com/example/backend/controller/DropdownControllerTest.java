@@ -1,6 +1,7 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.DropdownDTO;
+import com.example.backend.dto.DropdownFormDTO;
 import com.example.backend.model.DropdownModel;
 import com.example.backend.service.DropdownService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +12,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -157,4 +162,37 @@ class DropdownControllerTest {
         assertEquals("Error fetching dropdown options: " + errorMessage, response.getBody());
         verify(dropdownService, times(1)).getDropdownOptions(category, dropdownName);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getDropdownForm_ShouldReturnFormWithETag() {
+        // Arrange
+        DropdownFormDTO form = new DropdownFormDTO("student", "abc123", Map.of("program", List.of(dropdownOption1, dropdownOption2)));
+        when(dropdownService.getDropdownForm("student")).thenReturn(form);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/dropdown/fetch-form"),
+                new MockHttpServletResponse());
+
+        // Act
+        ResponseEntity<?> response = dropdownController.getDropdownForm("student", request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"abc123\"", response.getHeaders().getETag());
+        assertSame(form, response.getBody());
+    }
+
+    @Test
+    void getDropdownForm_ShouldReturnNotModified_WhenETagMatches() {
+        // Arrange
+        when(dropdownService.getDropdownForm("student")).thenReturn(new DropdownFormDTO("student", "abc123", Map.of()));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/dropdown/fetch-form");
+        servletRequest.addHeader("If-None-Match", "\"abc123\"");
+        ServletWebRequest request = new ServletWebRequest(servletRequest, new MockHttpServletResponse());
+
+        // Act
+        ResponseEntity<?> response = dropdownController.getDropdownForm("student", request);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+}
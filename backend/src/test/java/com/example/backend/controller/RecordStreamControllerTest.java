@@ -0,0 +1,38 @@
+package com.example.backend.controller;
+
+import com.example.backend.service.RecordStreamService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecordStreamControllerTest {
+
+    @Mock
+    private RecordStreamService recordStreamService;
+
+    @InjectMocks
+    private RecordStreamController recordStreamController;
+
+    @Test
+    void streamFacultyRecords_ShouldSubscribeToFacultyTopic() {
+        SseEmitter emitter = new SseEmitter();
+        when(recordStreamService.subscribeFaculty(2L)).thenReturn(emitter);
+
+        assertSame(emitter, recordStreamController.streamFacultyRecords(2L));
+    }
+
+    @Test
+    void streamFlaggedRecords_ShouldSubscribeToFlaggedTopic() {
+        SseEmitter emitter = new SseEmitter();
+        when(recordStreamService.subscribeFlagged()).thenReturn(emitter);
+
+        assertSame(emitter, recordStreamController.streamFlaggedRecords());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.StudentProfileDTO;
 import com.example.backend.model.Student;
 import com.example.backend.service.StudentService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -76,4 +78,24 @@ class StudentControllerTest {
         });
         verify(studentService, times(1)).getStudentById(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getStudentProfile_ShouldReturnProfile_WhenStudentExists() {
+        StudentProfileDTO profile = new StudentProfileDTO(new Student(), Map.of(), 0);
+        when(studentService.getStudentProfile(1L)).thenReturn(Optional.of(profile));
+
+        ResponseEntity<StudentProfileDTO> response = studentController.getStudentProfile(1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(profile, response.getBody());
+    }
+
+    @Test
+    void getStudentProfile_ShouldReturnNotFound_WhenStudentMissing() {
+        when(studentService.getStudentProfile(1L)).thenReturn(Optional.empty());
+
+        ResponseEntity<StudentProfileDTO> response = studentController.getStudentProfile(1L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.StudentImportJobDTO;
+import com.example.backend.service.StudentImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentImportControllerTest {
+
+    @Mock
+    private StudentImportService studentImportService;
+
+    @InjectMocks
+    private StudentImportController studentImportController;
+
+    private final MockMultipartFile roster = new MockMultipartFile("file", "roster.xlsx", null, new byte[] {1});
+
+    @Test
+    void importStudents_ShouldAcceptAndPointToTheJob() throws IOException {
+        StudentImportJobDTO job = job(StudentImportJobDTO.Status.QUEUED);
+        when(studentImportService.submit(roster)).thenReturn(job);
+
+        ResponseEntity<StudentImportJobDTO> response = studentImportController.importStudents(roster);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("/api/admin/imports/7", response.getHeaders().getLocation().toString());
+        assertSame(job, response.getBody());
+    }
+
+    @Test
+    void importStudents_ShouldRejectEmptyFiles() throws IOException {
+        ResponseEntity<StudentImportJobDTO> response = studentImportController.importStudents(
+                new MockMultipartFile("file", "roster.xlsx", null, new byte[0]));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(studentImportService);
+    }
+
+    @Test
+    void importStudents_ShouldReturnServiceUnavailable_WhenQueueIsFull() throws IOException {
+        when(studentImportService.submit(roster)).thenThrow(new IllegalStateException("Student import queue is full"));
+
+        ResponseEntity<StudentImportJobDTO> response = studentImportController.importStudents(roster);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+    @Test
+    void getJob_ShouldReturnNotFound_ForUnknownJob() {
+        when(studentImportService.getJob(9L)).thenReturn(Optional.empty());
+
+        assertEquals(HttpStatus.NOT_FOUND, studentImportController.getJob(9L).getStatusCode());
+    }
+
+    @Test
+    void downloadErrors_ShouldStreamCsvReport() throws IOException {
+        when(studentImportService.getJob(7L)).thenReturn(Optional.of(job(StudentImportJobDTO.Status.COMPLETED)));
+        doAnswer(invocation -> {
+            invocation.<Writer>getArgument(1).write("row,email,error\n4,a@college.edu,Email is already registered\n");
+            return null;
+        }).when(studentImportService).writeErrorReport(eq(7L), any());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        studentImportController.downloadErrors(7L, response);
+
+        assertEquals("text/csv;charset=UTF-8", response.getContentType());
+        assertTrue(response.getHeader("Content-Disposition").contains("student-import-7-errors.csv"));
+        assertTrue(response.getContentAsString().startsWith("row,email,error\n4,"));
+    }
+
+    private static StudentImportJobDTO job(StudentImportJobDTO.Status status) {
+        return new StudentImportJobDTO(7L, "roster.xlsx", status, LocalDateTime.now(), null, null, 0, 0, 0, 0, null);
+    }
+}
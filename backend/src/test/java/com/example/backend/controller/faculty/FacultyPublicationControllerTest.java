@@ -1,8 +1,11 @@
 package com.example.backend.controller.faculty;
 
+import com.example.backend.dto.FacultyPublicationSearchResultDTO;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.faculty.FacultyPublication;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
 import com.example.backend.service.faculty.FacultyPublicationService;
+import com.example.backend.service.student.MainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +36,9 @@ class FacultyPublicationControllerTest {
     @Mock
     private FacultyPublicationService facultyPublicationService;
 
+    @Mock
+    private MainService mainService;
+
     @InjectMocks
     private FacultyPublicationController facultyPublicationController;
 
@@ -81,56 +89,58 @@ class FacultyPublicationControllerTest {
     @Test
     void searchPublications_WithTitle_ShouldReturnMatchingPublications() {
         // Arrange
-        List<FacultyPublication> publications = Arrays.asList(publication);
-        when(facultyPublicationService.searchPublications(anyString())).thenReturn(publications);
+        FacultyPublicationSearchResultDTO result = new FacultyPublicationSearchResultDTO(1, Arrays.asList(publication), Map.of(), Map.of());
+        when(facultyPublicationService.searchPublications(null, "Test", null, null, null, null, null)).thenReturn(result);
 
         // Act
         ResponseEntity<List<FacultyPublication>> response = 
-            facultyPublicationController.searchPublications("Test", null, null);
+            facultyPublicationController.searchPublications(null, "Test", null, null, null, null, null);
 
         // Assert
         assertEquals(200, response.getStatusCodeValue());
         assertEquals(1, response.getBody().size());
-        verify(facultyPublicationService).searchPublications("Test");
     }
 
     @Test
-    void searchPublications_WithAuthor_ShouldReturnMatchingPublications() {
+    void searchPublications_ShouldPassAllCriteriaTogether() {
         // Arrange
-        List<FacultyPublication> publications = Arrays.asList(publication);
-        when(facultyPublicationService.searchPublications(anyString())).thenReturn(publications);
+        FacultyPublicationSearchResultDTO result = new FacultyPublicationSearchResultDTO(0, List.of(), Map.of(), Map.of());
+        when(facultyPublicationService.searchPublications(null, "Graph", "Author", "keyword1", 2023, "Journal", null))
+            .thenReturn(result);
 
         // Act
         ResponseEntity<List<FacultyPublication>> response = 
-            facultyPublicationController.searchPublications(null, "Author", null);
+            facultyPublicationController.searchPublications(null, "Graph", "Author", "keyword1", 2023, "Journal", null);
 
         // Assert
         assertEquals(200, response.getStatusCodeValue());
-        assertEquals(1, response.getBody().size());
-        verify(facultyPublicationService).searchPublications("Author");
+        assertTrue(response.getBody().isEmpty());
+        verify(facultyPublicationService).searchPublications(null, "Graph", "Author", "keyword1", 2023, "Journal", null);
     }
 
     @Test
-    void searchPublications_WithKeywords_ShouldReturnMatchingPublications() {
+    void searchPublicationsFaceted_ShouldReturnFacets() {
         // Arrange
-        List<FacultyPublication> publications = Arrays.asList(publication);
-        when(facultyPublicationService.searchPublications(anyString())).thenReturn(publications);
+        FacultyPublicationSearchResultDTO result = new FacultyPublicationSearchResultDTO(
+            1, Arrays.asList(publication), Map.of(2023, 1L), Map.of("Journal", 1L));
+        when(facultyPublicationService.searchPublications("graph", null, null, null, null, null, 20)).thenReturn(result);
 
         // Act
-        ResponseEntity<List<FacultyPublication>> response = 
-            facultyPublicationController.searchPublications(null, null, "keyword1,keyword2");
+        ResponseEntity<FacultyPublicationSearchResultDTO> response = 
+            facultyPublicationController.searchPublicationsFaceted("graph", null, null, null, null, null, 20);
 
         // Assert
         assertEquals(200, response.getStatusCodeValue());
-        assertEquals(1, response.getBody().size());
-        verify(facultyPublicationService).searchPublications("keyword1,keyword2");
+        assertEquals(Long.valueOf(1), response.getBody().getYearFacets().get(2023));
     }
 
     @Test
     void submitPublication_WithValidData_ShouldReturnSuccess() throws Exception {
         // Arrange
         MultipartFile file = new MockMultipartFile("test.pdf", "test.pdf", "application/pdf", "content".getBytes());
-        when(facultyPublicationService.savePublication(any(FacultyPublication.class))).thenReturn(publication);
+        StagedDocument document = mock(StagedDocument.class);
+        when(mainService.stageFile(file)).thenReturn(document);
+        when(facultyPublicationService.submitPublication(any(FacultyPublication.class), eq(document))).thenReturn(publication);
 
         // Act
         ResponseEntity<Map<String, Object>> response = facultyPublicationController.submitPublication(
@@ -143,12 +153,13 @@ class FacultyPublicationControllerTest {
         assertTrue((Boolean) response.getBody().get("success"));
         assertEquals("Publication submitted successfully", response.getBody().get("message"));
         assertEquals(1L, response.getBody().get("publicationId"));
+        verify(document).close();
     }
 
     @Test
     void submitPublication_WithoutFile_ShouldReturnSuccess() throws Exception {
         // Arrange
-        when(facultyPublicationService.savePublication(any(FacultyPublication.class))).thenReturn(publication);
+        when(facultyPublicationService.submitPublication(any(FacultyPublication.class), isNull())).thenReturn(publication);
 
         // Act
         ResponseEntity<Map<String, Object>> response = facultyPublicationController.submitPublication(
@@ -165,7 +176,7 @@ class FacultyPublicationControllerTest {
     @Test
     void submitPublication_WithServiceException_ShouldReturnError() throws Exception {
         // Arrange
-        when(facultyPublicationService.savePublication(any(FacultyPublication.class)))
+        when(facultyPublicationService.submitPublication(any(FacultyPublication.class), isNull()))
             .thenThrow(new RuntimeException("Database error"));
 
         // Act
@@ -1,5 +1,11 @@
 package com.example.backend.controller.faculty;
 
+import com.example.backend.dto.BulkVerificationRequest;
+import com.example.backend.dto.BulkVerificationResult;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSummaryDTO;
+import com.example.backend.exception.InvalidStatusTransitionException;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.Student;
@@ -7,6 +13,7 @@ import com.example.backend.model.student.Main;
 import com.example.backend.repository.FacultyRepository;
 import com.example.backend.repository.StudentRepository;
 import com.example.backend.service.student.MainService;
+import com.example.backend.model.student.VerificationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -55,11 +62,11 @@ class FacultyRecordControllerTest {
 
         pendingRecord = new Main();
         pendingRecord.setId(1L);
-        pendingRecord.setVerificationStatus("Pending");
+        pendingRecord.setVerificationStatus(VerificationStatus.PENDING);
 
         rejectedRecord = new Main();
         rejectedRecord.setId(2L);
-        rejectedRecord.setVerificationStatus("Rejected");
+        rejectedRecord.setVerificationStatus(VerificationStatus.REJECTED);
     }
 
     @Test
@@ -99,7 +106,7 @@ class FacultyRecordControllerTest {
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().size());
-        assertEquals("Pending", response.getBody().get(0).getVerificationStatus());
+        assertEquals(VerificationStatus.PENDING, response.getBody().get(0).getVerificationStatus());
     }
 
     @Test
@@ -124,6 +131,17 @@ class FacultyRecordControllerTest {
         assertTrue(response.getBody().contains("Unauthorized"));
     }
 
+    @Test
+    void approveRecord_ShouldReturnConflict_WhenAlreadyVerified() {
+        when(mainService.approveRecord(1L, 1L, null))
+                .thenThrow(new InvalidStatusTransitionException("Record 1 is Approved and cannot be changed to Approved"));
+
+        ResponseEntity<String> response = facultyRecordController.approveRecord(
+            1L, 1L, null);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
     @Test
     void rejectRecord_ShouldReturnSuccess() {
         when(mainService.rejectRecord(1L, 1L, "Incomplete")).thenReturn(true);
@@ -152,6 +170,44 @@ class FacultyRecordControllerTest {
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().size());
-        assertEquals("Rejected", response.getBody().get(0).getVerificationStatus());
+        assertEquals(VerificationStatus.REJECTED, response.getBody().get(0).getVerificationStatus());
+    }
+
+    @Test
+    void listRecordSummaries_ShouldScopeToFaculty() {
+        RecordFilter filter = new RecordFilter();
+        CursorPage<RecordSummaryDTO> page = new CursorPage<>(Collections.emptyList(), null);
+        when(mainService.listRecordSummaries(filter, null, null)).thenReturn(page);
+
+        ResponseEntity<CursorPage<RecordSummaryDTO>> response =
+            facultyRecordController.listRecordSummaries(1L, filter, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1L, filter.getFacultyId());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void bulkVerify_ShouldReturnOutcomes() {
+        BulkVerificationRequest request = new BulkVerificationRequest("Approved", List.of(1L), null, null);
+        BulkVerificationResult result = new BulkVerificationResult();
+        result.put(1L, BulkVerificationResult.Outcome.UPDATED);
+        when(mainService.bulkUpdateVerificationStatus(1L, request)).thenReturn(result);
+
+        ResponseEntity<?> response = facultyRecordController.bulkVerify(1L, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(result, response.getBody());
+    }
+
+    @Test
+    void bulkVerify_ShouldReturnBadRequest_WhenRequestInvalid() {
+        BulkVerificationRequest request = new BulkVerificationRequest("Pending", List.of(1L), null, null);
+        when(mainService.bulkUpdateVerificationStatus(1L, request))
+                .thenThrow(new IllegalArgumentException("Status must be Approved or Rejected"));
+
+        ResponseEntity<?> response = facultyRecordController.bulkVerify(1L, request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
-}
\ No newline at end of file
+}
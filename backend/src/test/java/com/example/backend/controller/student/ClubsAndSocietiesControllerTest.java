@@ -3,7 +3,8 @@ package com.example.backend.controller.student;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.ClubsAndSocieties;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.ClubsAndSocietiesService;
 import com.example.backend.service.student.MainService;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,14 +23,16 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ClubsAndSocietiesControllerTest {
 
     @Mock private ClubsAndSocietiesService clubsAndSocietiesService;
-    @Mock private UserRepository userRepository;
+    @Mock private UserCache userCache;
     @Mock private MainService mainService;
+    @Mock private StagedDocument stagedDocument;
     
     @InjectMocks private ClubsAndSocietiesController controller;
     
@@ -53,9 +56,9 @@ class ClubsAndSocietiesControllerTest {
 
     @Test
     void submitClubsAndSocieties_Success() throws Exception {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
-        when(mainService.saveFile(any())).thenReturn("/path/to/file");
-        when(clubsAndSocietiesService.saveClubsAndSocieties(any())).thenReturn(testEntry);
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(mainService.stageFile(any())).thenReturn(stagedDocument);
+        when(mainService.submitRecord(any(ClubsAndSocieties.class), same(stagedDocument))).thenReturn(testEntry);
 
         ResponseEntity<Map<String, Object>> response = controller.submitClubsAndSocieties(
             1L, "Title", "Position", LocalDate.now(), null, "Category", "Desc", testFile);
@@ -82,7 +85,7 @@ class ClubsAndSocietiesControllerTest {
 
     @Test
     void getPendingAndApprovedEventsByStudent_Success() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
         when(clubsAndSocietiesService.getPendingAndApprovedEventsByStudent(any()))
             .thenReturn(Collections.singletonList(testEntry));
 
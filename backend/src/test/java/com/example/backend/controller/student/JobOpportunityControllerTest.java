@@ -4,7 +4,8 @@ import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.JobOpportunity;
 import com.example.backend.model.student.JobOpportunity.JobType;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.JobOpportunityService;
 import com.example.backend.service.student.MainService;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,14 +24,16 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JobOpportunityControllerTest {
 
     @Mock private JobOpportunityService jobOpportunityService;
-    @Mock private UserRepository userRepository;
+    @Mock private UserCache userCache;
     @Mock private MainService mainService;
+    @Mock private StagedDocument stagedDocument;
     
     @InjectMocks private JobOpportunityController controller;
     
@@ -55,9 +58,9 @@ class JobOpportunityControllerTest {
 
     @Test
     void submitJobOpportunity_Success() throws Exception {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
-        when(mainService.saveFile(any())).thenReturn("/path/to/file");
-        when(jobOpportunityService.saveJobOpportunity(any())).thenReturn(testOpportunity);
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(mainService.stageFile(any())).thenReturn(stagedDocument);
+        when(mainService.submitRecord(any(JobOpportunity.class), same(stagedDocument))).thenReturn(testOpportunity);
 
         ResponseEntity<Map<String, Object>> response = controller.submitJobOpportunity(
             1L, "Title", "Desc", "Company", LocalDate.now(), 
@@ -69,7 +72,7 @@ class JobOpportunityControllerTest {
 
     @Test
     void submitJobOpportunity_StudentNotFound() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userCache.findById(anyLong())).thenReturn(Optional.empty());
 
         ResponseEntity<Map<String, Object>> response = controller.submitJobOpportunity(
             999L, "Title", "Desc", "Company", LocalDate.now(), 
@@ -90,7 +93,7 @@ class JobOpportunityControllerTest {
 
     @Test
     void getPendingAndApprovedOpportunitiesByStudent_Success() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
         when(jobOpportunityService.getPendingAndApprovedOpportunitiesByStudent(any()))
             .thenReturn(Collections.singletonList(testOpportunity));
 
@@ -1,24 +1,37 @@
 package com.example.backend.controller.student;
 
 import com.example.backend.controller.student.MainController;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.exception.InvalidStatusTransitionException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSearchHitDTO;
 import com.example.backend.model.student.Main;
+import com.example.backend.service.DocumentPreviewService;
+import com.example.backend.service.DocumentStorageService;
+import com.example.backend.service.RecordSearchService;
 import com.example.backend.service.student.MainService;
+import com.example.backend.model.student.VerificationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,7 +44,10 @@ class MainControllerTest {
     private MainService mainService;
 
     @Mock
-    private Resource mockResource;
+    private RecordSearchService recordSearchService;
+
+    @Mock
+    private DocumentPreviewService documentPreviewService;
 
     @InjectMocks
     private MainController mainController;
@@ -101,87 +117,218 @@ class MainControllerTest {
     }
 
     @Test
-    void downloadFile_ShouldReturnFile_WhenExists() throws Exception {
-        when(mainService.downloadFile(1L)).thenReturn(mockResource);
-        when(mockResource.getFilename()).thenReturn("test.pdf");
-        
-        ResponseEntity<Resource> response = mainController.downloadFile(1L);
-        
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(mockResource, response.getBody());
-        assertEquals(MediaType.APPLICATION_OCTET_STREAM, response.getHeaders().getContentType());
-        assertTrue(response.getHeaders().getContentDisposition().toString().contains("filename=\"test.pdf\""));
-        verify(mainService).downloadFile(1L);
+    void downloadFile_ShouldWriteDocument_WhenExists() throws Exception {
+        Path file = Files.createTempFile("main-controller", ".pdf");
+        try {
+            Files.write(file, "test content".getBytes());
+            when(mainService.getDocument(1L)).thenReturn(new DocumentStorageService.StoredDocument(
+                    file, "test.pdf", 12L, 0L, "\"abc\"", true, MediaType.APPLICATION_PDF));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            mainController.downloadFile(1L, new MockHttpServletRequest("GET", "/api/main/download/1"), response);
+
+            assertEquals(HttpStatus.OK.value(), response.getStatus());
+            assertEquals("test content", response.getContentAsString());
+            assertEquals(MediaType.APPLICATION_PDF_VALUE, response.getContentType());
+            assertTrue(response.getHeader("Content-Disposition").contains("filename=\"test.pdf\""));
+            assertEquals("\"abc\"", response.getHeader("ETag"));
+            verify(mainService).getDocument(1L);
+        } finally {
+            Files.deleteIfExists(file);
+        }
     }
 
     @Test
     void downloadFile_ShouldReturnNotFound_WhenFileNotExists() throws Exception {
-        when(mainService.downloadFile(1L)).thenReturn(null);
-        
-        ResponseEntity<Resource> response = mainController.downloadFile(1L);
-        
-        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        assertNull(response.getBody());
-        verify(mainService).downloadFile(1L);
+        when(mainService.getDocument(1L)).thenThrow(new ResourceNotFoundException("File not found for event id: 1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        mainController.downloadFile(1L, new MockHttpServletRequest("GET", "/api/main/download/1"), response);
+
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatus());
+        assertEquals(0, response.getContentLength());
+        verify(mainService).getDocument(1L);
+    }
+
+    @Test
+    void previewFile_ShouldWriteInlinePreview() throws Exception {
+        Path file = Files.createTempFile("main-controller", ".jpg");
+        try {
+            Files.write(file, "jpeg".getBytes());
+            DocumentStorageService.StoredDocument document = new DocumentStorageService.StoredDocument(
+                    file, "test.pdf", 12L, 0L, "\"abc\"", true, MediaType.APPLICATION_PDF);
+            when(mainService.getDocument(1L)).thenReturn(document);
+            when(documentPreviewService.preview(document)).thenReturn(new DocumentStorageService.StoredDocument(
+                    file, "test-preview.jpg", 4L, 0L, "\"abc-480\"", true, MediaType.IMAGE_JPEG));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            mainController.previewFile(1L, new MockHttpServletRequest("GET", "/api/main/preview/1"), response);
+
+            assertEquals(HttpStatus.OK.value(), response.getStatus());
+            assertEquals(MediaType.IMAGE_JPEG_VALUE, response.getContentType());
+            assertTrue(response.getHeader("Content-Disposition").startsWith("inline"));
+            assertEquals("jpeg", response.getContentAsString());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void previewFile_ShouldRenderAgain_WhenCachedPreviewWasEvicted() throws Exception {
+        Path file = Files.createTempFile("main-controller", ".jpg");
+        try {
+            Files.write(file, "jpeg".getBytes());
+            DocumentStorageService.StoredDocument document = new DocumentStorageService.StoredDocument(
+                    file, "test.pdf", 12L, 0L, "\"abc\"", true, MediaType.APPLICATION_PDF);
+            when(mainService.getDocument(1L)).thenReturn(document);
+            when(documentPreviewService.preview(document))
+                    .thenReturn(new DocumentStorageService.StoredDocument(file.resolveSibling("evicted.jpg"),
+                            "test-preview.jpg", 4L, 0L, "\"abc-480\"", true, MediaType.IMAGE_JPEG))
+                    .thenReturn(new DocumentStorageService.StoredDocument(
+                            file, "test-preview.jpg", 4L, 0L, "\"abc-480\"", true, MediaType.IMAGE_JPEG));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            mainController.previewFile(1L, new MockHttpServletRequest("GET", "/api/main/preview/1"), response);
+
+            assertEquals(HttpStatus.OK.value(), response.getStatus());
+            assertEquals("jpeg", response.getContentAsString());
+            verify(documentPreviewService, times(2)).preview(document);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void previewFile_ShouldReturnNotFound_WhenNoPreviewCanBeMade() throws Exception {
+        DocumentStorageService.StoredDocument document = new DocumentStorageService.StoredDocument(
+                Path.of("notes.docx"), "notes.docx", 12L, 0L, "\"abc\"", true, MediaType.APPLICATION_OCTET_STREAM);
+        when(mainService.getDocument(1L)).thenReturn(document);
+        when(documentPreviewService.preview(document)).thenReturn(null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        mainController.previewFile(1L, new MockHttpServletRequest("GET", "/api/main/preview/1"), response);
+
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatus());
     }
 
     @Test
     void getAllApprovedRecords_ShouldReturnRecords() {
         List<Main> records = Arrays.asList(testRecord);
-        when(mainService.getAllByVerificationStatus("Approved")).thenReturn(records);
+        when(mainService.getAllByVerificationStatus(VerificationStatus.APPROVED)).thenReturn(records);
         
         ResponseEntity<List<Main>> response = mainController.getAllApprovedRecords();
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(records, response.getBody());
-        verify(mainService).getAllByVerificationStatus("Approved");
+        verify(mainService).getAllByVerificationStatus(VerificationStatus.APPROVED);
     }
 
     @Test
     void getAllPendingRecords_ShouldReturnRecords() {
         List<Main> records = Arrays.asList(testRecord);
-        when(mainService.getAllByVerificationStatus("Pending")).thenReturn(records);
+        when(mainService.getAllByVerificationStatus(VerificationStatus.PENDING)).thenReturn(records);
         
         ResponseEntity<List<Main>> response = mainController.getAllPendingRecords();
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(records, response.getBody());
-        verify(mainService).getAllByVerificationStatus("Pending");
+        verify(mainService).getAllByVerificationStatus(VerificationStatus.PENDING);
     }
 
     @Test
     void getAllRejectedRecords_ShouldReturnRecords() {
         List<Main> records = Arrays.asList(testRecord);
-        when(mainService.getAllByVerificationStatus("Rejected")).thenReturn(records);
+        when(mainService.getAllByVerificationStatus(VerificationStatus.REJECTED)).thenReturn(records);
         
         ResponseEntity<List<Main>> response = mainController.getAllRejectedRecords();
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(records, response.getBody());
-        verify(mainService).getAllByVerificationStatus("Rejected");
+        verify(mainService).getAllByVerificationStatus(VerificationStatus.REJECTED);
     }
 
     @Test
     void getStudentPendingRecords_ShouldReturnRecords() {
         List<Main> records = Arrays.asList(testRecord);
-        when(mainService.getAllByStudentIdAndVerificationStatus(1L, "Pending")).thenReturn(records);
+        when(mainService.getAllByStudentIdAndVerificationStatus(1L, VerificationStatus.PENDING)).thenReturn(records);
         
         ResponseEntity<List<Main>> response = mainController.getStudentPendingRecords(1L);
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(records, response.getBody());
-        verify(mainService).getAllByStudentIdAndVerificationStatus(1L, "Pending");
+        verify(mainService).getAllByStudentIdAndVerificationStatus(1L, VerificationStatus.PENDING);
     }
 
     @Test
     void getStudentRejectedRecords_ShouldReturnRecords() {
         List<Main> records = Arrays.asList(testRecord);
-        when(mainService.getAllByStudentIdAndVerificationStatus(1L, "Rejected")).thenReturn(records);
+        when(mainService.getAllByStudentIdAndVerificationStatus(1L, VerificationStatus.REJECTED)).thenReturn(records);
         
         ResponseEntity<List<Main>> response = mainController.getStudentRejectedRecords(1L);
         
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(records, response.getBody());
-        verify(mainService).getAllByStudentIdAndVerificationStatus(1L, "Rejected");
+        verify(mainService).getAllByStudentIdAndVerificationStatus(1L, VerificationStatus.REJECTED);
+    }
+
+    @Test
+    void listRecords_ShouldReturnPage() {
+        RecordFilter filter = new RecordFilter();
+        CursorPage<Main> page = new CursorPage<>(Arrays.asList(testRecord), null);
+        when(mainService.listRecords(filter, null, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Main>> response = mainController.listRecords(filter, null, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void listRecords_ShouldReturnBadRequest_WhenCursorInvalid() {
+        RecordFilter filter = new RecordFilter();
+        when(mainService.listRecords(filter, "bad", 20)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        ResponseEntity<CursorPage<Main>> response = mainController.listRecords(filter, "bad", 20);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void resubmitRecord_ShouldReturnOk() {
+        ResponseEntity<Map<String, Object>> response = mainController.resubmitRecord(1L, 1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(mainService).resubmitRecord(1L, 1L);
+    }
+
+    @Test
+    void resubmitRecord_ShouldReturnConflict_WhenNotRejected() {
+        doThrow(new InvalidStatusTransitionException("Record 1 is Pending and cannot be changed to Pending"))
+                .when(mainService).resubmitRecord(1L, 1L);
+
+        ResponseEntity<Map<String, Object>> response = mainController.resubmitRecord(1L, 1L);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void searchRecords_ShouldReturnHits() {
+        List<RecordSearchHitDTO> hits = List.of(new RecordSearchHitDTO(4L, "Publications", VerificationStatus.APPROVED, "Graph search", 2.5f));
+        when(recordSearchService.search("graph", null, null, null, null, null)).thenReturn(hits);
+
+        ResponseEntity<List<RecordSearchHitDTO>> response = mainController.searchRecords("graph", null, null, null, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(hits, response.getBody());
+    }
+
+    @Test
+    void searchRecords_ShouldReturnBadRequest_ForUnknownType() {
+        when(recordSearchService.search("graph", "Poster", null, null, null, null))
+                .thenThrow(new IllegalArgumentException("Unknown record type: Poster"));
+
+        ResponseEntity<List<RecordSearchHitDTO>> response = mainController.searchRecords("graph", "Poster", null, null, null, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
-}
\ No newline at end of file
+}
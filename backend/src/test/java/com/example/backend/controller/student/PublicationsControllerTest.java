@@ -3,7 +3,8 @@ package com.example.backend.controller.student;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.Publications;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.PublicationsService;
 import com.example.backend.service.student.MainService;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,14 +22,16 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PublicationsControllerTest {
 
     @Mock private PublicationsService publicationsService;
-    @Mock private UserRepository userRepository;
+    @Mock private UserCache userCache;
     @Mock private MainService mainService;
+    @Mock private StagedDocument stagedDocument;
     
     @InjectMocks private PublicationsController controller;
     
@@ -52,9 +55,9 @@ class PublicationsControllerTest {
 
     @Test
     void submitPublication_Success() throws Exception {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
-        when(mainService.saveFile(any())).thenReturn("/path/to/file");
-        when(publicationsService.savePublication(any())).thenReturn(testPublication);
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(mainService.stageFile(any())).thenReturn(stagedDocument);
+        when(mainService.submitRecord(any(Publications.class), same(stagedDocument))).thenReturn(testPublication);
 
         ResponseEntity<Map<String, Object>> response = controller.submitPublication(
             1L, "Title", "Type", "ORCID", "Author", 2023, "DOI", "Keywords", "Abstract", "Desc", testFile);
@@ -82,7 +85,7 @@ class PublicationsControllerTest {
 
     @Test
     void getPendingAndApprovedEventsByStudent_Success() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
         when(publicationsService.getPendingAndApprovedEventsByStudent(any()))
             .thenReturn(Collections.singletonList(testPublication));
 
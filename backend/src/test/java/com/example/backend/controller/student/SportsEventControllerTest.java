@@ -3,7 +3,8 @@ package com.example.backend.controller.student;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.SportsEvent;
-import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.SportsEventService;
 import com.example.backend.service.student.MainService;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,14 +23,16 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SportsEventControllerTest {
 
     @Mock private SportsEventService sportsEventService;
-    @Mock private UserRepository userRepository;
+    @Mock private UserCache userCache;
     @Mock private MainService mainService;
+    @Mock private StagedDocument stagedDocument;
     
     @InjectMocks private SportsEventController controller;
     
@@ -53,9 +56,9 @@ class SportsEventControllerTest {
 
     @Test
     void submitSportsEvent_Success() throws Exception {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
-        when(mainService.saveFile(any())).thenReturn("/path/to/file");
-        when(sportsEventService.saveSportsEvent(any())).thenReturn(testEvent);
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(mainService.stageFile(any())).thenReturn(stagedDocument);
+        when(mainService.submitRecord(any(SportsEvent.class), same(stagedDocument))).thenReturn(testEvent);
 
         ResponseEntity<Map<String, Object>> response = controller.submitSportsEvent(
             1L, "Title", LocalDate.now(), "Host", "Category", "Level", "Role", "Outcome", "Desc", testFile);
@@ -82,7 +85,7 @@ class SportsEventControllerTest {
 
     @Test
     void getPendingAndApprovedEventsByStudent_Success() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
         when(sportsEventService.getPendingAndApprovedEventsByStudent(any()))
             .thenReturn(Collections.singletonList(testEvent));
 
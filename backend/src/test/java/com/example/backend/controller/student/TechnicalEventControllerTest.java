@@ -3,8 +3,8 @@ package com.example.backend.controller.student;
 import com.example.backend.model.Student;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.student.TechnicalEvent;
-import com.example.backend.repository.UserRepository;
-import com.example.backend.repository.student.TechnicalEventRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.student.MainService;
 import com.example.backend.service.student.TechnicalEventService;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +25,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -35,13 +36,13 @@ class TechnicalEventControllerTest {
     private TechnicalEventService technicalEventService;
 
     @Mock
-    private UserRepository userRepository;
+    private UserCache userCache;
 
     @Mock
-    private TechnicalEventRepository technicalEventRepository;
+    private MainService mainService;
 
     @Mock
-    private MainService mainService;
+    private StagedDocument stagedDocument;
 
     @InjectMocks
     private TechnicalEventController technicalEventController;
@@ -79,9 +80,9 @@ class TechnicalEventControllerTest {
     @Test
     void submitTechnicalEvent_ShouldSuccessfullySubmit() throws IOException {
         // Mock dependencies
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
-        when(mainService.saveFile(any(MultipartFile.class))).thenReturn("/path/to/file");
-        when(technicalEventRepository.save(any(TechnicalEvent.class))).thenReturn(testEvent);
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(mainService.stageFile(any())).thenReturn(stagedDocument);
+        when(mainService.submitRecord(any(TechnicalEvent.class), same(stagedDocument))).thenReturn(testEvent);
 
         // Call controller method
         ResponseEntity<Map<String, Object>> response = technicalEventController.submitTechnicalEvent(
@@ -95,14 +96,16 @@ class TechnicalEventControllerTest {
         assertEquals("Technical Event submitted successfully", response.getBody().get("message"));
         
         // Verify interactions
-        verify(userRepository, times(1)).findById(1L);
-        verify(mainService, times(1)).saveFile(testFile);
-        verify(technicalEventRepository, times(1)).save(any(TechnicalEvent.class));
+        verify(userCache, times(1)).findById(1L);
+        verify(mainService, times(1)).stageFile(testFile);
+        verify(mainService, times(1)).submitRecord(any(TechnicalEvent.class), same(stagedDocument));
+        // The staged upload is always closed; it only deletes the file if it wasn't committed
+        verify(stagedDocument).close();
     }
 
     @Test
     void submitTechnicalEvent_ShouldFailWhenStudentNotFound() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userCache.findById(anyLong())).thenReturn(Optional.empty());
 
         ResponseEntity<Map<String, Object>> response = technicalEventController.submitTechnicalEvent(
             999L, "Test Event", LocalDate.now(), "Test Host", "Test Category",
@@ -117,7 +120,7 @@ class TechnicalEventControllerTest {
     @Test
     void submitTechnicalEvent_ShouldFailWhenNoFacultyAssigned() {
         testStudent.setFaculty(null);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
 
         ResponseEntity<Map<String, Object>> response = technicalEventController.submitTechnicalEvent(
             1L, "Test Event", LocalDate.now(), "Test Host", "Test Category",
@@ -154,7 +157,7 @@ class TechnicalEventControllerTest {
     @Test
     void getPendingAndApprovedEventsByStudent_ShouldReturnFilteredEvents() {
         List<TechnicalEvent> events = Collections.singletonList(testEvent);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(userCache.findById(anyLong())).thenReturn(Optional.of(testStudent));
         when(technicalEventService.getPendingAndApprovedEventsByStudent(any(Student.class))).thenReturn(events);
 
         ResponseEntity<List<TechnicalEvent>> response = technicalEventController.getPendingAndApprovedEventsByStudent(1L);
@@ -165,7 +168,7 @@ class TechnicalEventControllerTest {
 
     @Test
     void getPendingAndApprovedEventsByStudent_ShouldFailWhenStudentNotFound() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userCache.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class, () -> {
             technicalEventController.getPendingAndApprovedEventsByStudent(999L);
@@ -20,6 +20,12 @@ class AdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -46,6 +52,7 @@ class AdminServiceTest {
         assertTrue(result);
         assertTrue(inactiveUser.isActive());
         verify(userRepository).save(inactiveUser);
+        verify(auditService).record(eq("USER"), eq(2L), eq("ACTIVATED"), any());
     }
 
     @Test
@@ -57,6 +64,7 @@ class AdminServiceTest {
         assertFalse(result);
         assertFalse(activeUser.isActive());
         verify(userRepository).save(activeUser);
+        verify(userCache).evict(activeUser);
     }
 
     @Test
@@ -68,5 +76,6 @@ class AdminServiceTest {
         });
         
         verify(userRepository, never()).save(any());
+        verifyNoInteractions(auditService);
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Faculty;
+import com.example.backend.repository.FacultyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdvisorDirectoryTest {
+
+    @Mock
+    private FacultyRepository facultyRepository;
+
+    @Test
+    void resolve_ShouldLookUpDistinctAdvisorsInOneQuery() {
+        Faculty advisor = faculty("advisor@college.edu");
+        when(facultyRepository.findByEmailIn(List.of("advisor@college.edu"))).thenReturn(List.of(advisor));
+        AdvisorDirectory advisors = new AdvisorDirectory();
+        for (int row = 2; row < 1000; row++) {
+            advisors.note(row % 2 == 0 ? "advisor@college.edu" : " Advisor@College.edu ", row);
+        }
+
+        advisors.resolve(facultyRepository);
+
+        assertSame(advisor, advisors.get("ADVISOR@college.edu"));
+        assertEquals(1, advisors.distinctAdvisors());
+        assertFalse(advisors.hasUnknownAdvisors());
+        verify(facultyRepository, times(1)).findByEmailIn(anyCollection());
+    }
+
+    @Test
+    void unknownAdvisorsReport_ShouldListEachMissingAdvisorWithItsRows() {
+        when(facultyRepository.findByEmailIn(anyCollection())).thenReturn(List.of(faculty("known@college.edu")));
+        AdvisorDirectory advisors = new AdvisorDirectory();
+        advisors.note("known@college.edu", 2);
+        for (int row = 3; row <= 10; row++) {
+            advisors.note("gone@college.edu", row);
+        }
+        advisors.note("", 11);
+
+        advisors.resolve(facultyRepository);
+
+        assertTrue(advisors.hasUnknownAdvisors());
+        assertNull(advisors.get("gone@college.edu"));
+        assertEquals("Faculty not found: gone@college.edu (rows 3, 4, 5, 6, 7 and 3 more), <blank> (row 11)",
+                advisors.unknownAdvisorsReport());
+    }
+
+    private static Faculty faculty(String email) {
+        Faculty faculty = new Faculty();
+        faculty.setEmail(email);
+        return faculty;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.AuditLogDTO;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.event.RecordEvent;
+import com.example.backend.model.User;
+import com.example.backend.model.student.VerificationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AuditService auditService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteBufferedEntriesInOneBatch() {
+        auditService.record("DROPDOWN", 1L, "CREATED", "a/b=c");
+        auditService.record("DROPDOWN", 1L, "DELETED", null);
+        assertEquals(2, auditService.pending());
+
+        auditService.flush();
+
+        ArgumentCaptor<Collection<AuditLogDTO>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of("CREATED", "DELETED"), batch.getValue().stream().map(AuditLogDTO::getAction).toList());
+        assertEquals(0, auditService.pending());
+    }
+
+    @Test
+    void flush_ShouldNotTouchDatabase_WhenNothingBuffered() {
+        auditService.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldKeepEntries_WhenDatabaseIsDown() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        auditService.record("USER", 5L, "DEACTIVATED", null);
+
+        auditService.flush();
+        auditService.flush();
+
+        assertEquals(1, auditService.pending());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteGoodEntriesOneByOne_AndDropBadEntryAfterRetries() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("too long"));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation ->
+                "BAD".equals(invocation.getArgument(3)) ? throwIntegrityViolation() : 1);
+        auditService.record("USER", 5L, "DEACTIVATED", null);
+        auditService.record("USER", 6L, "BAD", null);
+
+        auditService.flush();
+        assertEquals(1, auditService.pending());
+        auditService.flush();
+        auditService.flush();
+
+        assertEquals(0, auditService.pending());
+        verify(jdbcTemplate, times(1)).update(anyString(), any(), any(), eq("DEACTIVATED"), any(), any(), any());
+        verify(jdbcTemplate, times(3)).update(anyString(), any(), any(), eq("BAD"), any(), any(), any());
+    }
+
+    @Test
+    void record_ShouldDropEntries_WhenBufferIsFull() {
+        ReflectionTestUtils.setField(auditService, "maxBuffered", 2);
+
+        for (long id = 1; id <= 5; id++) {
+            auditService.record("USER", id, "ACTIVATED", null);
+        }
+
+        assertEquals(2, auditService.pending());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void record_ShouldAttributeEntryToSessionUser() {
+        User admin = new User();
+        admin.setEmail("admin@college.edu");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.getSession().setAttribute("user", admin);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            auditService.record("USER", 5L, "DEACTIVATED", null);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        auditService.record("USER", 6L, "DEACTIVATED", null);
+
+        auditService.flush();
+
+        ArgumentCaptor<Collection<AuditLogDTO>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of("admin@college.edu", "system"), batch.getValue().stream().map(AuditLogDTO::getActor).toList());
+    }
+
+    @Test
+    void onRecordEvent_ShouldRecordApproval() {
+        RecordEvent.State before = new RecordEvent.State("TechnicalEvent", VerificationStatus.PENDING, false, 2L, 3L);
+        RecordEvent event = new RecordEvent(RecordEvent.Kind.VERIFIED, 10L, before,
+                before.withVerificationStatus(VerificationStatus.APPROVED));
+
+        assertEquals("APPROVED", AuditService.actionFor(event));
+        auditService.onRecordEvent(event);
+        assertEquals(1, auditService.pending());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        List<AuditLogDTO> rows = new ArrayList<>();
+        for (long id = 30; id > 27; id--) {
+            rows.add(new AuditLogDTO(id, LocalDateTime.now(), "admin@x.com", "CREATED", "DROPDOWN", id, null));
+        }
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(rows);
+
+        CursorPage<AuditLogDTO> page = auditService.search("DROPDOWN", null, null, null, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals("29", page.getNextCursor());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_ShouldNotWriteBufferedEntries() {
+        auditService.record("USER", 5L, "DEACTIVATED", null);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+
+        auditService.search(null, null, null, null, null, null);
+
+        assertEquals(1, auditService.pending());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void search_ShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> auditService.search(null, null, null, null, "abc", 10));
+    }
+
+    private static int throwIntegrityViolation() {
+        throw new DataIntegrityViolationException("Data too long for column 'action'");
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Faculty;
+import com.example.backend.model.Role;
+import com.example.backend.model.Student;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRegistrationServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserCache userCache;
+
+    @InjectMocks
+    private BulkRegistrationService bulkRegistrationService;
+
+    @Test
+    void registerStudents_ShouldBatchInsertUsersAndStudents_AndAssignIds() {
+        Student first = student("first@college.edu", "R1");
+        Student second = student("second@college.edu", "R2");
+        when(jdbcTemplate.queryForList(startsWith("SELECT 'email'"), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(startsWith("SELECT id, email"), any(Object[].class))).thenReturn(List.of(
+                Map.of("id", 11L, "email", "first@college.edu"),
+                Map.of("id", 12L, "email", "second@college.edu")));
+
+        List<String> outcomes = bulkRegistrationService.registerStudents(List.of(first, second));
+
+        assertEquals(Arrays.asList(null, null), outcomes);
+        assertEquals(11L, first.getId());
+        assertEquals(12L, second.getId());
+        assertEquals(Role.STUDENT, first.getRole());
+        assertTrue(first.isActive());
+        assertEquals(List.of(first, second), batched("INSERT INTO users"));
+        assertEquals(List.of(first, second), batched("INSERT INTO student"));
+        verify(userCache).evict(first);
+        verify(userCache).evict(second);
+    }
+
+    @Test
+    void registerStudents_ShouldRejectTakenAndRepeatedKeys_WithOneLookupPerChunk() {
+        Student registered = student("taken@college.edu", "R1");
+        Student takenRollNo = student("new@college.edu", "R2");
+        Student fresh = student("fresh@college.edu", "R3");
+        Student repeated = student("FRESH@college.edu", "R4");
+        Student noAdvisor = student("lost@college.edu", "R5");
+        noAdvisor.setFaculty(null);
+        when(jdbcTemplate.queryForList(startsWith("SELECT 'email'"), any(Object[].class))).thenReturn(List.of(
+                Map.of("field", "email", "value", "Taken@College.edu"),
+                Map.of("field", "roll_no", "value", "R2")));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id, email"), any(Object[].class)))
+                .thenReturn(List.of(Map.of("id", 13L, "email", "fresh@college.edu")));
+
+        List<String> outcomes = bulkRegistrationService.registerStudents(
+                List.of(registered, takenRollNo, fresh, repeated, noAdvisor));
+
+        assertEquals(Arrays.asList(BulkRegistrationService.EMAIL_TAKEN, BulkRegistrationService.ROLL_NO_TAKEN, null,
+                BulkRegistrationService.EMAIL_TAKEN, BulkRegistrationService.FACULTY_MISSING), outcomes);
+        assertEquals(List.of(fresh), batched("INSERT INTO users"));
+        verify(jdbcTemplate, times(1)).queryForList(startsWith("SELECT 'email'"), any(Object[].class));
+    }
+
+    @Test
+    void registerStudents_ShouldNotWrite_WhenEveryRowIsRejected() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT 'email'"), any(Object[].class)))
+                .thenReturn(List.of(Map.of("field", "email", "value", "taken@college.edu")));
+
+        List<String> outcomes = bulkRegistrationService.registerStudents(List.of(student("taken@college.edu", "R1")));
+
+        assertEquals(List.of(BulkRegistrationService.EMAIL_TAKEN), outcomes);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+        verifyNoInteractions(userCache);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Student> batched(String sqlPrefix) {
+        ArgumentCaptor<List<Student>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(sqlPrefix), rows.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        return rows.getValue();
+    }
+
+    private static Student student(String email, String rollNo) {
+        Faculty faculty = new Faculty();
+        faculty.setId(5L);
+        Student student = new Student();
+        student.setName("Student " + rollNo);
+        student.setEmail(email);
+        student.setRollNo(rollNo);
+        student.setStudentClass("A");
+        student.setGender("F");
+        student.setFaculty(faculty);
+        return student;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.dto.DashboardCountsDTO;
+import com.example.backend.event.RecordEvent;
+import com.example.backend.model.student.VerificationStatus;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    private RecordEvent.State pending;
+
+    @BeforeEach
+    void setUp() {
+        pending = new RecordEvent.State("TechnicalEvent", VerificationStatus.PENDING, false, 1L, 7L);
+    }
+
+    @Test
+    void onRecordEvent_ShouldCountCreatedRecordInEveryScope() {
+        dashboardService.onRecordEvent(new RecordEvent(RecordEvent.Kind.CREATED, 10L, null, pending));
+
+        assertEquals(1, dashboardService.getInstitutionCounts().getTotal());
+        assertEquals(Long.valueOf(1), dashboardService.getFacultyCounts(1L).getByStatus().get("Pending"));
+        assertEquals(Long.valueOf(1), dashboardService.getStudentCounts(7L).getByType().get("TechnicalEvent").get("Pending"));
+        assertEquals(0, dashboardService.getFacultyCounts(2L).getTotal());
+    }
+
+    @Test
+    void onRecordEvent_ShouldMoveCountOnVerification() {
+        dashboardService.onRecordEvent(new RecordEvent(RecordEvent.Kind.CREATED, 10L, null, pending));
+        dashboardService.onRecordEvent(new RecordEvent(RecordEvent.Kind.VERIFIED, 10L,
+                pending, pending.withVerificationStatus(VerificationStatus.APPROVED)));
+
+        DashboardCountsDTO counts = dashboardService.getFacultyCounts(1L);
+        assertEquals(1, counts.getTotal());
+        assertNull(counts.getByStatus().get("Pending"));
+        assertEquals(Long.valueOf(1), counts.getByStatus().get("Approved"));
+    }
+
+    @Test
+    void onRecordEvent_ShouldTrackFlagsAndDeletes() {
+        dashboardService.onRecordEvent(new RecordEvent(RecordEvent.Kind.CREATED, 10L, null, pending));
+        dashboardService.onRecordEvent(new RecordEvent(RecordEvent.Kind.FLAGGED, 10L,
+                pending, pending.withFlagged(true)));
+        assertEquals(1, dashboardService.getInstitutionCounts().getFlagged());
+
+        dashboardService.onRecordEvent(new RecordEvent(RecordEvent.Kind.DELETED, 10L,
+                pending.withFlagged(true), null));
+        assertEquals(0, dashboardService.getInstitutionCounts().getFlagged());
+        assertEquals(0, dashboardService.getInstitutionCounts().getTotal());
+    }
+}
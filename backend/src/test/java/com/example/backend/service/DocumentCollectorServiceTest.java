@@ -0,0 +1,171 @@
+package com.example.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentCollectorServiceTest {
+
+    private static final String HASH_A = "a".repeat(64);
+    private static final String HASH_B = "b".repeat(64);
+    private static final String HASH_C = "c".repeat(64);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path root;
+
+    private DocumentStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new DocumentStorageService(jdbcTemplate, root);
+    }
+
+    @Test
+    void collectBatch_ShouldQuarantineOnlyUnreferencedFiles() throws IOException {
+        String referencedKey = DocumentStorageService.keyFor(HASH_A, "a.pdf");
+        String orphanKey = DocumentStorageService.keyFor(HASH_B, "b.pdf");
+        Path referenced = file(referencedKey, 48);
+        Path orphan = file(orphanKey, 48);
+        Path legacy = file("1b4e28ba-2fa1-11d2-883f-0016d3cca427.pdf", 48);
+        referencedPaths(referencedKey, legacy.toString());
+
+        collector(10).collectBatch();
+
+        assertTrue(Files.exists(referenced));
+        assertTrue(Files.exists(legacy));
+        assertFalse(Files.exists(orphan));
+        assertTrue(Files.exists(root.resolve(DocumentCollectorService.QUARANTINE_DIR).resolve(orphanKey)));
+    }
+
+    @Test
+    void collectBatch_ShouldLeaveFilesWithinGracePeriod() throws IOException {
+        Path recent = file(DocumentStorageService.keyFor(HASH_B, "b.pdf"), 0);
+
+        collector(10).collectBatch();
+
+        assertTrue(Files.exists(recent));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void collectBatch_ShouldResumeFromCursor() throws IOException {
+        Path first = file(DocumentStorageService.keyFor(HASH_A, "a.pdf"), 48);
+        Path second = file(DocumentStorageService.keyFor(HASH_B, "b.pdf"), 48);
+        Path third = file(DocumentStorageService.keyFor(HASH_C, "c.pdf"), 48);
+        referencedPaths();
+        DocumentCollectorService collector = collector(2);
+
+        collector.collectBatch();
+
+        assertFalse(Files.exists(first));
+        assertFalse(Files.exists(second));
+        assertTrue(Files.exists(third));
+        assertEquals(DocumentStorageService.keyFor(HASH_B, "b.pdf"),
+                Files.readString(root.resolve(DocumentCollectorService.CURSOR_FILE)));
+
+        collector.collectBatch();
+
+        assertFalse(Files.exists(third));
+        // End of the pass: the next run starts over
+        assertEquals("", Files.readString(root.resolve(DocumentCollectorService.CURSOR_FILE)));
+    }
+
+    @Test
+    void collectBatch_ShouldPurgeExpiredQuarantine_AndDropTheBlobRow() throws IOException {
+        String key = DocumentStorageService.keyFor(HASH_B, "b.pdf");
+        Path quarantined = file(DocumentCollectorService.QUARANTINE_DIR + "/" + key, 48);
+        referencedPaths();
+
+        collector(10).collectBatch();
+
+        assertFalse(Files.exists(quarantined));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM document_blob"), eq(key));
+    }
+
+    @Test
+    void collectBatch_ShouldRestoreQuarantinedFile_WhenReferencedAgain() throws IOException {
+        String key = DocumentStorageService.keyFor(HASH_B, "b.pdf");
+        file(DocumentCollectorService.QUARANTINE_DIR + "/" + key, 48);
+        referencedPaths(key);
+
+        collector(10).collectBatch();
+
+        assertTrue(Files.exists(root.resolve(key)));
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void collectBatch_ShouldPromoteStrandedStagedFile_AndDeleteInterruptedUploads() throws IOException {
+        String key = DocumentStorageService.keyFor(HASH_A, "a.pdf");
+        Path staged = file(".tmp/" + HASH_A + ".pdf.0ea90646-6473-4b9e-8aa0-259fbc11b577.staged", 48);
+        Path unreferenced = file(".tmp/" + HASH_B + ".pdf.1f0c7e2a-5d2b-4a52-9d8e-0b7a0f6a9c11.staged", 48);
+        Path partial = file(".tmp/upload-123.part", 48);
+        referencedPaths(key);
+
+        collector(10).collectBatch();
+
+        assertTrue(Files.exists(root.resolve(key)));
+        assertFalse(Files.exists(staged));
+        assertFalse(Files.exists(unreferenced));
+        assertFalse(Files.exists(partial));
+    }
+
+    @Test
+    void stagedKey_ShouldRecoverKeyFromStagedFileName() {
+        assertEquals(DocumentStorageService.keyFor(HASH_A, "a.pdf"),
+                DocumentCollectorService.stagedKey(HASH_A + ".pdf.0ea90646-6473-4b9e-8aa0-259fbc11b577.staged"));
+        assertEquals(DocumentStorageService.keyFor(HASH_A, "a"),
+                DocumentCollectorService.stagedKey(HASH_A + ".0ea90646-6473-4b9e-8aa0-259fbc11b577.staged"));
+        assertNull(DocumentCollectorService.stagedKey("upload-123.part"));
+        assertNull(DocumentCollectorService.stagedKey("short.nonce.staged"));
+    }
+
+    private DocumentCollectorService collector(int batchSize) {
+        return new DocumentCollectorService(storage, jdbcTemplate, new SimpleMeterRegistry(),
+                true, batchSize, 24, 24, 100_000);
+    }
+
+    // The reference query answers with the given paths among those it was asked about
+    private void referencedPaths(String... paths) {
+        Set<String> referenced = Set.of(paths);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenAnswer(invocation -> {
+            List<String> hits = new ArrayList<>();
+            for (Object argument : invocation.getArguments()) {
+                if (argument instanceof String && referenced.contains(argument) && !hits.contains(argument)) {
+                    hits.add((String) argument);
+                }
+            }
+            return hits;
+        });
+    }
+
+    private Path file(String relative, long ageHours) throws IOException {
+        Path file = root.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, relative);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(ageHours)));
+        return file;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.backend.service;
+
+import com.example.backend.event.RecordEvent;
+import com.example.backend.model.student.VerificationStatus;
+import com.example.backend.service.DocumentStorageService.StoredDocument;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Image;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.pdf.PdfWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentPreviewServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ExecutorService prefetcher;
+
+    @TempDir
+    Path root;
+
+    private DocumentStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new DocumentStorageService(jdbcTemplate, root);
+    }
+
+    @Test
+    void preview_ShouldRenderScaledJpeg_ForImages() throws IOException {
+        StoredDocument photo = image("a", 2000, 1000);
+
+        StoredDocument preview = previews(100, Long.MAX_VALUE).preview(photo);
+
+        assertEquals(MediaType.IMAGE_JPEG, preview.getMediaType());
+        assertEquals("a-preview.jpg", preview.getFilename());
+        assertTrue(preview.isImmutable());
+        BufferedImage thumbnail = ImageIO.read(preview.getPath().toFile());
+        assertEquals(100, thumbnail.getWidth());
+        assertEquals(50, thumbnail.getHeight());
+        assertTrue(preview.getSize() < Files.size(photo.getPath()));
+    }
+
+    @Test
+    void preview_ShouldServeFromCache_OnLaterRequests() throws IOException {
+        StoredDocument photo = image("a", 400, 300);
+        DocumentPreviewService previews = previews(100, Long.MAX_VALUE);
+        Path first = previews.preview(photo).getPath();
+        // The original is no longer needed once the preview exists
+        Files.delete(photo.getPath());
+
+        assertEquals(first, previews.preview(photo).getPath());
+        // A new instance finds it on disk
+        assertEquals(first, previews(100, Long.MAX_VALUE).preview(photo).getPath());
+    }
+
+    @Test
+    void preview_ShouldUseImageFillingFirstPdfPage() throws Exception {
+        Image logo = Image.getInstance(png(40, 20));
+        Image scan = Image.getInstance(png(300, 400));
+        scan.scaleToFit(PageSize.A4.getWidth() - 72, PageSize.A4.getHeight() - 72);
+        StoredDocument document = pdf("scan", logo, scan);
+
+        StoredDocument preview = previews(100, Long.MAX_VALUE).preview(document);
+
+        BufferedImage thumbnail = ImageIO.read(preview.getPath().toFile());
+        assertEquals(75, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+    }
+
+    @Test
+    void preview_ShouldDecodeScannedJpegs() throws Exception {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(ImageIO.read(new ByteArrayInputStream(png(1200, 1600))), "jpg", jpeg);
+        Image scan = Image.getInstance(jpeg.toByteArray());
+        scan.scaleToFit(PageSize.A4.getWidth() - 72, PageSize.A4.getHeight() - 72);
+
+        StoredDocument preview = previews(100, Long.MAX_VALUE).preview(pdf("jpeg", scan));
+
+        BufferedImage thumbnail = ImageIO.read(preview.getPath().toFile());
+        assertEquals(75, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+    }
+
+    @Test
+    void preview_ShouldReturnNull_WhenNoImageFillsThePage() throws Exception {
+        // A generated certificate: text with a seal that is not the document
+        StoredDocument certificate = pdf("certificate", new Paragraph("Certificate of participation"),
+                Image.getInstance(png(300, 400)));
+
+        assertNull(previews(100, Long.MAX_VALUE).preview(certificate));
+    }
+
+    @Test
+    void preview_ShouldReturnNull_ForUnsupportedDocuments() throws IOException {
+        Path file = Files.writeString(root.resolve("notes.docx"), "not an image");
+        StoredDocument notes = new StoredDocument(file, "notes.docx", 12L, 0L,
+                "\"" + "d".repeat(64) + "\"", true, MediaType.APPLICATION_OCTET_STREAM);
+        DocumentPreviewService previews = previews(100, Long.MAX_VALUE);
+
+        assertNull(previews.preview(notes));
+        assertNull(previews.preview(notes));
+        assertTrue(Files.exists(root.resolve(DocumentPreviewService.PREVIEW_DIR)
+                .resolve(previews.previewName(notes) + ".none")));
+    }
+
+    @Test
+    void preview_ShouldEvictLeastRecentlyUsed_WhenOverBudget() throws IOException {
+        DocumentPreviewService unbounded = previews(100, Long.MAX_VALUE);
+        long oneWidePreview = unbounded.preview(image("size", 400, 400)).getSize();
+        DocumentPreviewService previews = previews(100, 2 * oneWidePreview + oneWidePreview / 2);
+
+        Path a = previews.preview(image("a", 400, 400)).getPath();
+        Path b = previews.preview(image("b", 400, 400)).getPath();
+        previews.preview(image("a", 400, 400)); // a is now more recent than b
+        Path c = previews.preview(image("c", 400, 400)).getPath();
+
+        assertTrue(Files.exists(a));
+        assertFalse(Files.exists(b));
+        assertTrue(Files.exists(c));
+    }
+
+    @Test
+    void preview_ShouldEvictNoPreviewMarkers_WhenOverBudget() throws IOException {
+        DocumentPreviewService previews = previews(100, 3 * 4096);
+
+        for (int i = 0; i < 10; i++) {
+            Path file = Files.writeString(root.resolve("notes" + i + ".docx"), "not an image");
+            assertNull(previews.preview(new StoredDocument(file, "notes.docx", 12L, 0L,
+                    "\"" + String.valueOf(i).repeat(64) + "\"", true, MediaType.APPLICATION_OCTET_STREAM)));
+        }
+
+        try (Stream<Path> markers = Files.list(root.resolve(DocumentPreviewService.PREVIEW_DIR))) {
+            assertEquals(3, markers.count());
+        }
+    }
+
+    @Test
+    void onRecordEvent_ShouldPrefetchOnlyNewPendingRecords() {
+        DocumentPreviewService previews = previews(100, Long.MAX_VALUE);
+        RecordEvent.State pending = new RecordEvent.State("TechnicalEvent", VerificationStatus.PENDING, false, 1L, 2L);
+
+        previews.onRecordEvent(new RecordEvent(RecordEvent.Kind.CREATED, 10L, null, pending));
+        previews.onRecordEvent(new RecordEvent(RecordEvent.Kind.VERIFIED, 10L, pending,
+                pending.withVerificationStatus(VerificationStatus.APPROVED)));
+
+        verify(prefetcher, times(1)).execute(any());
+    }
+
+    private DocumentPreviewService previews(int maxSize, long maxBytes) {
+        return new DocumentPreviewService(storage, jdbcTemplate, root.resolve(DocumentPreviewService.PREVIEW_DIR),
+                maxSize, maxBytes, 1, prefetcher);
+    }
+
+    // A one-page PDF of the given elements
+    private StoredDocument pdf(String name, Element... elements) throws Exception {
+        Path pdf = root.resolve(name + ".pdf");
+        try (OutputStream out = Files.newOutputStream(pdf)) {
+            Document document = new Document(PageSize.A4);
+            PdfWriter.getInstance(document, out);
+            document.open();
+            for (Element element : elements) {
+                document.add(element);
+            }
+            document.close();
+        }
+        String hash = String.format("%64s", Integer.toHexString(name.hashCode())).replace(' ', '0');
+        return new StoredDocument(pdf, name + ".pdf", Files.size(pdf), 0L, "\"" + hash + "\"", true,
+                MediaType.APPLICATION_PDF);
+    }
+
+    // A PNG whose stored key is derived from its name, so distinct names don't share a preview
+    private StoredDocument image(String name, int width, int height) throws IOException {
+        Path file = root.resolve(name + ".png");
+        Files.write(file, png(width, height));
+        String hash = String.format("%64s", Integer.toHexString(name.hashCode())).replace(' ', '0');
+        return new StoredDocument(file, name + ".png", Files.size(file), 0L, "\"" + hash + "\"", true, MediaType.IMAGE_PNG);
+    }
+
+    // Noisy content so the JPEG sizes are comparable between images of the same dimensions
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 31 + y * 17) * 0x010101 ^ (x * y));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentStorageServiceTest {
+
+    // SHA-256 of "certificate"
+    private static final String CERTIFICATE_SHA256 = "03d66dd08835c1ca3f128cceacd1f31ac94163096b20f445ae84285bc0832d72";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path root;
+
+    private DocumentStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new DocumentStorageService(jdbcTemplate, root);
+    }
+
+    @Test
+    void store_ShouldWriteDuplicateContentOnce() throws IOException {
+        String first = storage.store(stream("certificate"), "Certificate.PDF");
+        String second = storage.store(stream("certificate"), "copy.pdf");
+
+        assertEquals(first, second);
+        assertTrue(DocumentStorageService.isKey(first));
+        assertTrue(first.endsWith(".pdf"));
+        assertEquals("certificate", Files.readString(root.resolve(first)));
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT INTO document_blob"), eq(first), eq(11L), any());
+        // Temp files of both uploads are gone
+        try (Stream<Path> temp = Files.list(root.resolve(".tmp"))) {
+            assertEquals(0, temp.count());
+        }
+    }
+
+    @Test
+    void store_ShouldShardByHashPrefix() throws IOException {
+        String key = storage.store(stream("certificate"), "c.pdf");
+
+        assertEquals("sha256/" + CERTIFICATE_SHA256.substring(0, 2) + "/" + CERTIFICATE_SHA256.substring(2, 4)
+                + "/" + CERTIFICATE_SHA256 + ".pdf", key);
+        assertNotEquals(key, storage.store(stream("another certificate"), "c.pdf"));
+    }
+
+    @Test
+    void stage_ShouldNotReferenceOrPublishAnything() throws IOException {
+        try (DocumentStorageService.StagedDocument staged = storage.stage(stream("certificate"), "c.pdf")) {
+            assertEquals(11L, staged.getSize());
+            assertTrue(Files.exists(staged.getPath()));
+            assertTrue(staged.getPath().getFileName().toString().startsWith(CERTIFICATE_SHA256 + ".pdf."));
+            assertFalse(Files.exists(root.resolve(staged.getKey())));
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+
+    @Test
+    void close_ShouldDeleteUncommittedStagedFile() throws IOException {
+        DocumentStorageService.StagedDocument staged = storage.stage(stream("certificate"), "c.pdf");
+
+        staged.close();
+
+        assertFalse(Files.exists(staged.getPath()));
+        assertThrows(IllegalStateException.class, () -> storage.commit(staged));
+    }
+
+    @Test
+    void commit_ShouldPublishOnlyAfterTransactionCommits() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        try (DocumentStorageService.StagedDocument staged = storage.stage(stream("certificate"), "c.pdf")) {
+            String key = storage.commit(staged);
+            staged.close();
+
+            verify(jdbcTemplate).update(startsWith("INSERT INTO document_blob"), eq(key), eq(11L), any());
+            // Still staged while the transaction is open, even though the caller closed it
+            assertFalse(Files.exists(root.resolve(key)));
+            assertTrue(Files.exists(staged.getPath()));
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            assertEquals("certificate", Files.readString(root.resolve(key)));
+            assertFalse(Files.exists(staged.getPath()));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void commit_ShouldDiscardStagedFile_WhenTransactionRollsBack() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        try (DocumentStorageService.StagedDocument staged = storage.stage(stream("certificate"), "c.pdf")) {
+            String key = storage.commit(staged);
+
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertFalse(Files.exists(root.resolve(key)));
+            assertFalse(Files.exists(staged.getPath()));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void release_ShouldUnlinkBlob_WhenLastReferenceIsDropped() throws IOException {
+        String key = storage.store(stream("certificate"), "c.pdf");
+        when(jdbcTemplate.update(anyString(), eq(key))).thenReturn(1);
+
+        storage.release(key);
+
+        verify(jdbcTemplate).update(startsWith("UPDATE document_blob SET ref_count = ref_count - 1"), eq(key));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM document_blob"), eq(key));
+        assertFalse(Files.exists(root.resolve(key)));
+    }
+
+    @Test
+    void release_ShouldKeepBlob_WhileOtherReferencesRemain() throws IOException {
+        String key = storage.store(stream("certificate"), "c.pdf");
+        // One reference dropped, but the row still counts another one
+        when(jdbcTemplate.update(anyString(), eq(key))).thenReturn(1, 0);
+
+        storage.release(key);
+
+        assertTrue(Files.exists(root.resolve(key)));
+    }
+
+    @Test
+    void release_ShouldDeleteLegacyFileDirectly() throws IOException {
+        Path legacy = Files.writeString(root.resolve("1b4e28ba-2fa1-11d2-883f-0016d3cca427.pdf"), "old upload");
+
+        storage.release(legacy.toString());
+
+        assertFalse(Files.exists(legacy));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void release_ShouldNotDeleteFilesOutsideTheDocumentsDirectory(@TempDir Path elsewhere) throws IOException {
+        Path outside = Files.writeString(elsewhere.resolve("keep.txt"), "keep");
+
+        storage.release(outside.toString());
+        storage.release("../" + elsewhere.getFileName() + "/keep.txt");
+
+        assertTrue(Files.exists(outside));
+    }
+
+    @Test
+    void extensionOf_ShouldKeepOnlySimpleExtensions() {
+        assertEquals(".pdf", DocumentStorageService.extensionOf("Scan.PDF"));
+        assertEquals("", DocumentStorageService.extensionOf("README"));
+        assertEquals("", DocumentStorageService.extensionOf("evil.p/df"));
+        assertEquals("", DocumentStorageService.extensionOf(null));
+    }
+
+    @Test
+    void isKey_ShouldRejectLegacyAndForgedPaths() {
+        assertTrue(DocumentStorageService.isKey(DocumentStorageService.keyFor(CERTIFICATE_SHA256, "a.pdf")));
+        assertFalse(DocumentStorageService.isKey("/srv/app/RecordDocuments/1b4e28ba.pdf"));
+        assertFalse(DocumentStorageService.isKey("sha256/03/d6/../../../etc/passwd"));
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
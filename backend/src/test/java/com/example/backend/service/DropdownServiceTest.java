@@ -16,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.example.backend.dto.DropdownDTO;
+import com.example.backend.dto.DropdownFormDTO;
 import com.example.backend.model.DropdownModel;
 import com.example.backend.repository.DropdownRepository;
 
@@ -25,6 +26,9 @@ class DropdownServiceTest {
     @Mock
     private DropdownRepository dropdownRepository;
 
+    @Mock
+    private AuditService auditService;
+
     @InjectMocks
     private DropdownService dropdownService;
 
@@ -62,6 +66,7 @@ class DropdownServiceTest {
         assertEquals(dropdownDTO.getOptionValue(), result.getOptionValue());
         
         verify(dropdownRepository, times(1)).save(any(DropdownModel.class));
+        verify(auditService).record("DROPDOWN", testId, "CREATED", "testCategory/testDropdown=testOption");
     }
 
     @Test
@@ -78,31 +83,31 @@ class DropdownServiceTest {
     @Test
     void getDropdownOptions_ShouldReturnOptionsForCategoryAndName() {
         // Arrange
-        List<DropdownModel> expectedOptions = Arrays.asList(
-            dropdownModel,
-            new DropdownModel("testCategory", "testDropdown", "option2")
-        );
+        DropdownModel option2 = new DropdownModel("testCategory", "testDropdown", "option2");
+        option2.setId(2L);
+        DropdownModel otherDropdown = new DropdownModel("testCategory", "otherDropdown", "x");
+        otherDropdown.setId(3L);
+        List<DropdownModel> expectedOptions = Arrays.asList(dropdownModel, option2);
         
-        when(dropdownRepository.findByCategoryAndDropdownName("testCategory", "testDropdown"))
-            .thenReturn(expectedOptions);
+        when(dropdownRepository.findAll()).thenReturn(Arrays.asList(otherDropdown, option2, dropdownModel));
 
         // Act
         List<DropdownModel> result = dropdownService.getDropdownOptions("testCategory", "testDropdown");
+        dropdownService.getDropdownOptions("testCategory", "otherDropdown");
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(expectedOptions, result);
         
-        verify(dropdownRepository, times(1))
-            .findByCategoryAndDropdownName("testCategory", "testDropdown");
+        // Served from the snapshot after the first load
+        verify(dropdownRepository, times(1)).findAll();
     }
 
     @Test
     void getDropdownOptions_ShouldReturnEmptyListWhenNoOptionsFound() {
         // Arrange
-        when(dropdownRepository.findByCategoryAndDropdownName("nonexistent", "dropdown"))
-            .thenReturn(List.of());
+        when(dropdownRepository.findAll()).thenReturn(List.of(dropdownModel));
 
         // Act
         List<DropdownModel> result = dropdownService.getDropdownOptions("nonexistent", "dropdown");
@@ -112,6 +117,45 @@ class DropdownServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void deleteDropdownOption_ShouldRebuildSnapshot() {
+        // Arrange
+        when(dropdownRepository.findAll()).thenReturn(List.of(dropdownModel), List.of());
+        assertEquals(1, dropdownService.getDropdownOptions("testCategory", "testDropdown").size());
+
+        // Act
+        dropdownService.deleteDropdownOption(testId);
+
+        // Assert
+        assertTrue(dropdownService.getDropdownOptions("testCategory", "testDropdown").isEmpty());
+    }
+
+    @Test
+    void getDropdownForm_ShouldGroupByNameAndChangeVersionOnlyWhenOptionsChange() {
+        // Arrange
+        DropdownModel other = new DropdownModel("otherCategory", "awards", "Gold");
+        other.setId(9L);
+        DropdownModel added = new DropdownModel("testCategory", "testDropdown", "option2");
+        added.setId(2L);
+        when(dropdownRepository.findAll()).thenReturn(
+            List.of(dropdownModel, other),
+            List.of(dropdownModel),
+            List.of(dropdownModel, added));
+
+        // Act
+        DropdownFormDTO first = dropdownService.getDropdownForm("testCategory");
+        dropdownService.reload(); // otherCategory removed
+        DropdownFormDTO unchanged = dropdownService.getDropdownForm("testCategory");
+        dropdownService.reload(); // option added to testCategory
+        DropdownFormDTO changed = dropdownService.getDropdownForm("testCategory");
+
+        // Assert
+        assertEquals(List.of(dropdownModel), first.getDropdowns().get("testDropdown"));
+        assertEquals(first.getVersion(), unchanged.getVersion());
+        assertNotEquals(first.getVersion(), changed.getVersion());
+        assertEquals(2, changed.getDropdowns().get("testDropdown").size());
+    }
+
     @Test
     void addDropdownOption_ShouldHandleNullInputGracefully() {
         // Act & Assert
@@ -0,0 +1,72 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.RecordSearchHitDTO;
+import com.example.backend.model.student.VerificationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordSearchIndexTest {
+
+    private RecordSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecordSearchIndex();
+        index.put(1L, "Publications", VerificationStatus.APPROVED, 10L, "CSE",
+                "Graph neural networks", "Graph neural networks", "Survey of graph learning", "graph, gnn", null);
+        index.put(2L, "TechnicalEvent", VerificationStatus.PENDING, 10L, "ECE",
+                "Robotics hackathon", "Robotics hackathon", "Built a line follower", "IEEE", "First prize");
+        index.put(3L, "Publications", VerificationStatus.PENDING, 11L, "CSE",
+                "Networks on chip", "Networks on chip", null, "noc", null);
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseAndDropStopWords() {
+        assertEquals(List.of("graph", "neural", "networks", "2024"), RecordSearchIndex.tokenize("The Graph-Neural networks of 2024!"));
+    }
+
+    @Test
+    void search_ShouldRankByTermFrequency() {
+        List<RecordSearchHitDTO> hits = index.search("graph networks", null, null, null, null, 10);
+
+        assertEquals(List.of(1L, 3L), hits.stream().map(RecordSearchHitDTO::getId).toList());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    void search_ShouldApplyFilters() {
+        assertEquals(1, index.search("networks", "publications", VerificationStatus.PENDING, null, null, 10).size());
+        assertEquals(1, index.search("networks", null, null, 10L, "cse", 10).size());
+        assertTrue(index.search("networks", null, null, null, "MECH", 10).isEmpty());
+    }
+
+    @Test
+    void updateStatus_ShouldChangeStatusFilterWithoutReindexing() {
+        index.updateStatus(2L, VerificationStatus.APPROVED);
+
+        List<RecordSearchHitDTO> hits = index.search("prize", null, VerificationStatus.APPROVED, null, null, 10);
+        assertEquals(1, hits.size());
+        assertEquals(Long.valueOf(2), hits.get(0).getId());
+    }
+
+    @Test
+    void remove_ShouldHideRecord() {
+        index.remove(1L);
+
+        assertTrue(index.search("graph", null, null, null, null, 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousVersion() {
+        index.put(3L, "Publications", VerificationStatus.PENDING, 11L, "CSE", "Compilers", "Compilers");
+
+        assertTrue(index.search("chip", null, null, null, null, 10).isEmpty());
+        assertEquals(1, index.search("compilers", null, null, null, null, 10).size());
+        assertEquals(3, index.size());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.backend.service;
+
+import com.example.backend.event.RecordEvent;
+import com.example.backend.model.student.VerificationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordStreamServiceTest {
+
+    private RecordStreamService recordStreamService;
+
+    @BeforeEach
+    void setUp() {
+        // Send on the publishing thread so the assertions see every event
+        recordStreamService = new RecordStreamService(Runnable::run);
+    }
+
+    @Test
+    void onRecordEvent_ShouldPushCreatedRecordToItsFacultyOnly() {
+        RecordingEmitter faculty2 = new RecordingEmitter();
+        RecordingEmitter faculty3 = new RecordingEmitter();
+        recordStreamService.subscribe(RecordStreamService.facultyTopic(2L), faculty2);
+        recordStreamService.subscribe(RecordStreamService.facultyTopic(3L), faculty3);
+
+        recordStreamService.onRecordEvent(new RecordEvent(RecordEvent.Kind.CREATED, 10L, null, state(false)));
+
+        assertEquals(2, faculty2.sent.size()); // "connected" comment + the event
+        assertEquals(1, faculty3.sent.size());
+    }
+
+    @Test
+    void onRecordEvent_ShouldPushFlagChangesToFlaggedTopic() {
+        RecordingEmitter admin = new RecordingEmitter();
+        recordStreamService.subscribe(RecordStreamService.FLAGGED_TOPIC, admin);
+
+        recordStreamService.onRecordEvent(new RecordEvent(RecordEvent.Kind.VERIFIED, 10L, state(false),
+                state(false).withVerificationStatus(VerificationStatus.APPROVED)));
+        recordStreamService.onRecordEvent(new RecordEvent(RecordEvent.Kind.FLAGGED, 10L, state(false), state(true)));
+
+        assertEquals(2, admin.sent.size());
+    }
+
+    @Test
+    void subscriber_ShouldBeDisconnected_WhenQueueOverflows() {
+        // Nothing is ever drained, so the queue of one fills with the "connected" comment
+        recordStreamService = new RecordStreamService(task -> { });
+        ReflectionTestUtils.setField(recordStreamService, "queueCapacity", 1);
+        RecordingEmitter slow = new RecordingEmitter();
+        recordStreamService.subscribe(RecordStreamService.facultyTopic(2L), slow);
+
+        recordStreamService.onRecordEvent(new RecordEvent(RecordEvent.Kind.CREATED, 10L, null, state(false)));
+
+        assertTrue(slow.completed);
+        assertEquals(0, recordStreamService.subscriberCount(RecordStreamService.facultyTopic(2L)));
+    }
+
+    @Test
+    void subscriber_ShouldBeRemoved_WhenSendFails() {
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.fail = true;
+        recordStreamService.subscribe(RecordStreamService.facultyTopic(2L), broken);
+
+        assertTrue(broken.completed);
+        assertEquals(0, recordStreamService.subscriberCount(RecordStreamService.facultyTopic(2L)));
+    }
+
+    private static RecordEvent.State state(boolean flagged) {
+        return new RecordEvent.State("TechnicalEvent", VerificationStatus.PENDING, flagged, 2L, 7L);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> sent = new ArrayList<>();
+        private boolean fail;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
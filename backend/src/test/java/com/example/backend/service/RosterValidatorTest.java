@@ -0,0 +1,114 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Faculty;
+import com.example.backend.repository.FacultyRepository;
+import com.example.backend.service.BulkRegistrationService.TakenKeys;
+import com.example.backend.service.RosterValidator.ValidatedRow;
+import com.example.backend.service.StudentRosterReader.RosterRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RosterValidatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 1);
+
+    @Mock
+    private FacultyRepository facultyRepository;
+
+    private final Faculty advisor = new Faculty();
+
+    private RosterValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        advisor.setEmail("fa@college.edu");
+        when(facultyRepository.findByEmailIn(anyCollection())).thenReturn(List.of(advisor));
+        AdvisorDirectory advisors = new AdvisorDirectory();
+        advisors.note("fa@college.edu", 2);
+        advisors.resolve(facultyRepository);
+        validator = new RosterValidator(advisors, TODAY);
+    }
+
+    @Test
+    void validate_ShouldAcceptCompleteRow_AndResolveItsFields() {
+        ValidatedRow result = validator.validate(row(2, "a@college.edu", "R1", "14/08/2004", 2022.0, 8.4, "fa@college.edu"),
+                new TakenKeys());
+
+        assertTrue(result.isValid());
+        assertSame(advisor, result.getStudent().getFaculty());
+        assertEquals(LocalDate.of(2004, 8, 14),
+                result.getStudent().getDateOfBirth().toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
+        assertEquals(2022, result.getStudent().getBatch());
+    }
+
+    @Test
+    void validate_ShouldReportEveryProblemOfRow_InRuleOrder() {
+        ValidatedRow result = validator.validate(row(7, "not-an-email", "", "31/02/2004", 1901.0, "high", "gone@college.edu"),
+                new TakenKeys());
+
+        assertEquals(List.of(
+                "Email not-an-email is not a valid address",
+                "Roll number is required",
+                "Date of birth 31/02/2004 is not a valid date",
+                "Batch year 1901 is outside 1950-2032",
+                "CGPA high is not a number",
+                "Faculty with email gone@college.edu not found"), result.getErrors());
+    }
+
+    @Test
+    void validate_ShouldRejectTakenKeys_AndDatesInTheFuture() {
+        Date future = Date.from(TODAY.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        TakenKeys taken = new TakenKeys(List.of("A@College.edu"), List.of("r1"));
+
+        ValidatedRow result = validator.validate(row(2, "a@college.edu", "R1", future, "2022", 11.0, ""), taken);
+
+        assertEquals(List.of(
+                BulkRegistrationService.EMAIL_TAKEN,
+                BulkRegistrationService.ROLL_NO_TAKEN,
+                "Date of birth 2026-06-02 is in the future",
+                "CGPA 11 is outside 0-10",
+                "Faculty advisor email is required"), result.getErrors());
+    }
+
+    @Test
+    void validate_ShouldReturnResultsInRosterOrder_WhenSplitAcrossThePool() {
+        List<RosterRow> rows = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(row(i + 2, "s" + i + "@college.edu", "R" + i, null, i % 3 == 0 ? 1800.0 : 2022.0, null,
+                    "fa@college.edu"));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<ValidatedRow> results = validator.validate(rows, new TakenKeys(), pool);
+
+            assertEquals(rows.size(), results.size());
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i + 2, results.get(i).getRowNumber());
+                assertEquals(i % 3 != 0, results.get(i).isValid());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static RosterRow row(int rowNumber, String email, String rollNo, Object dateOfBirth, Object batch,
+                                 Object cgpa, String faEmail) {
+        return new RosterRow(rowNumber, new Object[] {
+                "Student", email, rollNo, dateOfBirth, "CSE", batch, "A", cgpa, "F", faEmail});
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.StudentImportJobDTO;
+import com.example.backend.model.Faculty;
+import com.example.backend.model.Student;
+import com.example.backend.repository.FacultyRepository;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentImportServiceTest {
+
+    private static final long JOB_ID = 7L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private FacultyRepository facultyRepository;
+
+    @Mock
+    private BulkRegistrationService bulkRegistrationService;
+
+    @Mock
+    private ExecutorService workers;
+
+    @Mock
+    private MultipartFile file;
+
+    @TempDir
+    Path dir;
+
+    private StudentImportService studentImportService;
+
+    @BeforeEach
+    void setUp() {
+        studentImportService = new StudentImportService(jdbcTemplate, facultyRepository, bulkRegistrationService,
+                workers, ForkJoinPool.commonPool(), 2);
+    }
+
+    @Test
+    void submit_ShouldRecordQueuedJob_AndHandItToTheWorkers() throws IOException {
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+        when(file.getOriginalFilename()).thenReturn("roster.xlsx");
+        generatedJobId();
+
+        StudentImportJobDTO job = studentImportService.submit(file);
+
+        assertEquals(JOB_ID, job.getId());
+        assertEquals(StudentImportJobDTO.Status.QUEUED, job.getStatus());
+        assertEquals("roster.xlsx", job.getFilename());
+        verify(workers).execute(any(Runnable.class));
+    }
+
+    @Test
+    void submit_ShouldFailJob_WhenQueueIsFull() throws IOException {
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+        generatedJobId();
+        doThrow(new RejectedExecutionException()).when(workers).execute(any(Runnable.class));
+
+        assertThrows(IllegalStateException.class, () -> studentImportService.submit(file));
+
+        verify(jdbcTemplate).update(startsWith("UPDATE student_import_job SET status = ?, finished_at"),
+                eq("FAILED"), any(), eq(0), eq(0), eq(0), anyString(), eq(JOB_ID));
+    }
+
+    @Test
+    void run_ShouldCommitInChunks_AndRecordRowsThatFail() throws IOException {
+        Path roster = roster("fa@college.edu", "fa@college.edu", "gone@college.edu", "fa@college.edu", "fa@college.edu");
+        Faculty advisor = new Faculty();
+        advisor.setId(5L);
+        advisor.setEmail("fa@college.edu");
+        when(facultyRepository.findByEmailIn(anyCollection())).thenReturn(List.of(advisor));
+        when(bulkRegistrationService.findTaken(anyList(), anyList())).thenReturn(new BulkRegistrationService.TakenKeys());
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(bulkRegistrationService.registerStudents(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            chunkSizes.add(students.size());
+            List<String> outcomes = new ArrayList<>();
+            for (Student student : students) {
+                assertSame(advisor, student.getFaculty());
+                outcomes.add(student.getEmail().equals("student5@college.edu") ? BulkRegistrationService.EMAIL_TAKEN : null);
+            }
+            return outcomes;
+        });
+
+        studentImportService.run(JOB_ID, roster);
+
+        assertEquals(List.of(2, 2), chunkSizes);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> errors = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO student_import_error"), errors.capture());
+        assertEquals(List.of(4, 6), errors.getValue().stream().map(error -> error[1]).toList());
+        assertEquals("Faculty with email gone@college.edu not found", errors.getValue().get(0)[3]);
+        assertEquals(BulkRegistrationService.EMAIL_TAKEN, errors.getValue().get(1)[3]);
+        verify(jdbcTemplate).update(startsWith("UPDATE student_import_job SET status = ?, finished_at"),
+                eq("COMPLETED"), any(), eq(5), eq(3), eq(2), eq("Faculty not found: gone@college.edu (row 4)"), eq(JOB_ID));
+        assertFalse(Files.exists(roster));
+    }
+
+    @Test
+    void run_ShouldRejectInvalidRows_BeforeCommitting() throws IOException {
+        Path roster = roster(sheet -> sheet.getRow(2).createCell(7).setCellValue(11.5),
+                "fa@college.edu", "fa@college.edu", "fa@college.edu");
+        Faculty advisor = new Faculty();
+        advisor.setEmail("fa@college.edu");
+        when(facultyRepository.findByEmailIn(anyCollection())).thenReturn(List.of(advisor));
+        when(bulkRegistrationService.findTaken(List.of("student1@college.edu", "student2@college.edu",
+                "student3@college.edu"), List.of("R1", "R2", "R3")))
+                .thenReturn(new BulkRegistrationService.TakenKeys(List.of("student3@college.edu"), List.of()));
+        when(bulkRegistrationService.registerStudents(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            assertEquals(List.of("student1@college.edu"), students.stream().map(Student::getEmail).toList());
+            return Collections.nCopies(students.size(), (String) null);
+        });
+
+        studentImportService.run(JOB_ID, roster);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> errors = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO student_import_error"), errors.capture());
+        assertEquals(List.of(3, 4), errors.getValue().stream().map(error -> error[1]).toList());
+        assertEquals("CGPA 11.5 is outside 0-10", errors.getValue().get(0)[3]);
+        assertEquals(BulkRegistrationService.EMAIL_TAKEN, errors.getValue().get(1)[3]);
+        verify(jdbcTemplate).update(startsWith("UPDATE student_import_job SET status = ?, finished_at"),
+                eq("COMPLETED"), any(), eq(3), eq(1), eq(2), isNull(), eq(JOB_ID));
+    }
+
+    @Test
+    void run_ShouldFailJob_ForFilesThatAreNotWorkbooks() throws IOException {
+        Path notes = Files.writeString(dir.resolve("notes.xlsx"), "name,email");
+
+        studentImportService.run(JOB_ID, notes);
+
+        verify(jdbcTemplate).update(startsWith("UPDATE student_import_job SET status = ?, finished_at"),
+                eq("FAILED"), any(), eq(0), eq(0), eq(0), startsWith("Not a valid .xlsx workbook"), eq(JOB_ID));
+        verifyNoInteractions(bulkRegistrationService);
+        assertFalse(Files.exists(notes));
+    }
+
+    @Test
+    void csv_ShouldQuoteSeparators_AndDefuseFormulas() {
+        assertEquals("plain", StudentImportService.csv("plain"));
+        assertEquals("\"a, \"\"b\"\"\"", StudentImportService.csv("a, \"b\""));
+        assertEquals("'=HYPERLINK(1)", StudentImportService.csv("=HYPERLINK(1)"));
+        assertEquals("", StudentImportService.csv(null));
+    }
+
+    private void generatedJobId() {
+        doAnswer(invocation -> {
+            KeyHolder keyHolder = invocation.getArgument(1);
+            keyHolder.getKeyList().add(Map.of("id", JOB_ID));
+            return 1;
+        }).when(jdbcTemplate).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+    }
+
+    // One student per advisor email, on rows 2 onwards
+    private Path roster(String... advisorEmails) throws IOException {
+        return roster(sheet -> { }, advisorEmails);
+    }
+
+    private Path roster(Consumer<Sheet> edits, String... advisorEmails) throws IOException {
+        Path roster = dir.resolve("roster.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(roster)) {
+            Sheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            for (int i = 0; i < advisorEmails.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue("Student " + (i + 1));
+                row.createCell(1).setCellValue("student" + (i + 1) + "@college.edu");
+                row.createCell(2).setCellValue("R" + (i + 1));
+                row.createCell(5).setCellValue(2022);
+                row.createCell(9).setCellValue(advisorEmails[i]);
+            }
+            edits.accept(sheet);
+            workbook.write(out);
+        }
+        return roster;
+    }
+}
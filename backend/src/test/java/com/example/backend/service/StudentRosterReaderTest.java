@@ -0,0 +1,130 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Role;
+import com.example.backend.model.Student;
+import com.example.backend.service.StudentRosterReader.RosterRow;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentRosterReaderTest {
+
+    private static final Date BIRTHDAY = Date.from(LocalDate.of(2003, 4, 17).atStartOfDay(ZoneId.systemDefault()).toInstant());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void read_ShouldMapRosterColumnsToStudents() throws IOException {
+        Path roster = roster(1);
+        List<RosterRow> rows = new ArrayList<>();
+
+        int count = StudentRosterReader.read(roster, rows::add);
+
+        assertEquals(1, count);
+        RosterRow row = rows.get(0);
+        assertEquals(2, row.getRowNumber());
+        assertEquals("fa0@college.edu", row.getFaEmail());
+        Student student = row.toStudent();
+        assertEquals("Student 0", student.getName());
+        assertEquals("student0@college.edu", student.getEmail());
+        assertEquals("2021000", student.getRollNo());
+        assertEquals(BIRTHDAY, student.getDateOfBirth());
+        assertEquals("CSE", student.getDepartment());
+        assertEquals(2021, student.getBatch());
+        assertEquals("A", student.getStudentClass());
+        assertEquals(8.5, student.getCgpa());
+        assertEquals("F", student.getGender());
+        assertEquals(Role.STUDENT, student.getRole());
+    }
+
+    @Test
+    void read_ShouldStreamEveryRowInOrder_AndSkipBlankRows() throws IOException {
+        Path roster = roster(2000);
+        List<String> emails = new ArrayList<>();
+
+        StudentRosterReader.read(Files.newInputStream(roster), row -> emails.add(row.getString(1)));
+
+        assertEquals(2000, emails.size());
+        assertEquals("student0@college.edu", emails.get(0));
+        assertEquals("student1999@college.edu", emails.get(1999));
+    }
+
+    @Test
+    void read_ShouldLeaveMissingCellsEmpty() throws IOException {
+        Path roster = dir.resolve("sparse.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(roster)) {
+            Sheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("Name");
+            sheet.createRow(1).createCell(1).setCellValue("only@college.edu");
+            workbook.write(out);
+        }
+        List<RosterRow> rows = new ArrayList<>();
+
+        StudentRosterReader.read(roster, rows::add);
+
+        Student student = rows.get(0).toStudent();
+        assertEquals("", student.getName());
+        assertEquals("only@college.edu", student.getEmail());
+        assertNull(student.getDateOfBirth());
+        assertNull(student.getCgpa());
+        assertEquals(0, student.getBatch());
+    }
+
+    @Test
+    void read_ShouldRejectFilesThatAreNotWorkbooks() throws IOException {
+        Path notes = Files.writeString(dir.resolve("notes.xlsx"), "name,email");
+
+        assertThrows(IOException.class, () -> StudentRosterReader.read(notes, row -> { }));
+    }
+
+    // A header, the given number of students, and a blank but formatted row in between
+    private Path roster(int students) throws IOException {
+        Path roster = dir.resolve("roster.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(roster)) {
+            CellStyle date = workbook.createCellStyle();
+            date.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd-mm-yyyy"));
+            Sheet sheet = workbook.createSheet("Students");
+            Row header = sheet.createRow(0);
+            String[] columns = {"Name", "Email", "Roll No", "DOB", "Department", "Batch", "Class", "CGPA", "Gender", "FA Email"};
+            for (int i = 0; i < columns.length; i++) {
+                header.createCell(i).setCellValue(columns[i]);
+            }
+            int rowIndex = 1;
+            for (int i = 0; i < students; i++) {
+                if (i == 1) {
+                    sheet.createRow(rowIndex++).createCell(0).setCellStyle(date);
+                }
+                Row row = sheet.createRow(rowIndex++);
+                row.createCell(0).setCellValue("Student " + i);
+                row.createCell(1).setCellValue(" student" + i + "@college.edu ");
+                row.createCell(2).setCellValue(2021000 + i);
+                row.createCell(3).setCellValue(BIRTHDAY);
+                row.getCell(3).setCellStyle(date);
+                row.createCell(4).setCellValue("CSE");
+                row.createCell(5).setCellValue(2021);
+                row.createCell(6).setCellValue("A");
+                row.createCell(7).setCellValue(8.5);
+                row.createCell(8).setCellValue("F");
+                row.createCell(9).setCellValue("fa" + (i % 3) + "@college.edu");
+            }
+            workbook.write(out);
+        }
+        return roster;
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.StudentProfileDTO;
 import com.example.backend.model.Student;
+import com.example.backend.model.student.Publications;
+import com.example.backend.model.student.TechnicalEvent;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.repository.StudentRepository;
+import com.example.backend.repository.student.MainRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,9 +16,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +38,12 @@ class StudentServiceTest {
     @Mock
     private MultipartFile file;
 
+    @Mock
+    private MainRepository mainRepository;
+
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -107,15 +120,51 @@ class StudentServiceTest {
     @Test
     void saveStudentsToDatabase_WithValidExcelFile_ShouldSaveStudents() throws IOException {
         when(excelUploadService.isValidExcelFile(file)).thenReturn(true);
-        when(excelUploadService.getStudentDataFromExcel(any()))
-            .thenReturn(studentList);
-        when(studentRepository.saveAll(anyList())).thenReturn(studentList);
+        doAnswer(invocation -> {
+            Consumer<Student> students = invocation.getArgument(1);
+            studentList.forEach(students);
+            return null;
+        }).when(excelUploadService).readStudentData(any(), any());
+        List<List<Student>> saved = new ArrayList<>();
+        when(studentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.add(new ArrayList<>(invocation.<List<Student>>getArgument(0)));
+            return invocation.getArgument(0);
+        });
 
         studentService.saveStudentsToDatabase(file);
 
         verify(excelUploadService, times(1)).isValidExcelFile(file);
-        verify(excelUploadService, times(1)).getStudentDataFromExcel(any());
-        verify(studentRepository, times(1)).saveAll(studentList);
+        verify(excelUploadService, times(1)).readStudentData(any(), any());
+        assertEquals(studentList, saved.get(0));
+        verify(userCache).evict(student1);
+        verify(userCache).evict(student2);
+    }
+
+    @Test
+    void getStudentProfile_ShouldGroupRecordsByTypeAndStatus() {
+        TechnicalEvent hackathon = new TechnicalEvent();
+        hackathon.setVerificationStatus(VerificationStatus.APPROVED);
+        TechnicalEvent quiz = new TechnicalEvent();
+        quiz.setVerificationStatus(VerificationStatus.PENDING);
+        Publications paper = new Publications();
+        paper.setVerificationStatus(VerificationStatus.APPROVED);
+        when(studentRepository.findWithFacultyById(1L)).thenReturn(Optional.of(student1));
+        when(mainRepository.findAllByStudentIdNewestFirst(1L)).thenReturn(List.of(hackathon, quiz, paper));
+
+        StudentProfileDTO profile = studentService.getStudentProfile(1L).orElseThrow();
+
+        assertSame(student1, profile.getStudent());
+        assertEquals(3, profile.getTotalActivities());
+        assertEquals(List.of(hackathon), profile.getActivities().get("TechnicalEvent").get("Approved"));
+        assertEquals(List.of(quiz), profile.getActivities().get("TechnicalEvent").get("Pending"));
+        assertEquals(List.of(paper), profile.getActivities().get("Publications").get("Approved"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void getStudentProfile_ShouldBeEmpty_WhenStudentNotFound() {
+        when(studentRepository.findWithFacultyById(99L)).thenReturn(Optional.empty());
+
+        assertTrue(studentService.getStudentProfile(99L).isEmpty());
+        verifyNoInteractions(mainRepository);
+    }
+}
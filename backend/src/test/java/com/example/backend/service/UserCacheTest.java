@@ -0,0 +1,139 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Faculty;
+import com.example.backend.model.Student;
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache userCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(userRepository, meterRegistry, 2, 300, 30, now::get);
+        user = new User();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+    }
+
+    @Test
+    void findById_ShouldLoadOnce_ThenServeFromCache() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        assertSame(user, userCache.findById(1L).orElseThrow());
+        assertSame(user, userCache.findById(1L).orElseThrow());
+
+        verify(userRepository, times(1)).findById(1L);
+        assertEquals(1.0, meterRegistry.get("user.cache.gets").tag("cache", "id").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("user.cache.gets").tag("cache", "id").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void findById_ShouldReload_AfterTtl() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userCache.findById(1L);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(301));
+        userCache.findById(1L);
+
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void findByEmail_ShouldCacheUnknownEmail_ForNegativeTtl() {
+        when(userRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        assertTrue(userCache.findByEmail("nobody@example.com").isEmpty());
+        assertTrue(userCache.findByEmail("nobody@example.com").isEmpty());
+        verify(userRepository, times(1)).findByEmail("nobody@example.com");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        userCache.findByEmail("nobody@example.com");
+        verify(userRepository, times(2)).findByEmail("nobody@example.com");
+    }
+
+    @Test
+    void evict_ShouldDropIdAndEmailEntries() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        userCache.findById(1L);
+        userCache.findByEmail("user@example.com");
+
+        userCache.evict(user);
+        userCache.findById(1L);
+        userCache.findByEmail("user@example.com");
+
+        verify(userRepository, times(2)).findById(1L);
+        verify(userRepository, times(2)).findByEmail("user@example.com");
+    }
+
+    @Test
+    void evictFaculty_ShouldDropStudentsOfThatFaculty() {
+        Faculty faculty = new Faculty();
+        faculty.setId(5L);
+        Student student = new Student();
+        student.setId(2L);
+        student.setFaculty(faculty);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(student));
+        userCache.findStudentById(2L);
+
+        userCache.evictFaculty(faculty);
+        userCache.findStudentById(2L);
+
+        verify(userRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void evictFacultyId_ShouldDropFacultyAndItsStudents() {
+        Faculty faculty = new Faculty();
+        faculty.setId(5L);
+        Student student = new Student();
+        student.setId(2L);
+        student.setFaculty(faculty);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(student));
+        when(userRepository.findById(5L)).thenReturn(Optional.of(faculty));
+        userCache.findStudentById(2L);
+        userCache.findById(5L);
+
+        userCache.evictFacultyId(5L);
+        userCache.findStudentById(2L);
+        userCache.findById(5L);
+
+        verify(userRepository, times(2)).findById(2L);
+        verify(userRepository, times(2)).findById(5L);
+    }
+
+    @Test
+    void cache_ShouldStayWithinMaxSize() {
+        for (long id = 1; id <= 3; id++) {
+            User other = new User();
+            other.setId(id);
+            when(userRepository.findById(id)).thenReturn(Optional.of(other));
+            userCache.findById(id);
+        }
+
+        assertEquals(2.0, meterRegistry.get("user.cache.size").tag("cache", "id").gauge().value());
+    }
+}
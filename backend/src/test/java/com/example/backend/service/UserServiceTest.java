@@ -24,6 +24,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -51,7 +54,7 @@ class UserServiceTest {
 
     @Test
     void getUserByEmail_ShouldReturnUser_WhenExists() {
-        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(regularUser));
+        when(userCache.findByEmail("user@example.com")).thenReturn(Optional.of(regularUser));
 
         Optional<User> result = userService.getUserByEmail("user@example.com");
 
@@ -62,7 +65,7 @@ class UserServiceTest {
 
     @Test
     void getUserByEmail_ShouldReturnEmpty_WhenNotExists() {
-        when(userRepository.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
+        when(userCache.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
 
         Optional<User> result = userService.getUserByEmail("nonexistent@example.com");
 
@@ -72,7 +75,7 @@ class UserServiceTest {
 
     @Test
     void getUserRoleByEmail_ShouldReturnRole_WhenUserExists() {
-        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(regularUser));
+        when(userCache.findByEmail("user@example.com")).thenReturn(Optional.of(regularUser));
 
         Role result = userService.getUserRoleByEmail("user@example.com");
 
@@ -81,7 +84,7 @@ class UserServiceTest {
 
     @Test
     void getUserRoleByEmail_ShouldReturnNull_WhenUserNotExists() {
-        when(userRepository.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
+        when(userCache.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
 
         Role result = userService.getUserRoleByEmail("nonexistent@example.com");
 
@@ -90,7 +93,7 @@ class UserServiceTest {
 
     @Test
     void authenticate_ShouldReturnUser_WhenCredentialsMatch() {
-        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(regularUser));
+        when(userCache.findByEmail("user@example.com")).thenReturn(Optional.of(regularUser));
 
         Optional<User> result = userService.authenticate("user@example.com", "password");
 
@@ -100,7 +103,7 @@ class UserServiceTest {
 
     @Test
     void authenticate_ShouldReturnEmpty_WhenUserNotExists() {
-        when(userRepository.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
+        when(userCache.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
 
         Optional<User> result = userService.authenticate("nonexistent@example.com", "password");
 
@@ -119,7 +122,7 @@ class UserServiceTest {
 
     @Test
     void getUserById_ShouldReturnUser_WhenExists() {
-        when(userRepository.findById(2L)).thenReturn(Optional.of(regularUser));
+        when(userCache.findById(2L)).thenReturn(Optional.of(regularUser));
 
         Optional<User> result = userService.getUserById(2L);
 
@@ -129,7 +132,7 @@ class UserServiceTest {
 
     @Test
     void getUserById_ShouldReturnEmpty_WhenNotExists() {
-        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+        when(userCache.findById(99L)).thenReturn(Optional.empty());
 
         Optional<User> result = userService.getUserById(99L);
 
@@ -0,0 +1,80 @@
+package com.example.backend.service.faculty;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacultyPublicationSearchIndexTest {
+
+    private FacultyPublicationSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FacultyPublicationSearchIndex();
+        index.put(1L, "Graph Neural Networks", "A. Rao", "gnn, deep learning", 2023, "Journal");
+        index.put(2L, "Learning on Graphs", "B. Iyer", "graphs", 2021, "Conference");
+        index.put(3L, "Compiler Design", "A. Rao", "compilers", 2023, "Journal");
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsAndRankTitleFirst() {
+        FacultyPublicationSearchIndex.Result result = index.search("graph", null, null, null, null, null, 10);
+
+        assertEquals(List.of(1L, 2L), result.getIds());
+        assertEquals(2, result.getTotal());
+    }
+
+    @Test
+    void search_ShouldCombineFieldScopedCriteria() {
+        FacultyPublicationSearchIndex.Result result = index.search(null, null, "rao", "learning", null, null, 10);
+
+        assertEquals(List.of(1L), result.getIds());
+    }
+
+    @Test
+    void search_ShouldCountFacetsOverAllMatches_AndFilterResults() {
+        FacultyPublicationSearchIndex.Result result = index.search(null, null, null, null, 2023, null, 10);
+
+        assertEquals(List.of(3L, 1L), result.getIds());
+        assertEquals(Long.valueOf(2), result.getYearFacets().get(2023));
+        assertEquals(Long.valueOf(1), result.getYearFacets().get(2021));
+        assertEquals(Long.valueOf(1), result.getTypeFacets().get("Conference"));
+    }
+
+    @Test
+    void search_ShouldHandleQueriesShorterThanATrigram() {
+        assertEquals(List.of(3L), index.search(null, "co", null, null, null, null, 10).getIds());
+    }
+
+    @Test
+    void remove_ShouldDropPublication() {
+        index.remove(1L);
+
+        assertEquals(List.of(2L), index.search("graph", null, null, null, null, null, 10).getIds());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void put_ShouldReindexUpdatedPublication() {
+        index.put(3L, "Graph Compilers", "A. Rao", "compilers", 2024, "Journal");
+
+        assertTrue(index.search("graph", null, null, null, null, null, 10).getIds().contains(3L));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void put_ShouldCompactAway_RepeatedEditsOfAPublication() {
+        for (int i = 0; i < 1000; i++) {
+            index.put(3L, "Compiler Design " + i, "A. Rao", "compilers", 2023, "Journal");
+        }
+
+        assertTrue(index.slots() < 300);
+        assertEquals(3, index.size());
+        assertEquals(List.of(3L), index.search(null, "design 999", null, null, null, null, 10).getIds());
+        assertTrue(index.search(null, "design 998", null, null, null, null, 10).getIds().isEmpty());
+        assertEquals(List.of(1L, 2L), index.search("graph", null, null, null, null, null, 10).getIds());
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.backend.service.faculty;
 
+import com.example.backend.dto.FacultyPublicationSearchResultDTO;
+import com.example.backend.event.FacultyPublicationEvent;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.faculty.FacultyPublication;
 import com.example.backend.repository.faculty.FacultyPublicationRepository;
+import com.example.backend.service.DocumentStorageService.StagedDocument;
 import com.example.backend.service.faculty.FacultyPublicationService;
 import com.example.backend.service.student.MainService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -21,6 +25,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +46,12 @@ class FacultyPublicationServiceTest {
     @Mock
     private MultipartFile documentFile;
 
+    @Mock
+    private FacultyPublicationSearchService facultyPublicationSearchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private FacultyPublicationService facultyPublicationService;
 
@@ -96,16 +107,15 @@ void getPublicationsByFacultyId_ShouldReturnFacultyPublications() {
 }
 
     @Test
-    void searchPublications_ShouldReturnMatchingPublications() {
+    void searchPublications_ShouldSearchAllFieldsThroughIndex() {
         String query = "Test";
-        when(facultyPublicationRepository.searchPublications(query))
-            .thenReturn(Arrays.asList(publication));
+        when(facultyPublicationSearchService.search(query, null, null, null, null, null, null))
+            .thenReturn(new FacultyPublicationSearchResultDTO(1, Arrays.asList(publication), Map.of(), Map.of()));
 
         List<FacultyPublication> result = facultyPublicationService.searchPublications(query);
 
         assertEquals(1, result.size());
         assertTrue(result.get(0).getTitle().contains(query));
-        verify(facultyPublicationRepository, times(1)).searchPublications(query);
     }
 
     @Test
@@ -118,21 +128,23 @@ void getPublicationsByFacultyId_ShouldReturnFacultyPublications() {
         assertNotNull(result);
         assertEquals(publication.getId(), result.getId());
         verify(facultyPublicationRepository, times(1)).save(publication);
+        verify(eventPublisher).publishEvent(any(FacultyPublicationEvent.class));
     }
 
     @Test
-    void submitPublication_WithDocumentFile_ShouldSaveFileAndPublication() throws IOException {
+    void submitPublication_WithStagedDocument_ShouldCommitFileAndSavePublication() throws IOException {
         String filePath = "/uploads/document.pdf";
-        when(documentFile.isEmpty()).thenReturn(false);
-        when(mainService.saveFile(documentFile)).thenReturn(filePath);
+        StagedDocument document = mock(StagedDocument.class);
+        when(mainService.commitFile(document)).thenReturn(filePath);
         when(facultyPublicationRepository.save(any(FacultyPublication.class)))
             .thenReturn(publication);
 
-        FacultyPublication result = facultyPublicationService.submitPublication(publication, documentFile);
+        FacultyPublication result = facultyPublicationService.submitPublication(publication, document);
 
         assertNotNull(result);
         assertEquals(filePath, result.getDocumentPath());
-        verify(mainService, times(1)).saveFile(documentFile);
+        verify(mainService, times(1)).commitFile(document);
+        verify(mainService, never()).saveFile(any());
         verify(facultyPublicationRepository, times(1)).save(publication);
     }
 
@@ -148,6 +160,7 @@ void getPublicationsByFacultyId_ShouldReturnFacultyPublications() {
 
         verify(facultyPublicationRepository, times(1)).findById(publicationId);
         verify(facultyPublicationRepository, never()).deleteById(publicationId);
+        verifyNoInteractions(eventPublisher);
     }
 
 }
\ No newline at end of file
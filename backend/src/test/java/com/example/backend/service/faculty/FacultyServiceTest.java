@@ -5,6 +5,7 @@ import com.example.backend.model.Student;
 import com.example.backend.repository.FacultyRepository;
 import com.example.backend.repository.StudentRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.service.UserCache;
 import com.example.backend.service.faculty.FacultyService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,9 @@ class FacultyServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private FacultyService facultyService;
 
@@ -124,6 +128,7 @@ class FacultyServiceTest {
 
         assertEquals(faculty, result);
         verify(facultyRepository).save(faculty);
+        verify(userCache).evictFaculty(faculty);
     }
 
     @Test
@@ -131,5 +136,6 @@ class FacultyServiceTest {
         facultyService.deleteFaculty(1L);
 
         verify(facultyRepository).deleteById(1L);
+        verify(userCache).evictFacultyId(1L);
     }
 }
\ No newline at end of file
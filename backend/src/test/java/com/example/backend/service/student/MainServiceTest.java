@@ -1,32 +1,49 @@
 package com.example.backend.service.student;
 
+import com.example.backend.dto.BulkVerificationRequest;
+import com.example.backend.dto.BulkVerificationResult;
+import com.example.backend.dto.BulkVerificationResult.Outcome;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.RecordCursor;
+import com.example.backend.dto.RecordFilter;
+import com.example.backend.dto.RecordSummaryDTO;
+import com.example.backend.event.RecordEvent;
+import com.example.backend.exception.InvalidStatusTransitionException;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.Faculty;
 import com.example.backend.model.Student;
 import com.example.backend.model.student.Main;
+import com.example.backend.model.student.TechnicalEvent;
+import com.example.backend.model.student.VerificationStatus;
 import com.example.backend.repository.FacultyRepository;
 import com.example.backend.repository.student.MainRepository;
+import com.example.backend.service.DocumentStorageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.Resource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +58,12 @@ class MainServiceTest {
     @Mock
     private MultipartFile multipartFile;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DocumentStorageService documentStorageService;
+
     @InjectMocks
     private MainService mainService;
 
@@ -60,49 +83,50 @@ class MainServiceTest {
         testRecord.setId(1L);
         testRecord.setFaculty(testFaculty);
         testRecord.setStudent(testStudent);
-        testRecord.setVerificationStatus("Pending");
+        testRecord.setVerificationStatus(VerificationStatus.PENDING);
     }
 
     @Test
     void getEventById_ShouldReturnRecord_WhenExists() {
-        when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.findTypedById(1L)).thenReturn(Optional.of(testRecord));
         
         Main result = mainService.getEventById(1L);
         
         assertEquals(testRecord, result);
-        verify(mainRepository).findById(1L);
+        verify(mainRepository).findTypedById(1L);
+        verify(mainRepository, never()).findById(any());
     }
 
     @Test
     void getEventById_ShouldThrowException_WhenNotExists() {
-        when(mainRepository.findById(1L)).thenReturn(Optional.empty());
+        when(mainRepository.findTypedById(1L)).thenReturn(Optional.empty());
         
         assertThrows(ResourceNotFoundException.class, () -> mainService.getEventById(1L));
-        verify(mainRepository).findById(1L);
+        verify(mainRepository).findTypedById(1L);
     }
 
     @Test
     void getStudentActivities_ShouldReturnRecords_WhenExists() {
         List<Main> expected = Arrays.asList(testRecord);
-        when(mainRepository.findByStudentAndFacultyAndVerificationStatus(testStudent, testFaculty, "Pending"))
+        when(mainRepository.findByStudentAndFacultyAndVerificationStatus(testStudent, testFaculty, VerificationStatus.PENDING))
             .thenReturn(expected);
         
-        List<Main> result = mainService.getStudentActivities(testStudent, testFaculty, "Pending");
+        List<Main> result = mainService.getStudentActivities(testStudent, testFaculty, VerificationStatus.PENDING);
         
         assertEquals(expected, result);
-        verify(mainRepository).findByStudentAndFacultyAndVerificationStatus(testStudent, testFaculty, "Pending");
+        verify(mainRepository).findByStudentAndFacultyAndVerificationStatus(testStudent, testFaculty, VerificationStatus.PENDING);
     }
 
     @Test
     void getStudentActivitiesByIds_ShouldReturnRecords_WhenExists() {
         List<Main> expected = Arrays.asList(testRecord);
-        when(mainRepository.findByStudent_IdAndFaculty_IdAndVerificationStatus(1L, 1L, "Pending"))
+        when(mainRepository.findByStudent_IdAndFaculty_IdAndVerificationStatus(1L, 1L, VerificationStatus.PENDING))
             .thenReturn(expected);
         
-        List<Main> result = mainService.getStudentActivitiesByIds(1L, 1L, "Pending");
+        List<Main> result = mainService.getStudentActivitiesByIds(1L, 1L, VerificationStatus.PENDING);
         
         assertEquals(expected, result);
-        verify(mainRepository).findByStudent_IdAndFaculty_IdAndVerificationStatus(1L, 1L, "Pending");
+        verify(mainRepository).findByStudent_IdAndFaculty_IdAndVerificationStatus(1L, 1L, VerificationStatus.PENDING);
     }
 
     @Test
@@ -128,25 +152,24 @@ class MainServiceTest {
     @Test
     void updateVerificationStatus_ShouldUpdateStatus_WhenRecordExists() {
         when(mainRepository.findByIdAndFaculty(1L, testFaculty)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.updateVerificationStatusIfCurrent(List.of(1L), 1L,
+                VerificationStatus.PENDING, VerificationStatus.APPROVED, null)).thenReturn(1);
         
         boolean result = mainService.updateVerificationStatus(1L, testFaculty, "Approved", "Comment");
         
-        assertTrue(result);
-        assertEquals("Approved", testRecord.getVerificationStatus());
-        assertNull(testRecord.getComments()); // Comment should only be set for Rejected
-        verify(mainRepository).save(testRecord);
+        assertTrue(result); // Comment should only be set for Rejected
+        verify(mainRepository, never()).save(any());
     }
 
     @Test
     void updateVerificationStatus_ShouldSetComment_WhenRejected() {
         when(mainRepository.findByIdAndFaculty(1L, testFaculty)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.updateVerificationStatusIfCurrent(List.of(1L), 1L,
+                VerificationStatus.PENDING, VerificationStatus.REJECTED, "Rejection comment")).thenReturn(1);
         
         boolean result = mainService.updateVerificationStatus(1L, testFaculty, "Rejected", "Rejection comment");
         
         assertTrue(result);
-        assertEquals("Rejected", testRecord.getVerificationStatus());
-        assertEquals("Rejection comment", testRecord.getComments());
-        verify(mainRepository).save(testRecord);
     }
 
     @Test
@@ -156,20 +179,21 @@ class MainServiceTest {
         boolean result = mainService.updateVerificationStatus(1L, testFaculty, "Approved", "Comment");
         
         assertFalse(result);
-        verify(mainRepository, never()).save(any());
+        verify(mainRepository, never()).updateVerificationStatusIfCurrent(anyList(), any(), any(), any(), any());
     }
 
     @Test
     void updateVerificationStatusById_ShouldUpdateStatus_WhenRecordExists() {
         when(facultyRepository.findById(1L)).thenReturn(Optional.of(testFaculty));
         when(mainRepository.findByIdAndFaculty(1L, testFaculty)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.updateVerificationStatusIfCurrent(List.of(1L), 1L,
+                VerificationStatus.PENDING, VerificationStatus.APPROVED, null)).thenReturn(1);
         
         boolean result = mainService.updateVerificationStatus(1L, 1L, "Approved", "Comment");
         
         assertTrue(result);
         verify(facultyRepository).findById(1L);
         verify(mainRepository).findByIdAndFaculty(1L, testFaculty);
-        verify(mainRepository).save(testRecord);
     }
 
     @Test
@@ -186,61 +210,119 @@ class MainServiceTest {
     @Test
     void getPendingRecords_ShouldReturnRecords() {
         List<Main> expected = Arrays.asList(testRecord);
-        when(mainRepository.findByFacultyIdAndVerificationStatus(1L, "Pending")).thenReturn(expected);
+        when(mainRepository.findByFacultyIdAndVerificationStatus(1L, VerificationStatus.PENDING)).thenReturn(expected);
         
         List<Main> result = mainService.getPendingRecords(1L);
         
         assertEquals(expected, result);
-        verify(mainRepository).findByFacultyIdAndVerificationStatus(1L, "Pending");
+        verify(mainRepository).findByFacultyIdAndVerificationStatus(1L, VerificationStatus.PENDING);
     }
 
     @Test
     void getRejectedRecords_ShouldReturnRecords() {
         List<Main> expected = Arrays.asList(testRecord);
-        when(mainRepository.findByFacultyIdAndVerificationStatus(1L, "Rejected")).thenReturn(expected);
+        when(mainRepository.findByFacultyIdAndVerificationStatus(1L, VerificationStatus.REJECTED)).thenReturn(expected);
         
         List<Main> result = mainService.getRejectedRecords(1L);
         
         assertEquals(expected, result);
-        verify(mainRepository).findByFacultyIdAndVerificationStatus(1L, "Rejected");
+        verify(mainRepository).findByFacultyIdAndVerificationStatus(1L, VerificationStatus.REJECTED);
     }
 
     @Test
     void approveRecord_ShouldUpdateStatus_WhenRecordExists() {
         when(mainRepository.findByIdAndFacultyId(1L, 1L)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.updateVerificationStatusIfCurrent(List.of(1L), 1L,
+                VerificationStatus.PENDING, VerificationStatus.APPROVED, "Approval comment")).thenReturn(1);
         
         boolean result = mainService.approveRecord(1L, 1L, "Approval comment");
         
         assertTrue(result);
-        assertEquals("Approved", testRecord.getVerificationStatus());
-        assertEquals("Approval comment", testRecord.getComments());
-        verify(mainRepository).save(testRecord);
+        verify(eventPublisher).publishEvent(any(RecordEvent.class));
     }
 
     @Test
     void rejectRecord_ShouldUpdateStatus_WhenRecordExists() {
         when(mainRepository.findByIdAndFacultyId(1L, 1L)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.updateVerificationStatusIfCurrent(List.of(1L), 1L,
+                VerificationStatus.PENDING, VerificationStatus.REJECTED, "Rejection comment")).thenReturn(1);
         
         boolean result = mainService.rejectRecord(1L, 1L, "Rejection comment");
         
         assertTrue(result);
-        assertEquals("Rejected", testRecord.getVerificationStatus());
-        assertEquals("Rejection comment", testRecord.getComments());
-        verify(mainRepository).save(testRecord);
+    }
+
+    @Test
+    void approveRecord_ShouldThrowConflict_WhenAlreadyApproved() {
+        testRecord.setVerificationStatus(VerificationStatus.APPROVED);
+        when(mainRepository.findByIdAndFacultyId(1L, 1L)).thenReturn(Optional.of(testRecord));
+
+        assertThrows(InvalidStatusTransitionException.class, () -> mainService.approveRecord(1L, 1L, null));
+        verify(mainRepository, never()).updateVerificationStatusIfCurrent(anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    void approveRecord_ShouldThrowConflict_WhenChangedConcurrently() {
+        when(mainRepository.findByIdAndFacultyId(1L, 1L)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.updateVerificationStatusIfCurrent(List.of(1L), 1L,
+                VerificationStatus.PENDING, VerificationStatus.APPROVED, null)).thenReturn(0);
+
+        assertThrows(InvalidStatusTransitionException.class, () -> mainService.approveRecord(1L, 1L, null));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void resubmitRecord_ShouldMoveRejectedRecordBackToPending() {
+        testRecord.setVerificationStatus(VerificationStatus.REJECTED);
+        when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.updateVerificationStatusIfCurrent(List.of(1L), 1L,
+                VerificationStatus.REJECTED, VerificationStatus.PENDING, null)).thenReturn(1);
+
+        mainService.resubmitRecord(1L, 1L);
+
+        ArgumentCaptor<RecordEvent> captor = ArgumentCaptor.forClass(RecordEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(RecordEvent.Kind.RESUBMITTED, captor.getValue().getKind());
+    }
+
+    @Test
+    void resubmitRecord_ShouldMatchOwner_ForIdsOutsideTheBoxCache() {
+        testStudent.setId(1000L);
+        testRecord.setVerificationStatus(VerificationStatus.REJECTED);
+        when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
+        when(mainRepository.updateVerificationStatusIfCurrent(List.of(1L), 1L,
+                VerificationStatus.REJECTED, VerificationStatus.PENDING, null)).thenReturn(1);
+
+        mainService.resubmitRecord(1L, Long.valueOf(1000L));
+
+        verify(eventPublisher).publishEvent(any(RecordEvent.class));
+    }
+
+    @Test
+    void resubmitRecord_ShouldThrowNotFound_WhenRecordBelongsToAnotherStudent() {
+        when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
+
+        assertThrows(ResourceNotFoundException.class, () -> mainService.resubmitRecord(1L, 2L));
     }
 
     @Test
     void saveFile_ShouldSaveFile_WhenValidFile() throws IOException {
         String originalFilename = "test.pdf";
         String expectedExtension = ".pdf";
+        java.io.InputStream content = mock(java.io.InputStream.class);
         when(multipartFile.getOriginalFilename()).thenReturn(originalFilename);
-        when(multipartFile.getInputStream()).thenReturn(mock(java.io.InputStream.class));
+        when(multipartFile.getInputStream()).thenReturn(content);
+        DocumentStorageService.StagedDocument staged = mock(DocumentStorageService.StagedDocument.class);
+        when(documentStorageService.stage(content, originalFilename)).thenReturn(staged);
+        when(documentStorageService.commit(staged)).thenReturn("sha256/ab/cd/" + "ab".repeat(32) + expectedExtension);
         
         String result = mainService.saveFile(multipartFile);
         
         assertNotNull(result);
         assertTrue(result.endsWith(expectedExtension));
         verify(multipartFile).getInputStream();
+        verify(documentStorageService).stage(content, originalFilename);
+        verify(staged).close();
     }
 
     @Test
@@ -265,6 +347,9 @@ void saveFile_ShouldSuccessfullySave_WhenValidFile() throws IOException {
         "application/pdf", 
         "test content".getBytes()
     );
+    DocumentStorageService.StagedDocument staged = mock(DocumentStorageService.StagedDocument.class);
+    when(documentStorageService.stage(any(java.io.InputStream.class), eq("test.pdf"))).thenReturn(staged);
+    when(documentStorageService.commit(staged)).thenReturn("sha256/ab/cd/" + "ab".repeat(32) + ".pdf");
     
     String result = mainService.saveFile(validFile);
     
@@ -274,66 +359,100 @@ void saveFile_ShouldSuccessfullySave_WhenValidFile() throws IOException {
 }
 
 @Test
-void downloadFile_ShouldReturnResource_WhenFileExists() throws Exception {
-    // Create upload directory if it doesn't exist
-    Path uploadDir = Paths.get(System.getProperty("user.dir"), "RecordDocuments");
-    Files.createDirectories(uploadDir);
-    
-    // Create a test file with known name
-    String testFileName = "test_" + UUID.randomUUID() + ".pdf";
-    Path testFile = uploadDir.resolve(testFileName);
-    Files.write(testFile, "test content".getBytes());
-    
-    try {
-        // Setup test record with the actual filename we created
-        testRecord.setDocumentPath(testFileName);
+    void stageFile_ShouldNotTouchTheDatabase() throws IOException {
+        MultipartFile validFile = new MockMultipartFile("testFile", "test.pdf", "application/pdf", "test content".getBytes());
+        DocumentStorageService.StagedDocument staged = mock(DocumentStorageService.StagedDocument.class);
+        when(documentStorageService.stage(any(java.io.InputStream.class), eq("test.pdf"))).thenReturn(staged);
+
+        assertSame(staged, mainService.stageFile(validFile));
+        verify(documentStorageService, never()).commit(any());
+        verifyNoInteractions(mainRepository);
+    }
+
+    @Test
+    void commitFile_ShouldRecordTheStagedDocument() throws IOException {
+        DocumentStorageService.StagedDocument staged = mock(DocumentStorageService.StagedDocument.class);
+        String key = "sha256/ab/cd/" + "ab".repeat(32) + ".pdf";
+        when(documentStorageService.commit(staged)).thenReturn(key);
+
+        assertEquals(key, mainService.commitFile(staged));
+        verifyNoInteractions(mainRepository);
+    }
+
+    @Test
+    void submitRecord_ShouldCommitDocumentAndSaveRecord() throws IOException {
+        DocumentStorageService.StagedDocument staged = mock(DocumentStorageService.StagedDocument.class);
+        String key = "sha256/ab/cd/" + "ab".repeat(32) + ".pdf";
+        when(documentStorageService.commit(staged)).thenReturn(key);
+        when(mainRepository.save(testRecord)).thenReturn(testRecord);
+
+        Main saved = mainService.submitRecord(testRecord, staged);
+
+        assertSame(testRecord, saved);
+        assertEquals(key, saved.getDocumentPath());
+        ArgumentCaptor<RecordEvent> event = ArgumentCaptor.forClass(RecordEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(RecordEvent.Kind.CREATED, event.getValue().getKind());
+    }
+
+    @Test
+    void submitRecord_ShouldNotSaveRecord_WhenDocumentCannotBeCommitted() throws IOException {
+        DocumentStorageService.StagedDocument staged = mock(DocumentStorageService.StagedDocument.class);
+        when(documentStorageService.commit(staged)).thenThrow(new IllegalStateException("discarded"));
+
+        assertThrows(IllegalStateException.class, () -> mainService.submitRecord(testRecord, staged));
+        verify(mainRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+@Test
+    void getDocument_ShouldReturnStoredDocument_WhenFileExists() throws IOException {
+        DocumentStorageService.StoredDocument document = new DocumentStorageService.StoredDocument(
+                Paths.get("test.pdf"), "test.pdf", 12L, 0L, "\"abc\"", true, MediaType.APPLICATION_PDF);
+        testRecord.setDocumentPath("test.pdf");
         when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
-        
-        // Test the download
-        Resource result = mainService.downloadFile(1L);
-        
-        // Verify
-        assertNotNull(result);
-        assertTrue(result.exists());
-        assertEquals(testFile.toAbsolutePath().toString(), result.getFile().getAbsolutePath());
-    } finally {
-        // Clean up
-        Files.deleteIfExists(testFile);
+        when(documentStorageService.open("test.pdf")).thenReturn(document);
+
+        assertSame(document, mainService.getDocument(1L));
     }
-}
 
     @Test
-void downloadFile_ShouldReturnNull_WhenRecordNotExists() {
-    assertDoesNotThrow(() -> {
+    void getDocument_ShouldThrowNotFound_WhenRecordNotExists() {
         when(mainRepository.findById(1L)).thenReturn(Optional.empty());
-        
-        Resource result = mainService.downloadFile(1L);
-        
-        assertNull(result);
-        verify(mainRepository).findById(1L);
-    });
-}
+
+        assertThrows(ResourceNotFoundException.class, () -> mainService.getDocument(1L));
+        verifyNoInteractions(documentStorageService);
+    }
+
+    @Test
+    void getDocument_ShouldThrowNotFound_WhenFileIsMissing() throws IOException {
+        testRecord.setDocumentPath("missing.pdf");
+        when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
+        when(documentStorageService.open("missing.pdf")).thenReturn(null);
+
+        assertThrows(ResourceNotFoundException.class, () -> mainService.getDocument(1L));
+    }
 
     @Test
     void getAllByVerificationStatus_ShouldReturnRecords() {
         List<Main> expected = Arrays.asList(testRecord);
-        when(mainRepository.findByVerificationStatus("Pending")).thenReturn(expected);
+        when(mainRepository.findByVerificationStatus(VerificationStatus.PENDING)).thenReturn(expected);
         
-        List<Main> result = mainService.getAllByVerificationStatus("Pending");
+        List<Main> result = mainService.getAllByVerificationStatus(VerificationStatus.PENDING);
         
         assertEquals(expected, result);
-        verify(mainRepository).findByVerificationStatus("Pending");
+        verify(mainRepository).findByVerificationStatus(VerificationStatus.PENDING);
     }
 
     @Test
     void getAllByStudentIdAndVerificationStatus_ShouldReturnRecords() {
         List<Main> expected = Arrays.asList(testRecord);
-        when(mainRepository.findAllByStudentIdAndVerificationStatus(1L, "Pending")).thenReturn(expected);
+        when(mainRepository.findAllByStudentIdAndVerificationStatus(1L, VerificationStatus.PENDING)).thenReturn(expected);
         
-        List<Main> result = mainService.getAllByStudentIdAndVerificationStatus(1L, "Pending");
+        List<Main> result = mainService.getAllByStudentIdAndVerificationStatus(1L, VerificationStatus.PENDING);
         
         assertEquals(expected, result);
-        verify(mainRepository).findAllByStudentIdAndVerificationStatus(1L, "Pending");
+        verify(mainRepository).findAllByStudentIdAndVerificationStatus(1L, VerificationStatus.PENDING);
     }
 
     @Test
@@ -359,19 +478,14 @@ void downloadFile_ShouldReturnNull_WhenRecordNotExists() {
     }
 
     @Test
-    void deleteRecord_ShouldDeleteRecordAndFile_WhenExists() throws IOException {
-        // Create a temporary file for testing
-        Path tempDir = Paths.get(System.getProperty("user.dir") + "/RecordDocuments/");
-        Files.createDirectories(tempDir);
-        Path tempFile = Files.createTempFile(tempDir, "test", ".pdf");
-        String fileName = tempFile.getFileName().toString();
-        
-        testRecord.setDocumentPath(fileName);
+    void deleteRecord_ShouldDeleteRecordAndReleaseDocument_WhenExists() throws IOException {
+        String documentPath = "sha256/ab/cd/" + "ab".repeat(32) + ".pdf";
+        testRecord.setDocumentPath(documentPath);
         when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
         
         mainService.deleteRecord(1L);
         
-        assertFalse(Files.exists(tempFile));
+        verify(documentStorageService).release(documentPath);
         verify(mainRepository).deleteById(1L);
     }
 
@@ -382,6 +496,7 @@ void downloadFile_ShouldReturnNull_WhenRecordNotExists() {
         mainService.deleteRecord(1L);
         
         verify(mainRepository).deleteById(1L);
+        verifyNoInteractions(documentStorageService);
     }
 
     @Test
@@ -394,6 +509,28 @@ void downloadFile_ShouldReturnNull_WhenRecordNotExists() {
         verify(mainRepository).save(testRecord);
     }
 
+    @Test
+    void updateFlag_ShouldPublishFlaggedEvent_WhenFlagChanges() {
+        when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
+
+        mainService.updateFlag(1L, true);
+
+        ArgumentCaptor<RecordEvent> captor = ArgumentCaptor.forClass(RecordEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(RecordEvent.Kind.FLAGGED, captor.getValue().getKind());
+        assertFalse(captor.getValue().getBefore().isFlagged());
+        assertTrue(captor.getValue().getAfter().isFlagged());
+    }
+
+    @Test
+    void updateFlag_ShouldNotPublish_WhenFlagUnchanged() {
+        when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
+
+        mainService.updateFlag(1L, false);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
     @Test
     void flagRecord_ShouldSetFlagToTrue() {
         when(mainRepository.findById(1L)).thenReturn(Optional.of(testRecord));
@@ -403,4 +540,144 @@ void downloadFile_ShouldReturnNull_WhenRecordNotExists() {
         assertTrue(testRecord.getFlag());
         verify(mainRepository).save(testRecord);
     }
-}
\ No newline at end of file
+
+    @Test
+    void listRecords_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        RecordFilter filter = new RecordFilter();
+        List<Main> rows = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            Main record = new Main();
+            record.setId(id);
+            record.setSubmissionDate(LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(id));
+            rows.add(record);
+        }
+        when(mainRepository.findPage(filter, null, 3)).thenReturn(rows);
+
+        CursorPage<Main> page = mainService.listRecords(filter, null, 2);
+
+        assertEquals(2, page.getSize());
+        assertTrue(page.isHasMore());
+        RecordCursor next = RecordCursor.decode(page.getNextCursor());
+        assertEquals(2L, next.getId());
+        assertEquals(rows.get(1).getSubmissionDate(), next.getSubmissionDate());
+    }
+
+    @Test
+    void listRecords_ShouldReturnLastPage_WhenNoMoreRows() {
+        RecordFilter filter = new RecordFilter();
+        when(mainRepository.findPage(filter, null, MainService.DEFAULT_PAGE_SIZE + 1))
+            .thenReturn(Arrays.asList(testRecord));
+
+        CursorPage<Main> page = mainService.listRecords(filter, null, null);
+
+        assertEquals(1, page.getSize());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void listRecords_ShouldCapPageSize() {
+        RecordFilter filter = new RecordFilter();
+        when(mainRepository.findPage(filter, null, MainService.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+        mainService.listRecords(filter, null, 10_000);
+
+        verify(mainRepository).findPage(filter, null, MainService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void listRecords_ShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class,
+            () -> mainService.listRecords(new RecordFilter(), "not-a-cursor", 10));
+    }
+
+    @Test
+    void listRecordSummaries_ShouldUseProjectionQuery() {
+        RecordFilter filter = new RecordFilter();
+        filter.setFacultyId(1L);
+        RecordSummaryDTO summary = new RecordSummaryDTO(1L, "Hackathon", TechnicalEvent.class, VerificationStatus.PENDING,
+            LocalDateTime.of(2024, 1, 1, 10, 0), false, 2L, "Asha", "CS001", 1L, "Dr. Rao");
+        when(mainRepository.findSummaryPage(filter, null, MainService.DEFAULT_PAGE_SIZE + 1))
+            .thenReturn(List.of(summary));
+
+        CursorPage<RecordSummaryDTO> page = mainService.listRecordSummaries(filter, null, null);
+
+        assertEquals(1, page.getSize());
+        assertEquals("TechnicalEvent", page.getItems().get(0).getType());
+        assertFalse(page.isHasMore());
+        verify(mainRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void bulkUpdateVerificationStatus_ShouldReportOutcomePerRecord() {
+        when(mainRepository.findVerificationStateByIdsAndFacultyId(List.of(1L, 2L, 3L), 1L))
+                .thenReturn(rows(new Object[]{1L, VerificationStatus.PENDING, TechnicalEvent.class, 1L, false}, new Object[]{2L, VerificationStatus.APPROVED, TechnicalEvent.class, 1L, false}));
+        when(mainRepository.updateVerificationStatusIfCurrent(Map.of(1L, "ok"), 1L, VerificationStatus.PENDING, VerificationStatus.APPROVED))
+                .thenReturn(1);
+
+        BulkVerificationResult result = mainService.bulkUpdateVerificationStatus(1L,
+                new BulkVerificationRequest("Approved", List.of(1L, 2L, 3L), "ok", null));
+
+        assertEquals(Outcome.UPDATED, result.getOutcomes().get(1L));
+        assertEquals(Outcome.NOT_PENDING, result.getOutcomes().get(2L));
+        assertEquals(Outcome.NOT_FOUND, result.getOutcomes().get(3L));
+        assertEquals(1, result.getUpdated());
+        verify(eventPublisher, times(1)).publishEvent(any(RecordEvent.class));
+    }
+
+    @Test
+    void bulkUpdateVerificationStatus_ShouldUpdateBatchInOneStatement_WithPerRecordComments() {
+        when(mainRepository.findVerificationStateByIdsAndFacultyId(List.of(1L, 2L, 3L), 1L))
+                .thenReturn(rows(new Object[]{1L, VerificationStatus.PENDING, TechnicalEvent.class, 1L, false}, new Object[]{2L, VerificationStatus.PENDING, TechnicalEvent.class, 1L, false}, new Object[]{3L, VerificationStatus.PENDING, TechnicalEvent.class, 1L, false}));
+        when(mainRepository.updateVerificationStatusIfCurrent(Map.of(1L, "Missing proof", 2L, "Wrong date", 3L, "Missing proof"),
+                1L, VerificationStatus.PENDING, VerificationStatus.REJECTED))
+                .thenReturn(3);
+
+        BulkVerificationResult result = mainService.bulkUpdateVerificationStatus(1L,
+                new BulkVerificationRequest("Rejected", List.of(1L, 2L, 3L), "Missing proof", Map.of(2L, "Wrong date")));
+
+        assertEquals(3, result.getUpdated());
+        verify(mainRepository, times(1)).updateVerificationStatusIfCurrent(anyMap(), eq(1L), eq(VerificationStatus.PENDING), eq(VerificationStatus.REJECTED));
+        verify(mainRepository, never()).updateVerificationStatusIfCurrent(anyList(), any(), any(), any(), any());
+    }
+
+    @Test
+    void bulkUpdateVerificationStatus_ShouldRequireCommentWhenRejecting() {
+        when(mainRepository.findVerificationStateByIdsAndFacultyId(List.of(1L), 1L))
+                .thenReturn(rows(new Object[]{1L, VerificationStatus.PENDING, TechnicalEvent.class, 1L, false}));
+
+        BulkVerificationResult result = mainService.bulkUpdateVerificationStatus(1L,
+                new BulkVerificationRequest("Rejected", List.of(1L), null, null));
+
+        assertEquals(Outcome.COMMENT_REQUIRED, result.getOutcomes().get(1L));
+        verify(mainRepository, never()).updateVerificationStatusIfCurrent(anyMap(), any(), any(), any());
+    }
+
+    @Test
+    void bulkUpdateVerificationStatus_ShouldReportConflict_WhenRowChangedConcurrently() {
+        when(mainRepository.findVerificationStateByIdsAndFacultyId(List.of(1L, 2L), 1L))
+                .thenReturn(rows(new Object[]{1L, VerificationStatus.PENDING, TechnicalEvent.class, 1L, false}, new Object[]{2L, VerificationStatus.PENDING, TechnicalEvent.class, 1L, false}))
+                .thenReturn(rows(new Object[]{1L, VerificationStatus.APPROVED, TechnicalEvent.class, 1L, false}, new Object[]{2L, VerificationStatus.REJECTED, TechnicalEvent.class, 1L, false}));
+        Map<Long, String> noComments = new HashMap<>();
+        noComments.put(1L, null);
+        noComments.put(2L, null);
+        when(mainRepository.updateVerificationStatusIfCurrent(noComments, 1L, VerificationStatus.PENDING, VerificationStatus.APPROVED))
+                .thenReturn(1);
+
+        BulkVerificationResult result = mainService.bulkUpdateVerificationStatus(1L,
+                new BulkVerificationRequest("Approved", List.of(1L, 2L), null, null));
+
+        assertEquals(Outcome.UPDATED, result.getOutcomes().get(1L));
+        assertEquals(Outcome.CONFLICT, result.getOutcomes().get(2L));
+    }
+
+    @Test
+    void bulkUpdateVerificationStatus_ShouldRejectUnknownStatus() {
+        assertThrows(IllegalArgumentException.class, () -> mainService.bulkUpdateVerificationStatus(1L,
+                new BulkVerificationRequest("Pending", List.of(1L), null, null)));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+}
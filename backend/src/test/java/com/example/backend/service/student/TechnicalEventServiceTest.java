@@ -3,6 +3,7 @@ package com.example.backend.service.student;
 import com.example.backend.model.Student;
 import com.example.backend.model.student.TechnicalEvent;
 import com.example.backend.repository.student.TechnicalEventRepository;
+import com.example.backend.model.student.VerificationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,12 +38,12 @@ class TechnicalEventServiceTest {
         event1 = new TechnicalEvent();
         event1.setId(1L);
         event1.setStudent(student);
-        event1.setVerificationStatus("Pending");
+        event1.setVerificationStatus(VerificationStatus.PENDING);
 
         event2 = new TechnicalEvent();
         event2.setId(2L);
         event2.setStudent(student);
-        event2.setVerificationStatus("Approved");
+        event2.setVerificationStatus(VerificationStatus.APPROVED);
     }
 
     @Test